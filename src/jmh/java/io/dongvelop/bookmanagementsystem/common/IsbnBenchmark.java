@@ -0,0 +1,101 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 07
+ * @description ISBN 검증 벤치마크. <br/>
+ * 기존 정규식 기반 검증(legacy)과 현재 검증(Utils.validateISBN10), 단일 순회 압축(pack10), 값 객체 변환(parseIsbn10)을 비교한다.
+ * 할당량은 `-prof gc` 옵션으로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsbnBenchmark {
+
+    @Param({"123-456789-0", "100-568901-1"})
+    private String isbn;
+
+    @Benchmark
+    public boolean legacyValidate() {
+        try {
+            legacyValidateISBN10(isbn);
+            return true;
+        } catch (APIException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean validateISBN10() {
+        try {
+            Utils.validateISBN10(isbn);
+            return true;
+        } catch (APIException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public long pack10() {
+        return Isbn.pack10(isbn);
+    }
+
+    @Benchmark
+    public Isbn parseIsbn10() {
+        return Isbn.tryParse(isbn);
+    }
+
+    @Benchmark
+    public String parseAndFormat() {
+        final Isbn parsed = Isbn.tryParse(isbn);
+        return parsed == null ? null : parsed.toString();
+    }
+
+    /**
+     * 변경 전 Utils.validateISBN10 구현. 비교 기준으로만 사용한다.
+     */
+    private static void legacyValidateISBN10(final String isbn) throws APIException {
+        if (!StringUtils.hasText(isbn)) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 공백이거나 빈 값일 수 없습니다.");
+        }
+
+        if (isbn.chars().filter(ch -> ch == '-').count() != 2) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 하이픈(-)을 포함해야 합니다.");
+        }
+
+        final String cleanISBN = isbn.replaceAll("-", "");
+
+        if (!cleanISBN.matches("\\d{10}")) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 10자리 숫자여야 합니다.");
+        }
+
+        final int prefix = Integer.parseInt(cleanISBN.substring(0, 3));
+        if (prefix < 100 || prefix > 900) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10의 앞 세 자리는 100~900 사이여야 합니다.");
+        }
+
+        if (cleanISBN.charAt(9) != '0') {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10의 마지막 자리는 0이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.dongvelop.bookmanagementsystem.endpoint;
+
+import io.dongvelop.bookmanagementsystem.BookManagementSystemApplication;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
+import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import io.dongvelop.bookmanagementsystem.service.BookBatchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description 플랫폼 스레드 / 가상 스레드 실행 모드의 도서 조회 API 처리량 및 지연 시간(p99) 비교 벤치마크. <br/>
+ * 내장 Tomcat 을 임의 포트로 기동하고, Tomcat 기본 스레드 수(200)보다 많은 클라이언트 스레드로 HTTP 요청을 보낸다.
+ * p99 는 SampleTime 결과의 백분위수에서 확인한다. 가상 스레드는 Java 21 이상에서만 적용되므로 `-PjavaVersion=21` 로 실행해야 두 모드가 구분된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int AUTHOR_COUNT = 100;
+    private static final int BOOKS_PER_AUTHOR = 100;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    private long[] bookIds;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws APIException {
+        context = new SpringApplicationBuilder(BookManagementSystemApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles("virtual".equals(mode) ? new String[]{"virtual"} : new String[0])
+                .properties(
+                        "server.port=0",
+                        "ROOT_LOG_LEVEL=ERROR",
+                        "SQL_LOG_LEVEL=ERROR",
+                        "JDBC_BIND_LOG_LEVEL=ERROR",
+                        "logging.file.name=",
+                        "logging.request.sample-rate=0",
+                        // 캐시 적중만 측정되지 않도록 상세 조회 캐시를 사용하지 않는다.
+                        "cache.book-detail.maximum-size=0",
+                        // 처리량/지연 시간 비교가 목적이므로, permit 대기 초과로 503 이 발생하지 않도록 대기 시간을 늘린다.
+                        "db.concurrency.acquire-timeout=30s"
+                )
+                .run();
+
+        final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        final AuthorService authorService = context.getBean(AuthorService.class);
+        final BookBatchService bookBatchService = context.getBean(BookBatchService.class);
+        final List<Long> createdBookIds = new ArrayList<>();
+
+        for (int a = 0; a < AUTHOR_COUNT; a++) {
+            final Author author = authorService.createAuthor(new CreateAuthorRequest("author" + a, "author" + a + "@example.com"));
+
+            final List<CreateBookRequest> requests = new ArrayList<>(BOOKS_PER_AUTHOR);
+            for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+                final int n = a * BOOKS_PER_AUTHOR + b;
+                requests.add(new CreateBookRequest("book title " + n, "description " + n,
+                        String.format("%03d-%06d-0", 100 + n / 1_000_000, n % 1_000_000), LocalDate.of(2020, 1, 1), author.getId()));
+            }
+
+            bookBatchService.createBooks(requests).results().stream()
+                    .map(CreateBookBatchResponse.Result::id)
+                    .forEach(createdBookIds::add);
+        }
+
+        bookIds = createdBookIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextBookId() {
+        return bookIds[Math.floorMod(sequence.getAndIncrement(), bookIds.length)];
+    }
+
+    private int get(final String path) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        final HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status[" + response.statusCode() + "] path[" + path + "]");
+        }
+
+        return response.statusCode();
+    }
+
+    @Benchmark
+    public int getBookDetails() throws IOException, InterruptedException {
+        return get("/books/" + nextBookId());
+    }
+
+    @Benchmark
+    public int getBookList() throws IOException, InterruptedException {
+        return get("/books?page=0&size=10&sort=id,desc");
+    }
+
+    @Benchmark
+    public int searchBookList() throws IOException, InterruptedException {
+        return get("/books?page=0&size=10&title=title%2042");
+    }
+
+    @Benchmark
+    public int getBookScroll() throws IOException, InterruptedException {
+        return get("/books/scroll?size=10");
+    }
+}
@@ -0,0 +1,75 @@
+package io.dongvelop.bookmanagementsystem.exception;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 08
+ * @description 에러 응답 생성 벤치마크. <br/>
+ * 예외 생성(스택 트레이스 포함)부터 다국어 메시지 조회, 에러 지표 집계, 응답 객체 생성까지의 에러 경로 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private APIException prebuilt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("i18n/error");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", new SimpleMeterRegistry()));
+        handler = new GlobalExceptionHandler(messageSource, beanFactory.getBeanProvider(MeterRegistry.class));
+
+        final Field locale = ReflectionUtils.findField(GlobalExceptionHandler.class, "locale");
+        ReflectionUtils.makeAccessible(locale);
+        ReflectionUtils.setField(locale, handler, Locale.KOREA);
+
+        prebuilt = new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "bookId[1] not found");
+    }
+
+    /**
+     * 예외 생성을 포함한 전체 에러 경로
+     */
+    @Benchmark
+    public ResponseEntity<?> notFound() {
+        return handler.apiException(new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "bookId[1] not found"));
+    }
+
+    /**
+     * 예외 생성을 제외한 응답 생성 경로
+     */
+    @Benchmark
+    public ResponseEntity<?> notFoundPrebuilt() {
+        return handler.apiException(prebuilt);
+    }
+}
@@ -0,0 +1,109 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 17
+ * @description 응답 형식(JSON / CBOR / Smile)별 도서 상세 응답 직렬화/역직렬화 벤치마크. <br/>
+ * 애플리케이션의 변환기와 같은 설정(날짜를 문자열로 직렬화)으로 측정하며, 형식별 크기(byte)는 Trial 시작 시 로그로 한 번 남긴다.
+ * 단건(BookDetailResponse)과 서비스 간 다건 조회 형태(MultiGetResponse, 100건)를 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadFormatBenchmark.class);
+    private static final int MULTI_GET_SIZE = 100;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private JavaType multiGetType;
+
+    private BookDetailResponse detail;
+    private MultiGetResponse<BookDetailResponse> details;
+
+    private byte[] encodedDetail;
+    private byte[] encodedDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        multiGetType = objectMapper.getTypeFactory().constructParametricType(MultiGetResponse.class, BookDetailResponse.class);
+
+        detail = detail(1L);
+        final List<BookDetailResponse> content = new ArrayList<>(MULTI_GET_SIZE);
+        for (int i = 0; i < MULTI_GET_SIZE; i++) {
+            content.add(detail(i + 1L));
+        }
+        details = new MultiGetResponse<>(content, List.of());
+
+        encodedDetail = objectMapper.writeValueAsBytes(detail);
+        encodedDetails = objectMapper.writeValueAsBytes(details);
+        log.info("format[{}], detail[{} bytes], multi-get({})[{} bytes]",
+                format, encodedDetail.length, MULTI_GET_SIZE, encodedDetails.length);
+    }
+
+    private static BookDetailResponse detail(final long id) {
+        return new BookDetailResponse(id, "book title " + id, "description of the book " + id,
+                String.format("%03d-%06d-0", 100 + id / 1_000_000, id % 1_000_000), LocalDate.of(2025, 1, 1).plusDays(id), id % 10);
+    }
+
+    @Benchmark
+    public byte[] encodeDetail() throws IOException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public BookDetailResponse decodeDetail() throws IOException {
+        return objectMapper.readValue(encodedDetail, BookDetailResponse.class);
+    }
+
+    @Benchmark
+    public byte[] encodeMultiGet() throws IOException {
+        return objectMapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public MultiGetResponse<BookDetailResponse> decodeMultiGet() throws IOException {
+        return objectMapper.readValue(encodedDetails, multiGetType);
+    }
+}
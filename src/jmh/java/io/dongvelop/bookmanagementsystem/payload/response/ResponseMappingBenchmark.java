@@ -0,0 +1,72 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 08
+ * @description 엔티티 → 응답 객체 변환 벤치마크. 저자의 도서 수에 따른 변환 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int bookCount;
+
+    private Author author;
+    private Book book;
+
+    @Setup(Level.Trial)
+    public void setUp() throws APIException {
+        author = new Author("name", "email@example.com");
+
+        for (int i = 0; i < bookCount; i++) {
+            new Book("title" + i, "description" + i, String.format("%03d-%06d-0", 100 + i / 1_000_000, i % 1_000_000), LocalDate.now(), author);
+        }
+
+        book = author.getBooks().get(0);
+    }
+
+    @Benchmark
+    public BookListResponse bookListResponse() {
+        return BookListResponse.of(book);
+    }
+
+    @Benchmark
+    public List<BookListResponse> bookListResponses() {
+        return author.getBooks().stream().map(BookListResponse::of).toList();
+    }
+
+    @Benchmark
+    public AuthorListResponse authorListResponse() {
+        return AuthorListResponse.from(author);
+    }
+
+    @Benchmark
+    public AuthorDetailResponse authorDetailResponse() {
+        return AuthorDetailResponse.of(author);
+    }
+}
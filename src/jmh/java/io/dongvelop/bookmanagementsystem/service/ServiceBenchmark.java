@@ -0,0 +1,154 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.BookManagementSystemApplication;
+import io.dongvelop.bookmanagementsystem.common.BookCursor;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 08
+ * @description 인메모리 H2 를 사용하는 서비스 계층 벤치마크. <br/>
+ * 웹 서버 없이 애플리케이션 컨텍스트를 띄우고 저자 100명, 도서 10,000건을 등록한 뒤, 트랜잭션/JPA 를 포함한 서비스 호출 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int AUTHOR_COUNT = 100;
+    private static final int BOOKS_PER_AUTHOR = 100;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private AuthorService authorService;
+
+    private long[] bookIds;
+    private long[] authorIds;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws APIException {
+        context = new SpringApplicationBuilder(BookManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "ROOT_LOG_LEVEL=ERROR",
+                        "SQL_LOG_LEVEL=ERROR",
+                        "JDBC_BIND_LOG_LEVEL=ERROR",
+                        "logging.file.name=",
+                        "spring.jpa.properties.hibernate.show_sql=false"
+                )
+                .run();
+
+        bookService = context.getBean(BookService.class);
+        authorService = context.getBean(AuthorService.class);
+        final BookBatchService bookBatchService = context.getBean(BookBatchService.class);
+
+        authorIds = new long[AUTHOR_COUNT];
+        final List<Long> createdBookIds = new ArrayList<>();
+
+        for (int a = 0; a < AUTHOR_COUNT; a++) {
+            final Author author = authorService.createAuthor(new CreateAuthorRequest("author" + a, "author" + a + "@example.com"));
+            authorIds[a] = author.getId();
+
+            final List<CreateBookRequest> requests = new ArrayList<>(BOOKS_PER_AUTHOR);
+            for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+                final int n = a * BOOKS_PER_AUTHOR + b;
+                requests.add(new CreateBookRequest("book title " + n, "description " + n,
+                        String.format("%03d-%06d-0", 100 + n / 1_000_000, n % 1_000_000), LocalDate.of(2020, 1, 1), author.getId()));
+            }
+
+            bookBatchService.createBooks(requests).results().stream()
+                    .map(CreateBookBatchResponse.Result::id)
+                    .forEach(createdBookIds::add);
+        }
+
+        bookIds = createdBookIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextBookId() {
+        return bookIds[Math.floorMod(sequence.getAndIncrement(), bookIds.length)];
+    }
+
+    private long nextAuthorId() {
+        return authorIds[Math.floorMod(sequence.getAndIncrement(), authorIds.length)];
+    }
+
+    @Benchmark
+    public Book getBookDetails() throws APIException {
+        return bookService.getBookDetails(nextBookId());
+    }
+
+    @Benchmark
+    public Versioned<BookDetailResponse> getCachedBookDetails() throws APIException {
+        return bookService.getCachedBookDetails(nextBookId());
+    }
+
+    @Benchmark
+    public Page<BookListResponse> getBookList() {
+        return bookService.getBookList(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), "");
+    }
+
+    @Benchmark
+    public Page<BookListResponse> searchBookList() {
+        return bookService.getBookList(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), "title 42");
+    }
+
+    @Benchmark
+    public Slice<Book> getBookScroll() throws APIException {
+        return bookService.getBookScroll(null, 10, BookCursor.Sort.ID);
+    }
+
+    @Benchmark
+    public Author getAuthorDetail() throws APIException {
+        return authorService.getAuthorDetail(nextAuthorId());
+    }
+
+    @Benchmark
+    public Versioned<AuthorDetailResponse> getCachedAuthorDetail() throws APIException {
+        return authorService.getCachedAuthorDetail(nextAuthorId());
+    }
+}
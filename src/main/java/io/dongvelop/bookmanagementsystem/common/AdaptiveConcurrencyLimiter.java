@@ -0,0 +1,253 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 응답 시간과 DB 커넥션 대기를 보고 동시 처리 한도를 조절하는 엔드포인트 계층의 과부하 차단 `Aspect`. <br/>
+ * 처리 중인 요청 수가 한도를 넘으면 컨트롤러를 실행하지 않고 바로 503(106) 과 Retry-After 로 응답하여,
+ * 넘치는 요청이 커넥션 풀 앞에서 대기하며 다른 요청의 응답 시간(p99)까지 늘리지 않도록 한다.
+ * 한도는 Gradient 방식으로, 응답 시간 하나 정도의 구간마다 한 번 조절한다.
+ * 요청 종료 시에는 잠금 없이 구간의 응답 시간 합계/표본 수/최대 처리 중 요청 수/포화 여부만 누적하고, 구간이 끝난 뒤 처음 종료된 요청이 한도를 다시 계산한다.
+ * <ul>
+ *     <li>최근 응답 시간이 장기 평균보다 길어지면 그 비율만큼 한도를 줄이고, 같은 수준이면 조금씩 늘린다.</li>
+ *     <li>구간 중 DB 요청이 많아 거절(105)되었거나 DB permit 을 기다리는 서비스 호출이 있었으면, 커넥션 풀이 포화된 것으로 보고 한도를 일정 비율로 한 번 줄인다.</li>
+ *     <li>처리 중인 요청이 한도의 절반에 못 미치면 응답 시간이 한도에 의한 것이 아니므로 한도를 바꾸지 않는다.</li>
+ * </ul>
+ * {@link TimingAspect}보다 안쪽에서 실행되므로 거절된 요청도 응답 시간 지표에 기록된다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    /**
+     * 장기 평균 응답 시간(지수 이동 평균)에 반영할 구간 수
+     */
+    private static final int LONG_WINDOW = 600;
+
+    /**
+     * 한도를 다시 계산하는 구간 길이의 범위. 구간 길이는 직전 구간의 평균 응답 시간이다.
+     */
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 장기 평균 대비 허용하는 응답 시간 증가 비율. 이 비율 이내의 증가는 한도를 줄이지 않는다.
+     */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    /**
+     * 새 한도를 반영하는 비율
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * 커넥션 풀이 포화된 구간마다 한도에 곱하는 비율
+     */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration retryAfter;
+    private final DbConcurrencyLimiter dbConcurrencyLimiter;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 현재 구간의 표본. 요청 종료 시 잠금 없이 누적하고, 구간이 끝나면 한도 계산에 사용한 뒤 초기화한다.
+     */
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowDrops = new LongAdder();
+    private final LongAccumulator windowMaxInflight = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 구간 종료 시 한도 계산을 한 스레드만 수행하도록 한다. 계산 중이면 다른 스레드는 기다리지 않고 지나간다.
+     */
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile long windowStart = System.nanoTime();
+    private volatile long windowNanos = MIN_WINDOW_NANOS;
+
+    /**
+     * 조절 중인 한도(실수)와 요청 수락에 사용하는 정수 한도. 조절 중인 값은 updateLock 을 잡은 스레드만 변경한다.
+     */
+    private double estimatedLimit;
+    private volatile int limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${api.concurrency.initial-limit:20}") final int initialLimit,
+            @Value("${api.concurrency.min-limit:${spring.datasource.hikari.maximum-pool-size:10}}") final int minLimit,
+            @Value("${api.concurrency.max-limit:200}") final int maxLimit,
+            @Value("${api.concurrency.retry-after:1s}") final Duration retryAfter,
+            final DbConcurrencyLimiter dbConcurrencyLimiter
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limit range[" + minLimit + ", " + maxLimit + "] is invalid");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit[" + initialLimit + "] is out of range");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.retryAfter = retryAfter;
+        this.dbConcurrencyLimiter = dbConcurrencyLimiter;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * `endpoint` 패키지 내에 `@RestController` 애너테이션이 붙은 클래스의 메서드에 적용.
+     */
+    @Around("execution(* io.dongvelop.bookmanagementsystem.endpoint.*.*(..)) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object limit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final int current = inflight.incrementAndGet();
+        if (current > limit) {
+            inflight.decrementAndGet();
+            rejected.increment();
+            log.debug("request rejected. method[{}], inflight[{}], limit[{}]", joinPoint.getSignature().toShortString(), current - 1, limit);
+            throw new ServiceUnavailableException(ErrorType.OVERLOADED, "concurrency limit[" + limit + "] exceeded", retryAfter);
+        }
+
+        final long start = System.nanoTime();
+        boolean dropped = false;
+
+        try {
+            return joinPoint.proceed();
+        } catch (ServiceUnavailableException e) {
+            dropped = e.getErrorType() == ErrorType.DB_BUSY;
+            throw e;
+        } finally {
+            final long end = System.nanoTime();
+            onSample(end, end - start, current, dropped || dbConcurrencyLimiter.waitingCount() > 0);
+            inflight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 처리를 마친 요청 하나의 결과를 현재 구간에 누적하고, 구간이 끝났으면 한도를 조절한다.
+     *
+     * @param now      요청 종료 시각 ({@link System#nanoTime()})
+     * @param rttNanos 응답 시간
+     * @param inflight 요청 시작 시점의 처리 중인 요청 수 (자신 포함)
+     * @param dropped  커넥션 풀 포화 여부
+     */
+    void onSample(final long now, final long rttNanos, final int inflight, final boolean dropped) {
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        windowMaxInflight.accumulate(inflight);
+        if (dropped) {
+            windowDrops.increment();
+        }
+
+        if (now - windowStart < windowNanos || !updateLock.tryLock()) {
+            return;
+        }
+
+        try {
+            // 다른 스레드가 먼저 구간을 닫은 경우
+            if (now - windowStart < windowNanos) {
+                return;
+            }
+            windowStart = now;
+            closeWindow();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 끝난 구간의 표본으로 한도를 조절한다. 포화가 있었던 구간은 표본 수와 관계없이 한 번만 줄인다.
+     */
+    private void closeWindow() {
+        final long samples = windowSamples.sumThenReset();
+        final long rttSum = windowRttNanos.sumThenReset();
+        final long inflight = windowMaxInflight.getThenReset();
+        final boolean dropped = windowDrops.sumThenReset() > 0;
+        if (samples == 0) {
+            return;
+        }
+
+        final double rtt = Math.max(1, (double) rttSum / samples);
+        windowNanos = Math.max(MIN_WINDOW_NANOS, Math.min(MAX_WINDOW_NANOS, (long) rtt));
+
+        if (dropped) {
+            update(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+
+        if (longRttNanos == 0) {
+            longRttNanos = rtt;
+        } else {
+            longRttNanos += (rtt - longRttNanos) / LONG_WINDOW;
+        }
+
+        // 과부하에서 회복 중인 경우, 높아진 장기 평균이 빨리 내려오도록 한다.
+        if (longRttNanos / rtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        final double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rtt));
+        final double queueSize = Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - SMOOTHING) + (estimatedLimit * gradient + queueSize) * SMOOTHING);
+    }
+
+    private void update(final double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int currentLimit() {
+        return limit;
+    }
+
+    public int inflightCount() {
+        return inflight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("api.concurrency.limit", this, AdaptiveConcurrencyLimiter::currentLimit)
+                .description("the current adaptive limit of concurrent endpoint calls")
+                .register(registry);
+        Gauge.builder("api.concurrency.inflight", this, AdaptiveConcurrencyLimiter::inflightCount)
+                .description("the number of endpoint calls in progress")
+                .register(registry);
+        FunctionCounter.builder("api.concurrency.rejected", this, AdaptiveConcurrencyLimiter::rejectedCount)
+                .description("the number of endpoint calls rejected over the limit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 15
+ * @description 저자 도서 목록 조회에 사용하는 커서. <br/>
+ * 도서는 출판일 내림차순(출판일이 없는 도서는 마지막), 아이디 내림차순으로 정렬하며,
+ * 마지막으로 조회한 도서의 출판일과 아이디를 Base64(URL-safe) 문자열로 인코딩하여 클라이언트에게 불투명한 토큰으로 전달한다.
+ *
+ * @param publicationDate 마지막으로 조회한 도서의 출판일. 출판일이 없는 도서이면 null.
+ * @param id              마지막으로 조회한 도서 아이디
+ */
+public record AuthorBookCursor(
+        LocalDate publicationDate,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 토큰 문자열로 인코딩한다.
+     */
+    public String encode() {
+        final String raw = id + DELIMITER + (publicationDate == null ? Const.STRING_EMPTY : publicationDate.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열을 커서로 디코딩한다.
+     *
+     * @param token 인코딩된 커서 토큰
+     */
+    public static AuthorBookCursor decode(final String token) throws APIException {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\|", 2);
+
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("invalid cursor format");
+            }
+
+            return new AuthorBookCursor(parts[1].isEmpty() ? null : LocalDate.parse(parts[1]), Long.parseLong(parts[0]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "after[" + token + "] is invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 02
+ * @description 커서 기반 도서 목록 조회에 사용하는 커서. <br/>
+ * 마지막으로 조회한 도서의 정렬 키와 아이디를 담아 Base64(URL-safe) 문자열로 인코딩하며, 클라이언트에게는 불투명한 토큰으로 전달된다.
+ */
+public record BookCursor(
+        Sort sort,
+        Long id,
+        String key
+) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 조회 시 지원하는 정렬 기준. 모두 내림차순이며, 동일한 값은 아이디 내림차순으로 정렬한다.
+     */
+    public enum Sort {
+        ID,
+        TITLE;
+
+        public static Sort from(final String value) throws APIException {
+            if (!StringUtils.hasText(value)) {
+                return ID;
+            }
+
+            try {
+                return Sort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "sort[" + value + "] is not supported");
+            }
+        }
+    }
+
+    /**
+     * 커서를 토큰 문자열로 인코딩한다.
+     */
+    public String encode() {
+        final String raw = sort.name() + DELIMITER + id + DELIMITER + (key == null ? Const.STRING_EMPTY : key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열을 커서로 디코딩한다.
+     *
+     * @param token 인코딩된 커서 토큰
+     * @param sort  요청한 정렬 기준. 토큰의 정렬 기준과 다를 경우 예외가 발생한다.
+     */
+    public static BookCursor decode(final String token, final Sort sort) throws APIException {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final String[] parts = raw.split("\\|", 3);
+
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor format");
+            }
+
+            final BookCursor cursor = new BookCursor(Sort.valueOf(parts[0]), Long.parseLong(parts[1]), parts[2]);
+            if (cursor.sort() != sort) {
+                throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "cursor sort[" + cursor.sort() + "] does not match sort[" + sort + "]");
+            }
+
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "after[" + token + "] is invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 03
+ * @description 도서 제목/설명 검색을 위한 인메모리 역색인(Inverted Index). <br/>
+ * 텍스트를 소문자로 정규화한 뒤 단어별 2-gram 으로 분해하여 색인하고, BM25 점수로 검색 결과의 순위를 매긴다.
+ * 검색 비용은 테이블 크기가 아닌 검색어 n-gram 의 포스팅 수에 비례한다. <br/>
+ * n-gram 이 모두 포함되어도 단어가 포함되지 않을 수 있으므로(예: "ab bc" 와 "abc"), 후보 도서는 정규화된 원문으로 다시 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    /**
+     * BM25 파라미터
+     */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 제목 일치 시 설명 일치보다 높은 점수를 부여하기 위한 가중치
+     */
+    private static final double TITLE_WEIGHT = 2.0;
+
+    private final BookRepository bookRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Field titleField = new Field();
+    private final Field descriptionField = new Field();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 검색 결과
+     *
+     * @param ids   현재 페이지에 해당하는 도서 아이디 목록 (순위 순)
+     * @param total 검색어와 일치하는 전체 도서 수
+     */
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    /**
+     * 애플리케이션 기동 후 도서 테이블을 청크 단위로 읽어 색인을 구성한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long cursor = Long.MAX_VALUE;
+        long count = 0;
+
+        while (true) {
+            final List<Book> books = bookRepository.findByIdLessThanOrderByIdDesc(cursor, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (books.isEmpty()) {
+                break;
+            }
+
+            books.forEach(book -> apply(book.getId(), toDocument(book)));
+            cursor = books.get(books.size() - 1).getId();
+            count += books.size();
+        }
+
+        ready = true;
+        log.info("book search index built. documents[{}]", count);
+    }
+
+    /**
+     * 도서를 색인에 추가하거나 갱신한다. <br/>
+     * 트랜잭션 내에서 호출된 경우, 롤백 시 이전 상태로 되돌린다.
+     */
+    public void index(final Book book) {
+        final Document previous = apply(book.getId(), toDocument(book));
+        restoreOnRollback(book.getId(), previous);
+    }
+
+    /**
+     * 도서를 색인에서 제거한다. <br/>
+     * 트랜잭션 내에서 호출된 경우, 롤백 시 이전 상태로 되돌린다.
+     */
+    public void remove(final Long bookId) {
+        final Document previous = apply(bookId, null);
+        restoreOnRollback(bookId, previous);
+    }
+
+    /**
+     * 검색어와 일치하는 도서를 BM25 점수 순으로 조회한다. <br/>
+     * 제목 또는 설명이 검색어의 모든 단어를 포함하는 도서만 조회된다. <br/>
+     * 색인이 아직 준비되지 않았거나 검색어에 n-gram 보다 짧은 단어가 있는 경우 null 을 반환하며, 호출부는 DB 검색으로 대체해야 한다.
+     *
+     * @param query  검색어
+     * @param offset 조회 시작 위치
+     * @param limit  조회 크기
+     */
+    public SearchResult search(final String query, final long offset, final int limit) {
+        final List<String> words = words(query);
+        if (!ready || words.isEmpty() || words.stream().anyMatch(word -> word.length() < GRAM_SIZE)) {
+            return null;
+        }
+
+        final Map<String, Integer> grams = new HashMap<>();
+        words.forEach(word -> addWord(word, grams));
+        final List<String> terms = new ArrayList<>(grams.keySet());
+
+        lock.readLock().lock();
+        try {
+            final Map<Long, Double> scores = new HashMap<>();
+            titleField.score(terms, documents.size(), TITLE_WEIGHT, scores,
+                    bookId -> containsAll(documents.get(bookId).title(), words));
+            descriptionField.score(terms, documents.size(), 1.0, scores,
+                    bookId -> containsAll(documents.get(bookId).description(), words));
+
+            final List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));
+
+            final List<Long> ids = ranked.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            return new SearchResult(ids, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Document apply(final Long bookId, final Document document) {
+        lock.writeLock().lock();
+        try {
+            final Document previous = documents.remove(bookId);
+            if (previous != null) {
+                titleField.remove(bookId, previous.titleTerms());
+                descriptionField.remove(bookId, previous.descriptionTerms());
+            }
+
+            if (document != null) {
+                documents.put(bookId, document);
+                titleField.add(bookId, document.titleTerms());
+                descriptionField.add(bookId, document.descriptionTerms());
+            }
+
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void restoreOnRollback(final Long bookId, final Document previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    apply(bookId, previous);
+                }
+            }
+        });
+    }
+
+    private static Document toDocument(final Book book) {
+        final String title = normalize(book.getTitle());
+        final String description = normalize(book.getDescription());
+        return new Document(title, description, tokenize(title), tokenize(description));
+    }
+
+    private static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsAll(final String text, final List<String> words) {
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 텍스트를 소문자로 정규화하고 단어별로 분리한 뒤, 각 단어를 2-gram 으로 분해하여 빈도를 센다. <br/>
+     * n-gram 보다 짧은 단어는 단어 자체를 하나의 토큰으로 사용한다.
+     */
+    static Map<String, Integer> tokenize(final String text) {
+        final Map<String, Integer> terms = new HashMap<>();
+        words(text).forEach(word -> addWord(word, terms));
+        return terms;
+    }
+
+    /**
+     * 텍스트를 소문자로 정규화하고, 문자/숫자가 아닌 문자를 기준으로 단어를 분리한다.
+     */
+    static List<String> words(final String text) {
+        final List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        final String normalized = normalize(text);
+        int start = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            final boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return words;
+    }
+
+    private static void addWord(final String word, final Map<String, Integer> terms) {
+        if (word.length() < GRAM_SIZE) {
+            terms.merge(word, 1, Integer::sum);
+            return;
+        }
+
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            terms.merge(word.substring(i, i + GRAM_SIZE), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 색인된 도서의 정규화된 원문과 토큰 빈도 정보. 원문은 n-gram 후보를 확인하는 데 사용한다.
+     */
+    private record Document(String title, String description,
+                            Map<String, Integer> titleTerms, Map<String, Integer> descriptionTerms) {
+    }
+
+    /**
+     * 필드(제목/설명) 단위의 포스팅 리스트. 토큰 → (도서 아이디 → 토큰 빈도)
+     */
+    private static final class Field {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength = 0;
+
+        void add(final Long bookId, final Map<String, Integer> terms) {
+            int length = 0;
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(bookId, term.getValue());
+                length += term.getValue();
+            }
+
+            lengths.put(bookId, length);
+            totalLength += length;
+        }
+
+        void remove(final Long bookId, final Map<String, Integer> terms) {
+            for (String term : terms.keySet()) {
+                final Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(bookId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+
+            final Integer length = lengths.remove(bookId);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+
+        /**
+         * 모든 검색 토큰을 포함하는 도서만 후보로 삼아 BM25 점수를 누적한다. <br/>
+         * 가장 희소한 토큰의 포스팅부터 교집합을 구하므로, 비용은 일치 문서 수에 비례한다.
+         *
+         * @param verified 후보 도서가 실제로 검색어를 포함하는지 여부
+         */
+        void score(final List<String> terms, final int documentCount, final double weight, final Map<Long, Double> scores,
+                   final Predicate<Long> verified) {
+            final List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                final Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return;
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            final Set<Long> candidates = new LinkedHashSet<>(lists.get(0).keySet());
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i).keySet());
+            }
+
+            final double averageLength = lengths.isEmpty() ? 1.0 : Math.max(1.0, (double) totalLength / lengths.size());
+
+            for (Long bookId : candidates) {
+                if (!verified.test(bookId)) {
+                    continue;
+                }
+
+                final double length = lengths.getOrDefault(bookId, 0);
+                double score = 0;
+
+                for (Map<Long, Integer> posting : lists) {
+                    final int tf = posting.get(bookId);
+                    final int df = posting.size();
+                    final double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                    score += idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+                }
+
+                scores.merge(bookId, weight * score, Double::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 도서 / 저자 변경 이벤트. <br/>
+ * 변경 내용 대신 변경된 대상과 종류만 담으므로, 구독자는 필요한 경우 최신 상태를 다시 조회한다.
+ *
+ * @param id          이벤트 아이디. 저장 시점에 미리 할당되므로 발생 순서와 다를 수 있다.
+ * @param seq         발행 순번. 같은 대상의 이벤트는 순번 순으로 커밋되었다.
+ * @param aggregate   변경된 대상의 종류
+ * @param aggregateId 변경된 대상의 아이디
+ * @param authorId    도서의 저자 아이디. 저자 이벤트는 aggregateId 와 같다.
+ * @param type        변경 종류
+ * @param occurredAt  변경 시각
+ */
+public record ChangeEvent(
+        long id,
+        long seq,
+        Aggregate aggregate,
+        long aggregateId,
+        long authorId,
+        Type type,
+        LocalDateTime occurredAt
+) {
+
+    public enum Aggregate {
+        BOOK,
+        AUTHOR
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,106 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 도서 / 저자 변경 이벤트를 애플리케이션 내부 구독자(캐시, 색인, 피드 등)에게 전달하는 이벤트 버스. <br/>
+ * {@link ChangeEventRelay}가 outbox 에서 읽은 이벤트를 배치 단위로 발행하며, 구독자에게는 발행 스레드에서 순서대로 전달한다.
+ * 구독자마다 처리를 마친 마지막 발행 순번(offset)을 기억하여, 이미 처리한 이벤트는 다시 전달하지 않는다.
+ * 구독자가 예외를 던지면 offset 을 옮기지 않고 다음 구독자에게 계속 전달하며, 그 구독자에게는 다음 발행에서 같은 이벤트부터 다시 전달한다.
+ * Relay 는 모든 구독자가 처리한 이벤트만 outbox 에서 삭제하므로, 계속 실패하는 구독자가 있으면 그 이후의 이벤트는 outbox 에 남는다. (outbox.relay.lag 지표)
+ * offset 은 메모리에만 있으므로, 재기동 후에는 outbox 에 남은 이벤트를 모든 구독자에게 다시 전달한다.
+ */
+@Slf4j
+@Component
+public class ChangeEventBus implements MeterBinder {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param subscribers 빈으로 등록된 구독자. @Order 순서대로 전달한다.
+     */
+    public ChangeEventBus(final ObjectProvider<ChangeEventSubscriber> subscribers) {
+        subscribers.orderedStream().forEach(this::subscribe);
+    }
+
+    /**
+     * 구독자를 등록한다. 새 구독자는 outbox 에 남아 있는 이벤트부터 전달받는다.
+     */
+    public void subscribe(final ChangeEventSubscriber subscriber) {
+        subscriptions.add(new Subscription(subscriber));
+    }
+
+    public void unsubscribe(final ChangeEventSubscriber subscriber) {
+        subscriptions.removeIf(subscription -> subscription.subscriber == subscriber);
+    }
+
+    /**
+     * 이벤트 목록 중 구독자마다 아직 처리하지 않은 이벤트를 전달한다.
+     *
+     * @param events 발행할 이벤트 목록 (발행 순번 순)
+     * @return 모든 구독자가 처리를 마친 마지막 발행 순번. 이 순번 이하의 이벤트는 outbox 에서 삭제해도 된다.
+     */
+    public long publish(final List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long acknowledged = events.get(events.size() - 1).seq();
+        for (Subscription subscription : subscriptions) {
+            final List<ChangeEvent> pending = events.stream()
+                    .filter(event -> event.seq() > subscription.acknowledgedSeq)
+                    .toList();
+
+            if (!pending.isEmpty()) {
+                try {
+                    subscription.subscriber.onEvents(pending);
+                    subscription.acknowledgedSeq = pending.get(pending.size() - 1).seq();
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("change event subscriber failed. subscriber[{}], seq[{} ~ {}]",
+                            subscription.subscriber, pending.get(0).seq(), pending.get(pending.size() - 1).seq(), e);
+                }
+            }
+
+            acknowledged = Math.min(acknowledged, subscription.acknowledgedSeq);
+        }
+
+        return acknowledged;
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("change.event.subscriber.failed", this, ChangeEventBus::failureCount)
+                .description("the number of change event batches a subscriber failed to handle")
+                .register(registry);
+    }
+
+    /**
+     * 구독자와 처리를 마친 마지막 발행 순번. 순번은 발행 스레드에서만 변경한다.
+     */
+    private static final class Subscription {
+
+        private final ChangeEventSubscriber subscriber;
+        private volatile long acknowledgedSeq;
+
+        private Subscription(final ChangeEventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+    }
+}
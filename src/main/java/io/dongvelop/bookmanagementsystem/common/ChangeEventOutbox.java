@@ -0,0 +1,59 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
+import io.dongvelop.bookmanagementsystem.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 도서 / 저자 변경 이벤트를 outbox 테이블에 기록하는 컴포넌트. <br/>
+ * 반드시 변경을 수행하는 서비스의 트랜잭션 안에서 호출해야 하며(트랜잭션이 없으면 예외),
+ * 변경이 롤백되면 이벤트도 함께 롤백된다. 커밋 후에는 {@link ChangeEventRelay}를 깨워 폴링 주기를 기다리지 않고 발행하도록 한다. <br/>
+ * 이벤트를 기록하기 전에 대상의 변경을 먼저 DB 에 반영(flush)하여 대상 행을 잠근다.
+ * 같은 대상을 변경하는 다른 트랜잭션은 이 트랜잭션이 커밋될 때까지 기다린 뒤 이벤트를 INSERT 하므로, 발행 순번(seq)이 커밋 순서를 따른다.
+ * 따라서 대상을 변경한 뒤에 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ChangeEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventRelay changeEventRelay;
+
+    public void append(final OutboxEvent event) {
+        outboxEventRepository.flush();
+        outboxEventRepository.save(event);
+        wakeUpRelayAfterCommit();
+    }
+
+    /**
+     * 여러 이벤트를 기록한다. 이벤트는 JDBC 배치 INSERT 로 저장된다.
+     */
+    public void appendAll(final List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        outboxEventRepository.flush();
+        outboxEventRepository.saveAll(events);
+        wakeUpRelayAfterCommit();
+    }
+
+    private void wakeUpRelayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changeEventRelay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
+import io.dongvelop.bookmanagementsystem.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description outbox 테이블의 변경 이벤트를 {@link ChangeEventBus}로 발행하는 백그라운드 Relay. <br/>
+ * 하나의 스레드에서 이벤트를 발행 순번 순으로 한 배치씩 읽고, 읽기 트랜잭션이 끝난 뒤 발행한다.
+ * 발행하는 동안에는 DB 커넥션과 행 잠금을 잡지 않으며, 모든 구독자가 처리한 이벤트만 별도의 트랜잭션에서 삭제한다.
+ * <ul>
+ *     <li>구독자가 실패했거나 발행 후 삭제가 커밋되기 전에 장애가 나면 같은 이벤트를 다시 발행한다. (최소 한 번 전달)
+ *     이미 처리한 구독자에게는 다시 전달하지 않는다. ({@link ChangeEventBus})</li>
+ *     <li>이벤트가 기록된 트랜잭션이 커밋되면 바로 깨어나고, 그 외에는 폴링 주기마다 확인한다.
+ *     발행하는 동안 커밋된 이벤트는 다음 배치에 모이므로, 변경이 많을수록 배치가 커진다.</li>
+ *     <li>배치가 가득 찬 경우 밀린 이벤트가 있으므로 대기하지 않고 다음 배치를 발행한다.</li>
+ * </ul>
+ * 같은 대상의 이벤트는 커밋 순서대로 발행 순번을 가지므로({@link ChangeEventOutbox}) 발생 순서대로 발행된다.
+ * 서로 다른 대상의 이벤트 사이의 순서는 보장하지 않는다. <br/>
+ * 여러 인스턴스가 같은 DB 를 사용하는 경우, 발행은 한 인스턴스에서만 실행한다. (나머지는 outbox.relay.enabled=false)
+ * 여러 Relay 가 실행되면 같은 이벤트가 각 Relay 에서 한 번씩 발행될 수 있다.
+ * 발행 지연 시간(발행되지 않은 가장 오래된 이벤트의 경과 시간)을 outbox.relay.lag 지표로 노출한다.
+ */
+@Slf4j
+@Component
+public class ChangeEventRelay implements SmartLifecycle, MeterBinder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeEventBus changeEventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final boolean enabled;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 발행되지 않은 이벤트 중 가장 오래된 이벤트의 생성 시각. 밀린 이벤트가 없으면 null.
+     */
+    private volatile LocalDateTime oldestPendingAt;
+
+    private volatile boolean running = false;
+    private volatile Thread worker;
+
+    public ChangeEventRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final ChangeEventBus changeEventBus,
+            final PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${outbox.relay.poll-interval:1s}") final Duration pollInterval,
+            @Value("${outbox.relay.enabled:true}") final boolean enabled
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize[" + batchSize + "] must be positive");
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval[" + pollInterval + "] must be positive");
+        }
+
+        this.outboxEventRepository = outboxEventRepository;
+        this.changeEventBus = changeEventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.enabled = enabled;
+    }
+
+    /**
+     * 폴링 주기를 기다리지 않고 다음 배치를 발행하도록 Relay 스레드를 깨운다.
+     */
+    public void wakeUp() {
+        final Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * outbox 의 이벤트를 발행 순번 순으로 한 배치 읽어 발행하고, 모든 구독자가 처리한 이벤트를 삭제한다.
+     *
+     * @return 발행을 마치고 삭제한 이벤트 수
+     */
+    public synchronized int relay() {
+        // 쓰기 트랜잭션으로 읽어 복제본이 아닌 원본에서 조회한다.
+        final List<ChangeEvent> events = transactionTemplate.execute(status ->
+                outboxEventRepository.findAllByOrderBySeqAsc(PageRequest.of(0, batchSize))
+                        .stream()
+                        .map(OutboxEvent::toChangeEvent)
+                        .toList());
+
+        if (events.isEmpty()) {
+            oldestPendingAt = null;
+            return 0;
+        }
+
+        oldestPendingAt = events.get(0).occurredAt();
+        final long acknowledged = changeEventBus.publish(events);
+        final List<Long> ids = events.stream()
+                .filter(event -> event.seq() <= acknowledged)
+                .map(ChangeEvent::id)
+                .toList();
+
+        if (!ids.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+        }
+        published.add(ids.size());
+
+        // 처리하지 못한 구독자가 있으면 그 이벤트가, 배치가 가득 찼으면 마지막으로 발행한 이벤트의 생성 시각이 지연 시간의 하한이다.
+        if (ids.size() < events.size()) {
+            oldestPendingAt = events.get(ids.size()).occurredAt();
+        } else {
+            oldestPendingAt = events.size() < batchSize ? null : events.get(events.size() - 1).occurredAt();
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * 발행되지 않은 가장 오래된 이벤트의 경과 시간(초)
+     */
+    public double lagSeconds() {
+        final LocalDateTime oldest = oldestPendingAt;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * outbox.relay.enabled 가 false 이면 Relay 스레드를 시작하지 않는다. 이 인스턴스에서 기록한 이벤트는 다른 인스턴스의 Relay 가 발행한다.
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::relayLoop, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 발행 중인 배치를 마친 뒤 스레드를 정리한다. 남은 이벤트는 outbox 에 남아 다음 기동 시 발행된다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        final Thread thread = worker;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            int relayed = 0;
+
+            try {
+                relayed = relay();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("failed to relay change events", e);
+            }
+
+            if (relayed < batchSize) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("outbox.relay.lag", this, ChangeEventRelay::lagSeconds)
+                .description("the age of the oldest change event not yet published")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.published", this, ChangeEventRelay::publishedCount)
+                .description("the number of change events published from the outbox")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.failed", this, ChangeEventRelay::failureCount)
+                .description("the number of failed outbox relay batches")
+                .register(registry);
+    }
+}
@@ -0,0 +1,20 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description {@link ChangeEventBus}의 변경 이벤트 구독자. <br/>
+ * 빈으로 등록하면 기동 시 자동으로 구독된다.
+ * 이벤트는 발행 스레드 하나에서 발행 순번 순으로 전달된다. 예외를 던지면 다음 발행에서 같은 이벤트부터 다시 전달되고,
+ * 발행 도중 장애가 나거나 재기동하면 처리한 이벤트가 다시 전달될 수 있으므로 멱등하게 처리해야 한다.
+ */
+@FunctionalInterface
+public interface ChangeEventSubscriber {
+
+    /**
+     * @param events 한 번에 발행된 이벤트 중 아직 처리하지 않은 이벤트 목록 (발행 순번 순)
+     */
+    void onEvents(List<ChangeEvent> events);
+}
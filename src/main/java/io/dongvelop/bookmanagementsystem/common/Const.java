@@ -10,4 +10,34 @@ public final class Const {
     }
 
     public static final String STRING_EMPTY = "";
+
+    /**
+     * Smile(바이너리 JSON) 형식의 미디어 타입. CBOR 는 {@link org.springframework.http.MediaType#APPLICATION_CBOR_VALUE}를 사용한다.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * 커서 기반 도서 목록 조회 시, 한 번에 조회할 수 있는 최대 페이지 크기
+     */
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 도서 대량 등록 API 에서 한 번의 요청으로 등록할 수 있는 최대 도서 수
+     */
+    public static final int MAX_BOOK_BATCH_SIZE = 10_000;
+
+    /**
+     * 저자 상세 조회 시 함께 응답하는 최근 출판 도서 수. 전체 도서 목록은 저자 도서 목록 API 로 조회한다.
+     */
+    public static final int AUTHOR_BOOK_PREVIEW_SIZE = 10;
+
+    /**
+     * 저자 목록 조회/내보내기 시 한 번의 트랜잭션에서 읽는 저자 수. 청크를 응답에 기록하는 동안에는 DB 커넥션을 점유하지 않는다.
+     */
+    public static final int AUTHOR_LIST_CHUNK_SIZE = 100;
+
+    /**
+     * 동기 저자 삭제에서 한 번의 트랜잭션으로 삭제할 수 있는 최대 도서 수. 이보다 많으면 백그라운드 청크 삭제(async=true)로 삭제해야 한다.
+     */
+    public static final int MAX_SYNC_DELETE_BOOKS = 1_000;
 }
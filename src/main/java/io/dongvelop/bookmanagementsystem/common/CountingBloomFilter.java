@@ -0,0 +1,194 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 13
+ * @description 삭제를 지원하는 카운팅 블룸 필터(Counting Bloom Filter). <br/>
+ * 비트 대신 4비트 카운터를 사용하여, long 하나에 카운터 16개를 담는다. 카운터가 최댓값(15)에 도달하면 더 이상 감소시키지 않으므로,
+ * 추가한 키에 대해 "없음"으로 잘못 판단하는 경우(false negative)는 발생하지 않는다.
+ * 키는 호출부에서 64비트 해시로 변환하여 전달하며, 해시 두 개를 조합하는 이중 해싱(double hashing)으로 k 개의 카운터 위치를 구한다.
+ * 모든 연산은 락 없이 CAS 로 처리한다.
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNT = 0xFL;
+
+    private final long counterCount;
+    private final int hashCount;
+    private final AtomicLongArray words;
+
+    /**
+     * 0이 아닌 카운터 수. 현재 오탐률 추정에 사용한다.
+     */
+    private final AtomicLong nonZeroCounters = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 키 수
+     * @param falsePositiveRate  예상 키 수만큼 추가했을 때의 목표 오탐률 (0.0 ~ 1.0)
+     */
+    public CountingBloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions[" + expectedInsertions + "] must be positive");
+        }
+        if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("falsePositiveRate[" + falsePositiveRate + "] must be between 0 and 1");
+        }
+
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        final long optimalCounters = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        final long wordCount = Math.max(1, (optimalCounters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("expectedInsertions[" + expectedInsertions + "] is too large");
+        }
+
+        this.counterCount = wordCount * COUNTERS_PER_WORD;
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / expectedInsertions * Math.log(2)));
+        this.words = new AtomicLongArray((int) wordCount);
+    }
+
+    /**
+     * 키를 추가한다.
+     *
+     * @param hash 키의 64비트 해시. {@link #hash(long)} 또는 {@link #hash(CharSequence)}로 구한다.
+     */
+    public void put(final long hash) {
+        final long h1 = hash;
+        final long h2 = Long.rotateLeft(hash, 32) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            increment(index(h1, h2, i));
+        }
+    }
+
+    /**
+     * 키를 제거한다. 추가한 적 없는 키를 제거하면 다른 키가 "없음"으로 판단될 수 있으므로, 반드시 추가한 키만 제거해야 한다.
+     */
+    public void remove(final long hash) {
+        final long h1 = hash;
+        final long h2 = Long.rotateLeft(hash, 32) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            decrement(index(h1, h2, i));
+        }
+    }
+
+    /**
+     * 키가 존재할 수 있는지 확인한다. false 이면 키는 확실히 존재하지 않는다.
+     */
+    public boolean mightContain(final long hash) {
+        final long h1 = hash;
+        final long h2 = Long.rotateLeft(hash, 32) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            if (count(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 현재 채워진 카운터 비율로 추정한 오탐률. (0이 아닌 카운터 비율)^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) nonZeroCounters.get() / counterCount, hashCount);
+    }
+
+    /**
+     * 카운터 배열이 차지하는 메모리 크기 (byte)
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public long counterCount() {
+        return counterCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(final long h1, final long h2, final int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % counterCount;
+    }
+
+    private int count(final long index) {
+        final long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (int) (word >>> shift(index) & COUNTER_MASK);
+    }
+
+    private void increment(final long index) {
+        final int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        final int shift = shift(index);
+
+        while (true) {
+            final long word = words.get(wordIndex);
+            final long count = word >>> shift & COUNTER_MASK;
+            if (count == MAX_COUNT) {
+                return;
+            }
+
+            if (words.compareAndSet(wordIndex, word, word + (1L << shift))) {
+                if (count == 0) {
+                    nonZeroCounters.incrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    private void decrement(final long index) {
+        final int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        final int shift = shift(index);
+
+        while (true) {
+            final long word = words.get(wordIndex);
+            final long count = word >>> shift & COUNTER_MASK;
+
+            // 최댓값에 도달한 카운터는 실제 키 수를 알 수 없으므로 감소시키지 않는다.
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+
+            if (words.compareAndSet(wordIndex, word, word - (1L << shift))) {
+                if (count == 1) {
+                    nonZeroCounters.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    private static int shift(final long index) {
+        return (int) (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    /**
+     * long 키의 64비트 해시. (SplitMix64 finalizer)
+     */
+    public static long hash(final long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 문자열 키의 64비트 해시. FNV-1a 로 누적한 뒤 비트를 다시 섞는다.
+     */
+    public static long hash(final CharSequence key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return hash(h);
+    }
+}
@@ -0,0 +1,130 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description DB 커넥션 풀 크기에 맞춰 서비스 계층의 동시 실행 수를 제한하는 `Aspect`. <br/>
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 만들어지므로, 제한이 없으면 커넥션 풀 앞에서 대기하는 스레드가 무한히 늘어난다.
+ * 서비스 메서드는 트랜잭션 시작 시점에 커넥션을 획득해 커밋까지 유지하므로, 리포지토리 호출 단위가 아닌 트랜잭션 경계(서비스 메서드)에서 permit 을 획득한다.
+ * 이 전제는 open-in-view 가 꺼져 있어야 성립한다. (켜져 있으면 첫 트랜잭션에서 획득한 커넥션을 응답을 마칠 때까지 유지하므로, permit 을 반납한 뒤에도 커넥션이 점유된다.)
+ * 서비스를 거치지 않고 리포지토리를 사용하는 백그라운드 작업(Relay, 색인 구성 등)은 제한하지 않으므로, permit 을 얻은 호출도 커넥션 풀에서 잠시 대기할 수 있다.
+ * 트랜잭션보다 바깥, {@link TimingAspect}보다 안쪽에서 실행되며, 서비스 메서드 내부에서 다른 서비스를 호출하는 경우 permit 을 다시 획득하지 않는다.
+ * 대기 시간을 넘기면 커넥션 타임아웃(30초)까지 기다리지 않고 503 으로 응답한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class DbConcurrencyLimiter implements MeterBinder {
+
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 현재 스레드가 이미 permit 을 보유하고 있는지 여부. 중첩 호출 시 같은 트랜잭션(커넥션)을 사용하므로 다시 획득하지 않는다.
+     */
+    private final ThreadLocal<Boolean> holding = new ThreadLocal<>();
+
+    public DbConcurrencyLimiter(
+            @Value("${db.concurrency.max-permits:${spring.datasource.hikari.maximum-pool-size:10}}") final int maxPermits,
+            @Value("${db.concurrency.acquire-timeout:1s}") final Duration acquireTimeout
+    ) {
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("maxPermits[" + maxPermits + "] must be positive");
+        }
+
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+
+        // 대기 순서대로 permit 을 부여하여 꼬리 지연(p99)이 한쪽으로 몰리지 않도록 공정 모드를 사용한다.
+        this.permits = new Semaphore(maxPermits, true);
+    }
+
+    /**
+     * `service` 패키지 내에 `@Service` 애너테이션이 붙은 클래스의 public 메서드에 적용.
+     */
+    @Around("execution(public * io.dongvelop.bookmanagementsystem.service.*.*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object limit(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (Boolean.TRUE.equals(holding.get())) {
+            return joinPoint.proceed();
+        }
+
+        acquire(joinPoint);
+        holding.set(Boolean.TRUE);
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            holding.remove();
+            permits.release();
+        }
+    }
+
+    private void acquire(final ProceedingJoinPoint joinPoint) {
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            log.debug("db permit rejected. method[{}], waiting[{}]", joinPoint.getSignature().toShortString(), permits.getQueueLength());
+            throw new ServiceUnavailableException(ErrorType.DB_BUSY,
+                    "db concurrency limit[" + maxPermits + "] exceeded", Duration.ofNanos(acquireTimeoutNanos));
+        }
+    }
+
+    public int activeCount() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int waitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("db.concurrency.limit", this, limiter -> limiter.maxPermits)
+                .description("the maximum number of service calls that may hold a db connection at the same time")
+                .register(registry);
+        Gauge.builder("db.concurrency.active", this, DbConcurrencyLimiter::activeCount)
+                .description("the number of service calls currently holding a permit")
+                .register(registry);
+        Gauge.builder("db.concurrency.waiting", this, DbConcurrencyLimiter::waitingCount)
+                .description("the number of service calls waiting for a permit")
+                .register(registry);
+        FunctionCounter.builder("db.concurrency.rejected", this, DbConcurrencyLimiter::rejectedCount)
+                .description("the number of service calls rejected after the acquire timeout")
+                .register(registry);
+    }
+}
@@ -0,0 +1,97 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 06
+ * @description 도서/저자 상세 조회 결과 캐시. <br/>
+ * 영속성 컨텍스트와 무관하게 재사용할 수 있도록 엔티티가 아닌 응답 객체를 ETag 와 함께 캐싱하며,
+ * 캐시별 적중/미적중/제거 횟수를 Micrometer 의 cache.* 지표로 노출한다. <br/>
+ * 읽기 복제본을 사용하는 경우(db.replica.enabled=true), 캐시에 없는 항목은 복제본 대신 원본에서 조회한다.
+ * 변경 후 제거된 항목을 복제 지연으로 이전 값인 복제본에서 다시 읽어 만료 시간 동안 캐싱하지 않도록 하기 위함이다.
+ */
+@Component
+public class DetailCache implements MeterBinder {
+
+    private final LocalCache<Long, Versioned<BookDetailResponse>> bookCache;
+    private final LocalCache<Long, Versioned<AuthorDetailResponse>> authorCache;
+
+    /**
+     * 읽기 복제본 사용 시에만 존재한다.
+     */
+    private final ReadYourWrites readYourWrites;
+
+    public DetailCache(
+            @Value("${cache.book-detail.maximum-size:10000}") final int bookMaximumSize,
+            @Value("${cache.author-detail.maximum-size:1000}") final int authorMaximumSize,
+            @Value("${cache.detail.ttl:5m}") final Duration ttl,
+            @Value("${cache.detail.negative-ttl:10s}") final Duration negativeTtl,
+            final ObjectProvider<ReadYourWrites> readYourWrites
+    ) {
+        this.bookCache = new LocalCache<>("book-detail", bookMaximumSize, ttl, negativeTtl);
+        this.authorCache = new LocalCache<>("author-detail", authorMaximumSize, ttl, negativeTtl);
+        this.readYourWrites = readYourWrites.getIfAvailable();
+    }
+
+    public Versioned<BookDetailResponse> getBook(final Long bookId, final LocalCache.Loader<Long, Versioned<BookDetailResponse>> loader) throws APIException {
+        return bookCache.get(bookId, onPrimary(loader));
+    }
+
+    public Versioned<AuthorDetailResponse> getAuthor(final Long authorId, final LocalCache.Loader<Long, Versioned<AuthorDetailResponse>> loader) throws APIException {
+        return authorCache.get(authorId, onPrimary(loader));
+    }
+
+    /**
+     * 저자 상세 정보가 캐싱되어 있는지 확인한다. 존재하지 않는 저자로 캐싱된 경우 NOT_FOUND 예외가 발생한다.
+     */
+    public boolean containsAuthor(final Long authorId) throws APIException {
+        return authorCache.getIfPresent(authorId) != null;
+    }
+
+    public void evictBook(final Long bookId) {
+        bookCache.evict(bookId);
+    }
+
+    public void evictAuthor(final Long authorId) {
+        authorCache.evict(authorId);
+    }
+
+    private <V> LocalCache.Loader<Long, V> onPrimary(final LocalCache.Loader<Long, V> loader) {
+        return readYourWrites == null ? loader : readYourWrites.onPrimary(loader);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (LocalCache<?, ?> cache : List.of(bookCache, authorCache)) {
+            FunctionCounter.builder("cache.gets", cache, LocalCache::hitCount)
+                    .tags("cache", cache.getName(), "result", "hit")
+                    .description("the number of times cache lookup methods have returned a cached value")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, LocalCache::missCount)
+                    .tags("cache", cache.getName(), "result", "miss")
+                    .description("the number of times cache lookup methods have not returned a cached value")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, LocalCache::evictionCount)
+                    .tags("cache", cache.getName())
+                    .description("cache evictions by size or expiration")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, LocalCache::size)
+                    .tags("cache", cache.getName())
+                    .description("the number of entries in this cache")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 11
+ * @description 상세 조회 응답의 ETag(강한 검증자) 생성 및 If-None-Match 비교 클래스. <br/>
+ * 응답 본문이 아닌 엔티티 아이디와 수정 시각으로 만들기 때문에, 본문을 만들지 않고 수정 시각만 조회하여 변경 여부를 판단할 수 있다.
+ * 저자 상세 응답은 도서 목록을 포함하므로, 도서의 최종 수정 시각과 도서 수도 함께 반영한다.
+ * 수정 시각은 DB 컬럼 정밀도와 무관하게 같은 값이 나오도록 밀리초 단위로 사용한다. <br/>
+ * 같은 엔티티라도 응답 형식(JSON, CBOR, Smile)마다 본문 바이트가 다르므로, JSON 이 아닌 형식은 형식 이름을 붙인 ETag 를 사용한다.
+ * (응답에는 Vary: Accept 를 함께 내려 공유 캐시가 형식별로 저장하도록 한다.)
+ */
+public final class EntityTag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * 상세 조회 API 의 응답 형식. 엔드포인트의 produces 와 같은 순서이며, 첫 번째가 기본 형식이다.
+     */
+    private static final List<MediaType> FORMATS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, MediaType.parseMediaType(Const.APPLICATION_SMILE_VALUE));
+
+    private static final Map<String, String> FORMAT_SUFFIXES = Map.of(
+            MediaType.APPLICATION_CBOR_VALUE, "cbor",
+            Const.APPLICATION_SMILE_VALUE, "smile"
+    );
+
+    private EntityTag() {
+    }
+
+    public static String of(final Book book) {
+        return ofBook(book.getId(), book.getUpdatedAt());
+    }
+
+    public static String of(final Author author) {
+        LocalDateTime booksUpdatedAt = null;
+        for (Book book : author.getBooks()) {
+            if (booksUpdatedAt == null || (book.getUpdatedAt() != null && book.getUpdatedAt().isAfter(booksUpdatedAt))) {
+                booksUpdatedAt = book.getUpdatedAt();
+            }
+        }
+
+        return ofAuthor(author.getId(), author.getUpdatedAt(), booksUpdatedAt, author.getBooks().size());
+    }
+
+    /**
+     * @param bookId    도서 아이디
+     * @param updatedAt 도서 수정 시각
+     */
+    public static String ofBook(final Long bookId, final LocalDateTime updatedAt) {
+        return "\"b" + bookId + "-" + toHex(updatedAt) + "\"";
+    }
+
+    /**
+     * @param authorId       저자 아이디
+     * @param updatedAt      저자 수정 시각
+     * @param booksUpdatedAt 저자의 도서 중 가장 최근 수정 시각. 도서가 없으면 null.
+     * @param bookCount      저자의 도서 수
+     */
+    public static String ofAuthor(final Long authorId, final LocalDateTime updatedAt, final LocalDateTime booksUpdatedAt, final long bookCount) {
+        return "\"a" + authorId + "-" + toHex(updatedAt) + "-" + toHex(booksUpdatedAt) + "-" + Long.toHexString(bookCount) + "\"";
+    }
+
+    /**
+     * Accept 헤더로 협상될 응답 형식. 품질(q)이 높은 미디어 타입부터, 호환되는 응답 형식 중 produces 순서상 첫 번째를 고른다.
+     *
+     * @param accept Accept 헤더 값. 없거나 해석할 수 없으면 JSON.
+     */
+    public static MediaType negotiate(final String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return FORMATS.get(0);
+        }
+
+        final List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return FORMATS.get(0);
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType format : FORMATS) {
+                if (mediaType.includes(format)) {
+                    return format;
+                }
+            }
+        }
+
+        return FORMATS.get(0);
+    }
+
+    /**
+     * 응답 형식별 ETag. JSON 은 기본 ETag 를 그대로 사용하고, 그 외 형식은 형식 이름을 붙인다.
+     *
+     * @param etag   기본(JSON) ETag
+     * @param format 응답 형식
+     */
+    public static String forFormat(final String etag, final MediaType format) {
+        final String suffix = FORMAT_SUFFIXES.get(format.getType() + "/" + format.getSubtype());
+        if (etag == null || suffix == null) {
+            return etag;
+        }
+
+        return etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값 중 하나라도 ETag 와 일치하는지 확인한다. <br/>
+     * If-None-Match 는 약한 비교를 사용하므로 `W/` 접두어는 무시하며, `*` 는 항상 일치한다.
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값. 쉼표로 구분된 ETag 목록.
+     * @param etag        현재 ETag
+     */
+    public static boolean matches(final String ifNoneMatch, final String etag) {
+        if (!StringUtils.hasText(ifNoneMatch) || etag == null) {
+            return false;
+        }
+
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = ifNoneMatch.length();
+            }
+
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+
+            if (ANY.equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+
+            start = end + 1;
+        }
+
+        return false;
+    }
+
+    private static String toHex(final LocalDateTime dateTime) {
+        return dateTime == null ? "0" : Long.toHexString(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
@@ -1,6 +1,5 @@
 package io.dongvelop.bookmanagementsystem.common;
 
-import io.dongvelop.bookmanagementsystem.exception.APIException;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -16,16 +15,12 @@ public class ISBN10Validator implements ConstraintValidator<ValidISBN10, String>
     }
 
     /**
-     * 포맷 검증 메서드. 검증 로직은 Book Entity 로직에서도 사용되어 Utils 클래스에 작성하여 공통으로 호출 사용.
+     * 포맷 검증 메서드. 검증 로직은 Book Entity 로직에서도 사용되어 Isbn 클래스에 작성하여 공통으로 호출 사용. <br/>
+     * 실패 사유는 사용하지 않으므로, 예외 객체를 생성하지 않는 압축 메서드의 결과로만 판단한다.
      */
     @Override
     public boolean isValid(String s, ConstraintValidatorContext constraintValidatorContext) {
-        try {
-            Utils.validateISBN10(s);
-            return true;
-        } catch (APIException e) {
-            return false;
-        }
+        return Isbn.pack10(s) >= 0;
     }
 }
 
@@ -0,0 +1,302 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.springframework.http.HttpStatus;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 07
+ * @description ISBN 값 객체. <br/>
+ * 문자열을 한 번만 순회하며 검증과 동시에 하나의 long 값으로 압축(pack)하며, 검증 과정에서 문자열/정규식/스트림 객체를 생성하지 않는다.
+ * 압축된 값은 원래 문자열(하이픈 위치 포함)을 그대로 복원할 수 있으므로, DB 에는 이 값을 BIGINT 로 저장하고 고유 인덱스로 사용한다.
+ * <pre>
+ * bit  0 ~ 43 : 하이픈을 제외한 숫자 (ISBN-13 최대값 9,999,999,999,999 &lt; 2^44)
+ * bit 44 ~ 59 : 하이픈 위치 4개. 각 4bit 로 하이픈 앞에 위치한 숫자의 개수를 저장하며, 사용하지 않는 칸은 0xF
+ * bit 60 ~ 63 : 0 (항상 양수)
+ * </pre>
+ * 숫자 자릿수는 값의 크기로 구분한다. ISBN-10 은 앞 세 자리가 100~900 이므로 10^10 미만이며, ISBN-13 은 978/979 로 시작하므로 10^12 이상이다.
+ */
+public final class Isbn implements Comparable<Isbn>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2150447826953123871L;
+
+    /**
+     * 압축 실패 시 반환하는 값. 실패 사유별로 구분하며, 모두 음수이다.
+     */
+    static final long BLANK = -1;
+    static final long HYPHEN_COUNT = -2;
+    static final long DIGIT_COUNT = -3;
+    static final long PREFIX = -4;
+    static final long LAST_DIGIT = -5;
+    static final long CHECKSUM = -6;
+
+    private static final int DIGIT_BITS = 44;
+    private static final long DIGIT_MASK = (1L << DIGIT_BITS) - 1;
+    private static final int SLOT_BITS = 4;
+    private static final int MAX_HYPHENS = 4;
+    private static final long EMPTY_SLOTS = 0xFFFFL << DIGIT_BITS;
+    private static final long ISBN13_MIN = 1_000_000_000_000L;
+
+    private final long packed;
+
+    private Isbn(final long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * ISBN-10 문자열을 검증하여 ISBN 객체로 변환한다. 검증 순서와 예외 메시지는 {@link Utils#validateISBN10(String)}과 동일하다.
+     */
+    public static Isbn parseIsbn10(final String isbn) throws APIException {
+        final long packed = pack10(isbn);
+        if (packed < 0) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, isbn10Message(packed));
+        }
+
+        return new Isbn(packed);
+    }
+
+    /**
+     * ISBN-13 문자열을 검증하여 ISBN 객체로 변환한다. 978/979 접두어와 체크섬을 검증하며, 하이픈은 최대 4개까지 허용한다.
+     */
+    public static Isbn parseIsbn13(final String isbn) throws APIException {
+        final long packed = pack13(isbn);
+        if (packed < 0) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, isbn13Message(packed));
+        }
+
+        return new Isbn(packed);
+    }
+
+    /**
+     * ISBN-10 문자열을 변환하며, 유효하지 않은 경우 예외 대신 null 을 반환한다.
+     */
+    public static Isbn tryParse(final String isbn) {
+        final long packed = pack10(isbn);
+        return packed < 0 ? null : new Isbn(packed);
+    }
+
+    /**
+     * DB 에 저장된 압축 값으로부터 ISBN 객체를 복원한다.
+     */
+    public static Isbn fromPacked(final long packed) {
+        if (packed < 0 || (packed & DIGIT_MASK) == 0) {
+            throw new IllegalArgumentException("invalid packed isbn[" + packed + "]");
+        }
+
+        return new Isbn(packed);
+    }
+
+    /**
+     * ISBN-10 문자열을 검증하고 압축한다. 객체를 생성하지 않으며, 유효하지 않은 경우 실패 사유별 음수를 반환한다. <br/>
+     * 규칙 : 공백이 아닐 것 → 하이픈이 정확히 2개 → 하이픈을 제외하고 10자리 숫자 → 앞 세 자리가 100~900 → 마지막 자리가 0
+     */
+    public static long pack10(final CharSequence isbn) {
+        if (isbn == null) {
+            return BLANK;
+        }
+
+        long digits = 0;
+        long slots = EMPTY_SLOTS;
+        int digitCount = 0;
+        int hyphenCount = 0;
+        boolean hasText = false;
+        boolean onlyDigits = true;
+
+        for (int i = 0; i < isbn.length(); i++) {
+            final char ch = isbn.charAt(i);
+
+            if (ch >= '0' && ch <= '9') {
+                if (digitCount < 10) {
+                    digits = digits * 10 + (ch - '0');
+                }
+                digitCount++;
+                hasText = true;
+            } else if (ch == '-') {
+                if (hyphenCount < MAX_HYPHENS) {
+                    slots = setSlot(slots, hyphenCount, Math.min(digitCount, 0xE));
+                }
+                hyphenCount++;
+                hasText = true;
+            } else {
+                onlyDigits = false;
+                hasText |= !Character.isWhitespace(ch);
+            }
+        }
+
+        if (!hasText) {
+            return BLANK;
+        }
+        if (hyphenCount != 2) {
+            return HYPHEN_COUNT;
+        }
+        if (!onlyDigits || digitCount != 10) {
+            return DIGIT_COUNT;
+        }
+
+        final long prefix = digits / 10_000_000L;
+        if (prefix < 100 || prefix > 900) {
+            return PREFIX;
+        }
+        if (digits % 10 != 0) {
+            return LAST_DIGIT;
+        }
+
+        return slots | digits;
+    }
+
+    /**
+     * ISBN-13 문자열을 검증하고 압축한다. 객체를 생성하지 않으며, 유효하지 않은 경우 실패 사유별 음수를 반환한다.
+     */
+    public static long pack13(final CharSequence isbn) {
+        if (isbn == null) {
+            return BLANK;
+        }
+
+        long digits = 0;
+        long slots = EMPTY_SLOTS;
+        int digitCount = 0;
+        int hyphenCount = 0;
+        int checksum = 0;
+        boolean hasText = false;
+        boolean onlyDigits = true;
+
+        for (int i = 0; i < isbn.length(); i++) {
+            final char ch = isbn.charAt(i);
+
+            if (ch >= '0' && ch <= '9') {
+                if (digitCount < 13) {
+                    digits = digits * 10 + (ch - '0');
+                    checksum += (digitCount & 1) == 0 ? ch - '0' : 3 * (ch - '0');
+                }
+                digitCount++;
+                hasText = true;
+            } else if (ch == '-') {
+                if (hyphenCount < MAX_HYPHENS) {
+                    slots = setSlot(slots, hyphenCount, Math.min(digitCount, 0xE));
+                }
+                hyphenCount++;
+                hasText = true;
+            } else {
+                onlyDigits = false;
+                hasText |= !Character.isWhitespace(ch);
+            }
+        }
+
+        if (!hasText) {
+            return BLANK;
+        }
+        if (hyphenCount > MAX_HYPHENS) {
+            return HYPHEN_COUNT;
+        }
+        if (!onlyDigits || digitCount != 13) {
+            return DIGIT_COUNT;
+        }
+
+        final long prefix = digits / 10_000_000_000L;
+        if (prefix != 978 && prefix != 979) {
+            return PREFIX;
+        }
+        if (checksum % 10 != 0) {
+            return CHECKSUM;
+        }
+
+        return slots | digits;
+    }
+
+    public boolean isIsbn13() {
+        return digits() >= ISBN13_MIN;
+    }
+
+    /**
+     * 하이픈을 제외한 숫자 값
+     */
+    public long digits() {
+        return packed & DIGIT_MASK;
+    }
+
+    /**
+     * DB 저장 및 비교에 사용하는 압축 값
+     */
+    public long packed() {
+        return packed;
+    }
+
+    /**
+     * 입력받은 형태 그대로(하이픈 위치 포함) ISBN 문자열을 복원한다.
+     */
+    @Override
+    public String toString() {
+        final int digitCount = isIsbn13() ? 13 : 10;
+        int hyphenCount = 0;
+        while (hyphenCount < MAX_HYPHENS && slot(hyphenCount) != 0xF) {
+            hyphenCount++;
+        }
+
+        final char[] chars = new char[digitCount + hyphenCount];
+        long remaining = digits();
+        int hyphen = hyphenCount - 1;
+        int position = chars.length - 1;
+
+        for (int digitIndex = digitCount; digitIndex >= 0; digitIndex--) {
+            while (hyphen >= 0 && slot(hyphen) == digitIndex) {
+                chars[position--] = '-';
+                hyphen--;
+            }
+            if (digitIndex > 0) {
+                chars[position--] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+        }
+
+        return new String(chars);
+    }
+
+    @Override
+    public int compareTo(final Isbn other) {
+        return Long.compare(packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o instanceof Isbn other && packed == other.packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    private int slot(final int index) {
+        return (int) (packed >>> (DIGIT_BITS + index * SLOT_BITS)) & 0xF;
+    }
+
+    private static long setSlot(final long slots, final int index, final int value) {
+        final int shift = DIGIT_BITS + index * SLOT_BITS;
+        return (slots & ~(0xFL << shift)) | ((long) value << shift);
+    }
+
+    private static String isbn10Message(final long code) {
+        return switch ((int) code) {
+            case (int) BLANK -> "ISBN-10은 공백이거나 빈 값일 수 없습니다.";
+            case (int) HYPHEN_COUNT -> "ISBN-10은 하이픈(-)을 포함해야 합니다.";
+            case (int) DIGIT_COUNT -> "ISBN-10은 10자리 숫자여야 합니다.";
+            case (int) PREFIX -> "ISBN-10의 앞 세 자리는 100~900 사이여야 합니다.";
+            default -> "ISBN-10의 마지막 자리는 0이어야 합니다.";
+        };
+    }
+
+    private static String isbn13Message(final long code) {
+        return switch ((int) code) {
+            case (int) BLANK -> "ISBN-13은 공백이거나 빈 값일 수 없습니다.";
+            case (int) HYPHEN_COUNT -> "ISBN-13의 하이픈(-)은 최대 4개까지 포함할 수 있습니다.";
+            case (int) DIGIT_COUNT -> "ISBN-13은 13자리 숫자여야 합니다.";
+            case (int) PREFIX -> "ISBN-13은 978 또는 979로 시작해야 합니다.";
+            default -> "ISBN-13의 체크섬이 올바르지 않습니다.";
+        };
+    }
+}
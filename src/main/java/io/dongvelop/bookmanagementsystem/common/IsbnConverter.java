@@ -0,0 +1,23 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 07
+ * @description ISBN 값 객체를 압축된 long 값(BIGINT 컬럼)으로 변환하는 JPA Converter
+ */
+@Converter
+public class IsbnConverter implements AttributeConverter<Isbn, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(final Isbn isbn) {
+        return isbn == null ? null : isbn.packed();
+    }
+
+    @Override
+    public Isbn convertToEntityAttribute(final Long packed) {
+        return packed == null ? null : Isbn.fromPacked(packed);
+    }
+}
@@ -0,0 +1,101 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 16
+ * @description 목록 응답 스트리밍 기록기. <br/>
+ * 목록 전체를 만들어 직렬화하지 않고, 항목 하나를 받을 때마다 Jackson 스트리밍 생성기로 응답 스트림에 바로 기록한다.
+ * 항목마다 flush 하지 않으므로, 생성기/서블릿 버퍼가 찰 때마다 청크 단위로 전송된다.
+ */
+public final class JsonStreamWriter<T> implements Consumer<T> {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private final boolean array;
+
+    private JsonStreamWriter(final ObjectWriter writer, final JsonGenerator generator, final boolean array) {
+        this.writer = writer;
+        this.generator = generator;
+        this.array = array;
+    }
+
+    /**
+     * JSON 배열(application/json)로 기록한다.
+     */
+    public static <T> JsonStreamWriter<T> array(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final HttpServletResponse response
+    ) throws IOException {
+        final JsonStreamWriter<T> streamWriter = open(objectMapper, type, response, MediaType.APPLICATION_JSON_VALUE, true);
+        streamWriter.generator.writeStartArray();
+
+        return streamWriter;
+    }
+
+    /**
+     * 항목 한 개당 한 줄의 JSON(application/x-ndjson)으로 기록한다.
+     */
+    public static <T> JsonStreamWriter<T> lines(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final HttpServletResponse response
+    ) throws IOException {
+        final JsonStreamWriter<T> streamWriter = open(objectMapper, type, response, MediaType.APPLICATION_NDJSON_VALUE, false);
+        streamWriter.generator.setRootValueSeparator(null);
+
+        return streamWriter;
+    }
+
+    private static <T> JsonStreamWriter<T> open(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final HttpServletResponse response,
+            final String contentType,
+            final boolean array
+    ) throws IOException {
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        final ObjectWriter writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        final JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+
+        return new JsonStreamWriter<>(writer, generator, array);
+    }
+
+    @Override
+    public void accept(final T value) {
+        try {
+            writer.writeValue(generator, value);
+            if (!array) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 배열을 닫고 남은 버퍼를 전송한다. 응답 스트림은 닫지 않는다.
+     */
+    public void finish() throws IOException {
+        if (array) {
+            generator.writeEndArray();
+        }
+
+        generator.flush();
+    }
+}
@@ -0,0 +1,323 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 06
+ * @description 크기 제한과 만료 시간을 갖는 인메모리 Read-Through 캐시. <br/>
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목(LRU)부터 제거하며,
+ * 조회 결과가 404(NOT_FOUND)인 경우에도 별도의 짧은 만료 시간으로 캐싱하여 존재하지 않는 아이디로 인한 반복 조회를 막는다.
+ * 조회 중에 제거(evict)된 키의 조회 결과는 이전 값일 수 있으므로 캐싱하지 않는다. <br/>
+ * 캐시 적중은 잠금 없이 처리한다. 적중한 키는 읽기 버퍼에 기록만 하고, 사용 순서는 쓰기(저장/제거) 시 잠금 안에서 버퍼를 비우며 반영한다.
+ * 버퍼가 가득 차면 기록을 버리므로(적중 결과에는 영향 없음), 동시 적중이 많은 경우 LRU 순서는 근사값이다.
+ */
+public class LocalCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 128;
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier ticker;
+
+    /**
+     * 캐시 항목. 조회는 잠금 없이 하며, 변경은 order 와 함께 writeLock 안에서만 한다.
+     */
+    private final ConcurrentHashMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 사용 순서(accessOrder)로 정렬된 키. 가장 앞의 키가 가장 오래 사용되지 않은 항목이다. writeLock 으로 보호한다.
+     */
+    private final LinkedHashMap<K, Boolean> order = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 적중한 키의 기록. 생산자는 조회 스레드들이며, 소비(순서 반영)는 writeLock 을 가진 스레드만 한다.
+     */
+    private final MpscRingBuffer<K> readBuffer = new MpscRingBuffer<>(READ_BUFFER_SIZE);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 조회(loader) 중인 키의 세대. 조회 중에 항목이 제거되면 세대가 바뀌며, 세대가 바뀐 조회 결과는 캐싱하지 않는다.
+     * 조회 중인 키만 유지하므로 크기는 동시 조회 수를 넘지 않는다. writeLock 으로 보호한다.
+     */
+    private final Map<K, Generation> loading = new HashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 캐시에 없는 항목을 조회하는 함수
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws APIException;
+    }
+
+    public LocalCache(final String name, final int maximumSize, final Duration ttl, final Duration negativeTtl) {
+        this(name, maximumSize, ttl, negativeTtl, System::nanoTime);
+    }
+
+    LocalCache(final String name, final int maximumSize, final Duration ttl, final Duration negativeTtl, final LongSupplier ticker) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없거나 만료된 경우 loader 로 조회하여 캐싱한다. <br/>
+     * loader 가 NOT_FOUND 예외를 던진 경우 그 예외를 캐싱하며, 이후 만료 전까지 동일한 예외를 다시 던진다.
+     *
+     * @param key    캐시 키
+     * @param loader 캐시에 없을 경우 값을 조회할 함수
+     */
+    public V get(final K key, final Loader<K, V> loader) throws APIException {
+        final CacheEntry<V> cached = lookup(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached.unwrap();
+        }
+
+        missCount.increment();
+        final long generation = beginLoad(key);
+        CacheEntry<V> loaded = null;
+        try {
+            final V value = loader.load(key);
+            loaded = new CacheEntry<>(value, null, ticker.getAsLong() + ttlNanos);
+            return value;
+        } catch (APIException e) {
+            if (e.getHttpStatus() == HttpStatus.NOT_FOUND && negativeTtlNanos > 0) {
+                loaded = new CacheEntry<>(null, e, ticker.getAsLong() + negativeTtlNanos);
+            }
+            throw e;
+        } finally {
+            endLoad(key, generation, loaded);
+        }
+    }
+
+    /**
+     * 캐시에 값이 있는 경우에만 반환하며, 없으면 null 을 반환한다. 캐싱된 NOT_FOUND 결과는 예외로 다시 던진다.
+     */
+    public V getIfPresent(final K key) throws APIException {
+        final CacheEntry<V> cached = lookup(key);
+        if (cached == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return cached.unwrap();
+    }
+
+    /**
+     * 항목을 즉시 제거한다. <br/>
+     * 트랜잭션 내에서 호출된 경우, 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있으므로 트랜잭션 종료 후 한 번 더 제거한다.
+     * 제거 시점에 진행 중인 조회의 결과는 캐싱되지 않는다.
+     */
+    public void evict(final K key) {
+        remove(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            while (readBuffer.poll() != null) {
+                // 비운 항목의 사용 기록은 버린다.
+            }
+            entries.clear();
+            order.clear();
+            loading.values().forEach(Generation::increment);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 크기 초과 또는 만료로 제거된 항목 수. evict 로 명시적으로 제거한 항목은 포함하지 않는다.
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 잠금 없이 항목을 조회한다. 적중한 키는 읽기 버퍼에 기록하며, 버퍼가 가득 찼고 잠금을 바로 얻을 수 있으면 사용 순서에 반영한다.
+     * 만료된 항목은 쓰기와 같이 잠금 안에서 제거한다. (항목마다 만료 시 한 번)
+     */
+    private CacheEntry<V> lookup(final K key) {
+        final CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt() - ticker.getAsLong() <= 0) {
+            expire(key, entry);
+            return null;
+        }
+
+        if (!readBuffer.offer(key) && writeLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return entry;
+    }
+
+    private void expire(final K key, final CacheEntry<V> entry) {
+        writeLock.lock();
+        try {
+            if (entries.remove(key, entry)) {
+                order.remove(key);
+                evictionCount.increment();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 조회 시작 시점의 키 세대를 기록한다.
+     */
+    private long beginLoad(final K key) {
+        writeLock.lock();
+        try {
+            final Generation generation = loading.computeIfAbsent(key, k -> new Generation());
+            generation.loaders++;
+            return generation.value;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 조회를 마친다. 조회 시작 후 항목이 제거되지 않은 경우(세대가 같은 경우)에만 조회 결과를 캐싱하며,
+     * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+     *
+     * @param loaded 캐싱할 항목. 캐싱하지 않는 실패인 경우 null.
+     */
+    private void endLoad(final K key, final long generation, final CacheEntry<V> loaded) {
+        writeLock.lock();
+        try {
+            final Generation current = loading.get(key);
+            if (loaded != null && current.value == generation) {
+                drainReadBuffer();
+                entries.put(key, loaded);
+                order.put(key, Boolean.TRUE);
+                evictOverflow();
+            }
+
+            if (--current.loaders == 0) {
+                loading.remove(key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void remove(final K key) {
+        writeLock.lock();
+        try {
+            entries.remove(key);
+            order.remove(key);
+
+            final Generation generation = loading.get(key);
+            if (generation != null) {
+                generation.increment();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 읽기 버퍼에 기록된 적중을 사용 순서에 반영한다. 이미 제거된 키의 기록은 무시한다. writeLock 안에서만 호출한다.
+     */
+    private void drainReadBuffer() {
+        K key;
+        while ((key = readBuffer.poll()) != null) {
+            order.get(key);
+        }
+    }
+
+    /**
+     * 최대 크기를 넘은 만큼 가장 오래 사용되지 않은 항목부터 제거한다. writeLock 안에서만 호출한다.
+     */
+    private void evictOverflow() {
+        final Iterator<K> eldest = order.keySet().iterator();
+        while (order.size() > maximumSize) {
+            entries.remove(eldest.next());
+            eldest.remove();
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * 조회 중인 키의 세대와 조회 수
+     */
+    private static final class Generation {
+
+        private long value;
+        private int loaders;
+
+        void increment() {
+            value++;
+        }
+    }
+
+    /**
+     * 캐시 항목. 값 또는 NOT_FOUND 예외 중 하나만 갖는다.
+     */
+    private record CacheEntry<V>(V value, APIException notFound, long expiresAt) {
+
+        V unwrap() throws APIException {
+            if (notFound != null) {
+                throw new APIException(notFound.getHttpStatus(), notFound.getErrorType(), notFound.getMessage());
+            }
+            return value;
+        }
+    }
+}
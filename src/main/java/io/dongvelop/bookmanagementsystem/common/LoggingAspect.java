@@ -1,20 +1,21 @@
 package io.dongvelop.bookmanagementsystem.common;
 
+import io.dongvelop.bookmanagementsystem.exception.APIException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 24
- * @description `Aspect`를 이용해 Controller 내부의 공통 로깅 로직 분리
+ * @description `Aspect`를 이용해 Controller 내부의 공통 로깅 로직 분리 <br/>
+ * 요청 스레드에서는 요청 정보의 참조만 담아 {@link RequestLogWriter}로 넘기며, 문자열 변환과 출력은 백그라운드 스레드에서 수행한다.
+ * 성공한 요청은 샘플링하여 기록하고, 실패한 요청은 항상 기록한다.
  */
 @Slf4j
 @Aspect
@@ -23,16 +24,44 @@ import java.util.Arrays;
 public class LoggingAspect {
 
     private final HttpServletRequest request;
+    private final RequestLogWriter requestLogWriter;
 
     /**
-     * `endpoint` 패키지 내에 `@RestController` 애너테이션이 붙은 클래스에 메서드가 "실행되기 전"에 적용.
+     * `endpoint` 패키지 내에 `@RestController` 애너테이션이 붙은 클래스의 메서드 "실행 전후"에 적용.
      */
-    @Before("execution(* io.dongvelop.bookmanagementsystem.endpoint.*.*(..)) && @within(org.springframework.web.bind.annotation.RestController)")
-    public void logRequest(final JoinPoint joinPoint) {
-        final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        final String methodName = signature.getMethod().getName();
-        final Object[] args = joinPoint.getArgs();
+    @Around("execution(* io.dongvelop.bookmanagementsystem.endpoint.*.*(..)) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object logRequest(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final long start = System.nanoTime();
+
+        try {
+            final Object result = joinPoint.proceed();
+
+            if (requestLogWriter.sampled()) {
+                final String outcome = result instanceof ResponseEntity<?> entity ? String.valueOf(entity.getStatusCode().value()) : "SUCCESS";
+                submit(joinPoint, outcome, start, null);
+            }
+
+            return result;
+        } catch (APIException e) {
+            submit(joinPoint, e.getErrorType() == null ? e.getHttpStatus().name() : e.getErrorType().name(), start, e.getMessage());
+            throw e;
+        } catch (Throwable e) {
+            submit(joinPoint, e.getClass().getSimpleName(), start, String.valueOf(e.getMessage()));
+            throw e;
+        }
+    }
 
-        log.info("Request [{} {}] - Method: {}, Args: {}", request.getMethod(), request.getRequestURI(), methodName, Arrays.toString(args));
+    private void submit(final ProceedingJoinPoint joinPoint, final String outcome, final long start, final String errorMessage) {
+        requestLogWriter.submit(new RequestLog(
+                System.currentTimeMillis(),
+                Thread.currentThread().getName(),
+                request.getMethod(),
+                request.getRequestURI(),
+                joinPoint.getSignature().getName(),
+                joinPoint.getArgs(),
+                outcome,
+                System.nanoTime() - start,
+                errorMessage
+        ));
     }
 }
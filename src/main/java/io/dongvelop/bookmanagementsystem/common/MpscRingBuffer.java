@@ -0,0 +1,82 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description 다수의 생산자와 하나의 소비자를 위한 크기 고정 Lock-Free 링 버퍼(MPSC). <br/>
+ * 생산자는 CAS 로 슬롯을 예약한 뒤 값을 기록하며, 버퍼가 가득 찬 경우 대기하지 않고 즉시 실패한다.
+ * 소비자는 하나의 스레드에서만 호출해야 한다.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 소비자만 갱신하며, 생산자는 버퍼가 가득 찼는지 확인할 때 읽는다.
+     */
+    private volatile long head = 0;
+
+    /**
+     * @param capacity 버퍼 크기. 2의 거듭제곱으로 올림된다.
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity[" + capacity + "] must be between 1 and 2^30");
+        }
+
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 값을 추가한다. 버퍼가 가득 찬 경우 false 를 반환한다.
+     */
+    public boolean offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException("element must not be null");
+        }
+
+        while (true) {
+            final long current = tail.get();
+            if (current - head >= buffer.length()) {
+                return false;
+            }
+
+            if (tail.compareAndSet(current, current + 1)) {
+                buffer.lazySet((int) (current & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 값을 꺼낸다. 비어 있거나, 예약된 슬롯에 아직 값이 기록되지 않은 경우 null 을 반환한다.
+     */
+    public E poll() {
+        final long current = head;
+        final int index = (int) (current & mask);
+        final E element = buffer.get(index);
+
+        if (element == null) {
+            return null;
+        }
+
+        buffer.lazySet(index, null);
+        head = current + 1;
+        return element;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return buffer.length();
+    }
+}
@@ -0,0 +1,53 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 14
+ * @description 아이디 목록 다건 조회 요청 검증. <br/>
+ * 한 번의 IN 쿼리로 조회할 수 있는 아이디 수를 제한하여, 요청 하나가 과도하게 큰 쿼리와 응답을 만들지 않도록 한다.
+ */
+@Component
+public class MultiGetLimit {
+
+    private final int maxIds;
+
+    public MultiGetLimit(@Value("${multi-get.max-ids:100}") final int maxIds) {
+        if (maxIds < 1) {
+            throw new IllegalArgumentException("maxIds[" + maxIds + "] must be positive");
+        }
+
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * 아이디 목록을 검증하고, 요청 순서를 유지한 채 중복을 제거한다.
+     *
+     * @param ids 요청한 아이디 목록
+     * @return 중복이 제거된 아이디 목록
+     */
+    public List<Long> distinct(final List<Long> ids) throws APIException {
+        if (ids == null || ids.isEmpty()) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ids must not be empty");
+        }
+        if (ids.contains(null)) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ids must not contain empty value");
+        }
+
+        final List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > maxIds) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT,
+                    "ids size[" + distinct.size() + "] must be less than or equal to " + maxIds);
+        }
+
+        return distinct;
+    }
+}
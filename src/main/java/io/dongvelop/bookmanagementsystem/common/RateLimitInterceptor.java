@@ -0,0 +1,114 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 클라이언트 / 경로별 요청 빈도 제한 인터셉터. <br/>
+ * 컨트롤러 실행 전에 (클라이언트, HTTP 메서드 + URL 패턴, 예산) 의 토큰을 사용하고, 결과를 RateLimit-* 헤더로 응답한다.
+ * 토큰이 없으면 컨트롤러를 실행하지 않고 429 와 Retry-After 로 응답한다.
+ * 예산은 엔드포인트 메서드의 {@link RateLimited}를 따르며, 없으면 조회(GET/HEAD)는 READ, 그 외는 WRITE 를 사용한다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+    public static final String POLICY_HEADER = "RateLimit-Policy";
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 클라이언트 주소를 전달하는 헤더. 비어 있으면 접속 주소(remote address)로 클라이언트를 구분한다.
+     */
+    private final String clientHeader;
+
+    /**
+     * 클라이언트 주소 헤더에 주소를 덧붙이는 신뢰하는 프록시의 수
+     */
+    private final int trustedProxies;
+
+    public RateLimitInterceptor(final RateLimiter rateLimiter, final String clientHeader, final int trustedProxies) {
+        if (trustedProxies < 1) {
+            throw new IllegalArgumentException("trustedProxies[" + trustedProxies + "] must be positive");
+        }
+
+        this.rateLimiter = rateLimiter;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        final RateLimited.Budget budget = budget(request, handlerMethod);
+        final RateLimiter.Decision decision = rateLimiter.tryAcquire(client(request), route(request), budget);
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+        response.setHeader(POLICY_HEADER, decision.limit() + ";w=" + decision.windowSeconds());
+
+        if (!decision.allowed()) {
+            throw new TooManyRequestsException(ErrorType.TOO_MANY_REQUESTS,
+                    budget + " rate limit[" + decision.limit() + "] exceeded", decision.retryAfter());
+        }
+
+        return true;
+    }
+
+    private static RateLimited.Budget budget(final HttpServletRequest request, final HandlerMethod handlerMethod) {
+        final RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited != null) {
+            return rateLimited.value();
+        }
+
+        final boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        return read ? RateLimited.Budget.READ : RateLimited.Budget.WRITE;
+    }
+
+    /**
+     * 경로는 URL 이 아닌 매핑된 패턴(예: GET /books/{id})으로 구분하여, 아이디마다 별도의 예산을 갖지 않도록 한다.
+     */
+    private static String route(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + ' ' + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /**
+     * X-Forwarded-For 처럼 여러 주소가 전달되면, 앞쪽 주소는 클라이언트가 임의로 보낼 수 있으므로
+     * 신뢰하는 프록시가 덧붙인 주소 중 가장 앞의 것(뒤에서 trustedProxies 번째)을 사용한다.
+     * 주소가 그보다 적으면 신뢰하는 프록시를 모두 거치지 않은 요청이므로 접속 주소를 사용한다.
+     */
+    String client(final HttpServletRequest request) {
+        if (StringUtils.hasText(clientHeader)) {
+            final String value = request.getHeader(clientHeader);
+            if (StringUtils.hasText(value)) {
+                int end = value.length();
+                for (int hop = 1; hop < trustedProxies && end >= 0; hop++) {
+                    end = value.lastIndexOf(',', end - 1);
+                }
+                if (end >= 0) {
+                    final String address = value.substring(value.lastIndexOf(',', end - 1) + 1, end).trim();
+                    if (StringUtils.hasText(address)) {
+                        return address;
+                    }
+                }
+            }
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,39 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 엔드포인트 메서드의 요청 빈도 제한 예산 지정. <br/>
+ * 지정하지 않은 경우 GET/HEAD 요청은 {@link Budget#READ}, 그 외 요청은 {@link Budget#WRITE} 예산을 사용한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    Budget value();
+
+    enum Budget {
+
+        /**
+         * 상세 조회 등 인덱스로 처리되는 가벼운 조회
+         */
+        READ,
+
+        /**
+         * 제목 검색, 전체 목록 조회 등 테이블 전체를 읽을 수 있는 조회
+         */
+        SEARCH,
+
+        /**
+         * 등록/수정/삭제
+         */
+        WRITE
+    }
+}
@@ -0,0 +1,170 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 클라이언트 / 경로별 요청 빈도 제한. <br/>
+ * (클라이언트, 경로, 예산) 마다 {@link TokenBucket}을 두며, 버킷의 용량과 초당 충전량은 예산({@link RateLimited.Budget})별로 지정한다.
+ * 같은 URL 패턴에 예산이 다른 엔드포인트가 매핑될 수 있으므로(예: GET /books 와 GET /books?ids=) 예산도 키에 포함한다.
+ * 버킷은 키의 해시로 나눈 여러 개의 맵(stripe)에 저장하고, 요청을 일정 횟수 처리할 때마다 맵 하나씩 돌아가며
+ * 오래 사용되지 않은(가득 찬 상태로 유휴 시간이 지난) 버킷을 제거한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimiter implements MeterBinder {
+
+    private static final int STRIPES = 16;
+
+    /**
+     * 유휴 버킷 정리 주기. 이 횟수만큼 요청을 처리할 때마다 stripe 하나를 정리한다.
+     */
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final Map<RateLimited.Budget, Limit> limits = new EnumMap<>(RateLimited.Budget.class);
+    private final long idleNanos;
+    private final LongSupplier ticker;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, TokenBucket>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final AtomicLong requests = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 예산별 버킷 용량과 토큰 하나의 충전 간격
+     */
+    record Limit(int capacity, long intervalNanos, double refillPerSecond) {
+
+        static Limit of(final RateLimited.Budget budget, final int capacity, final double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException(budget + " limit[capacity=" + capacity + ", refill=" + refillPerSecond + "] is invalid");
+            }
+
+            return new Limit(capacity, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond), refillPerSecond);
+        }
+
+        /**
+         * 빈 버킷이 가득 찰 때까지의 시간(초)
+         */
+        long windowSeconds() {
+            return (long) Math.ceil(capacity / refillPerSecond);
+        }
+    }
+
+    public RateLimiter(
+            @Value("${rate-limit.read.capacity:100}") final int readCapacity,
+            @Value("${rate-limit.read.refill-per-second:50}") final double readRefill,
+            @Value("${rate-limit.search.capacity:20}") final int searchCapacity,
+            @Value("${rate-limit.search.refill-per-second:5}") final double searchRefill,
+            @Value("${rate-limit.write.capacity:30}") final int writeCapacity,
+            @Value("${rate-limit.write.refill-per-second:10}") final double writeRefill,
+            @Value("${rate-limit.idle-timeout:10m}") final Duration idleTimeout
+    ) {
+        this(Map.of(
+                RateLimited.Budget.READ, Limit.of(RateLimited.Budget.READ, readCapacity, readRefill),
+                RateLimited.Budget.SEARCH, Limit.of(RateLimited.Budget.SEARCH, searchCapacity, searchRefill),
+                RateLimited.Budget.WRITE, Limit.of(RateLimited.Budget.WRITE, writeCapacity, writeRefill)
+        ), idleTimeout, System::nanoTime);
+    }
+
+    RateLimiter(final Map<RateLimited.Budget, Limit> limits, final Duration idleTimeout, final LongSupplier ticker) {
+        this.limits.putAll(limits);
+        this.idleNanos = idleTimeout.toNanos();
+        this.ticker = ticker;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 클라이언트의 경로 요청 하나에 대해 토큰을 사용한다.
+     *
+     * @param client 클라이언트 식별자
+     * @param route  경로 (HTTP 메서드 + URL 패턴)
+     * @param budget 경로의 예산
+     */
+    public Decision tryAcquire(final String client, final String route, final RateLimited.Budget budget) {
+        final Limit limit = limits.get(budget);
+        final long now = ticker.getAsLong();
+
+        final String key = client + ' ' + route + ' ' + budget;
+        final ConcurrentHashMap<String, TokenBucket> stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        final TokenBucket.Result result = stripe.computeIfAbsent(key, k -> new TokenBucket(now))
+                .tryAcquire(now, limit.intervalNanos(), limit.capacity());
+
+        final long count = requests.incrementAndGet();
+        if (count % SWEEP_INTERVAL == 0) {
+            sweep(stripes[(int) (count / SWEEP_INTERVAL % STRIPES)], now);
+        }
+
+        if (!result.allowed()) {
+            rejected.increment();
+        }
+
+        return new Decision(result.allowed(), limit.capacity(), result.remaining(), toSeconds(result.resetNanos()),
+                limit.windowSeconds(), Duration.ofNanos(result.retryAfterNanos()));
+    }
+
+    /**
+     * 유휴 버킷 제거. 제거와 동시에 사용된 버킷의 토큰 한 개는 반영되지 않을 수 있으나, 유휴 버킷이므로 제한에 영향은 없다.
+     */
+    private void sweep(final ConcurrentHashMap<String, TokenBucket> stripe, final long now) {
+        stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    private static long toSeconds(final long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public int bucketCount() {
+        int count = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("rate.limit.buckets", this, RateLimiter::bucketCount)
+                .description("the number of client/route token buckets in memory")
+                .register(registry);
+        FunctionCounter.builder("rate.limit.rejected", this, RateLimiter::rejectedCount)
+                .description("the number of requests rejected by the per-client rate limit")
+                .register(registry);
+    }
+
+    /**
+     * 요청 허용 여부와 RateLimit-* 응답 헤더 값
+     *
+     * @param allowed       요청 허용 여부
+     * @param limit         버킷 용량 (RateLimit-Limit)
+     * @param remaining     남은 토큰 수 (RateLimit-Remaining)
+     * @param resetSeconds  버킷이 가득 찰 때까지의 시간(초) (RateLimit-Reset)
+     * @param windowSeconds 빈 버킷이 가득 찰 때까지의 시간(초) (RateLimit-Policy)
+     * @param retryAfter    거절된 경우, 재시도 대기 시간
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetSeconds, long windowSeconds, Duration retryAfter) {
+    }
+}
@@ -0,0 +1,127 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 쓰기 직후 읽기 일관성(read-your-writes) 유지 시간 관리. <br/>
+ * 쓰기 트랜잭션이 커밋되면 현재 스레드(요청)에 일관성 유지 기한(현재 시각 + 유지 시간)을 기록하고,
+ * 기한 내의 읽기 전용 트랜잭션은 복제 지연으로 방금 쓴 데이터가 보이지 않는 일이 없도록 복제본 대신 원본에서 조회한다.
+ * 요청 사이의 기한은 {@link ReadYourWritesFilter}가 쿠키로 주고받으며, 요청 밖(백그라운드 작업)의 쓰기는 해당 스레드에만 적용된다.
+ * 스레드 풀에서 실행되는 작업은 {@link #decorate(Runnable)}로 감싸, 작업이 끝나면 기한이 스레드에 남지 않도록 한다.
+ * 결과를 오래 캐싱하는 조회는 {@link #onPrimary(LocalCache.Loader)}로 감싸, 복제 지연 이전 값이 캐싱되지 않도록 원본에서 조회한다.
+ */
+public class ReadYourWrites implements TransactionExecutionListener {
+
+    private final long windowMillis;
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    public ReadYourWrites(final Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window[" + window + "] must not be negative");
+        }
+
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * 요청 시작 시, 이전 요청에서 받은 일관성 유지 기한을 현재 스레드에 설정한다.
+     *
+     * @param primaryUntil 일관성 유지 기한(epoch millis). 없으면 0. 유지 시간보다 먼 기한은 유지 시간으로 줄인다.
+     * @param onWrite      쓰기 트랜잭션 커밋 시 새 기한을 전달받을 콜백
+     */
+    public void open(final long primaryUntil, final LongConsumer onWrite) {
+        scope.set(new Scope(Math.min(primaryUntil, System.currentTimeMillis() + windowMillis), onWrite));
+    }
+
+    /**
+     * 요청 종료 시, 현재 스레드의 기한을 제거한다.
+     */
+    public void close() {
+        scope.remove();
+    }
+
+    /**
+     * 스레드 풀 작업 단위로 기한을 관리하도록 감싼다. (TaskDecorator) <br/>
+     * 작업 중의 쓰기는 같은 작업의 읽기에만 적용되며, 작업이 끝나면 실패 여부와 관계없이 이전 상태로 되돌린다.
+     */
+    public Runnable decorate(final Runnable task) {
+        return () -> {
+            final Scope previous = scope.get();
+            scope.set(new Scope(0, null));
+
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    scope.remove();
+                } else {
+                    scope.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 조회 함수가 실행되는 동안 현재 스레드의 읽기를 원본에서 처리하도록 감싼다. <br/>
+     * 읽기 전용 트랜잭션의 커넥션은 첫 쿼리 시점에 얻으므로, 트랜잭션의 첫 쿼리가 조회 함수 안에서 실행되는 경우에만 적용된다.
+     */
+    public <K, V> LocalCache.Loader<K, V> onPrimary(final LocalCache.Loader<K, V> loader) {
+        return key -> {
+            final Scope previous = scope.get();
+            scope.set(new Scope(Long.MAX_VALUE, previous == null ? null : previous.onWrite));
+
+            try {
+                return loader.load(key);
+            } finally {
+                if (previous == null) {
+                    scope.remove();
+                } else {
+                    scope.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 읽기를 원본에서 처리해야 하는지 여부
+     */
+    public boolean isPrimaryRequired() {
+        final Scope current = scope.get();
+        return current != null && current.primaryUntil > System.currentTimeMillis();
+    }
+
+    @Override
+    public void afterCommit(final TransactionExecution transaction, final Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || windowMillis == 0) {
+            return;
+        }
+
+        Scope current = scope.get();
+        if (current == null) {
+            current = new Scope(0, null);
+            scope.set(current);
+        }
+
+        current.primaryUntil = System.currentTimeMillis() + windowMillis;
+        if (current.onWrite != null) {
+            current.onWrite.accept(current.primaryUntil);
+        }
+    }
+
+    private static final class Scope {
+
+        private long primaryUntil;
+        private final LongConsumer onWrite;
+
+        private Scope(final long primaryUntil, final LongConsumer onWrite) {
+            this.primaryUntil = primaryUntil;
+            this.onWrite = onWrite;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 요청(세션) 단위 쓰기 직후 읽기 일관성 필터. <br/>
+ * 요청 처리 중 쓰기 트랜잭션이 커밋되면 일관성 유지 기한을 쿠키로 내려주고,
+ * 이후 같은 클라이언트의 요청은 기한까지 읽기 전용 트랜잭션도 원본에서 조회하도록 {@link ReadYourWrites}에 기한을 설정한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(final ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        readYourWrites.open(primaryUntil(request), primaryUntil -> addCookie(response, primaryUntil));
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.close();
+        }
+    }
+
+    private static long primaryUntil(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * 쓰기 트랜잭션은 응답 본문을 기록하기 전(서비스 메서드 종료 시)에 커밋되므로, 대부분 응답이 커밋되기 전에 쿠키를 추가할 수 있다.
+     */
+    private static void addCookie(final HttpServletResponse response, final long primaryUntil) {
+        if (response.isCommitted()) {
+            return;
+        }
+
+        final ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(primaryUntil))
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(Duration.ofMillis(Math.max(0, primaryUntil - System.currentTimeMillis())))
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
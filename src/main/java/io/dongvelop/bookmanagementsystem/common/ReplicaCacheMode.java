@@ -0,0 +1,45 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 복제본으로 라우팅되는 읽기 전용 트랜잭션의 2차 캐시 사용 방식. <br/>
+ * 복제본은 원본보다 늦을 수 있으므로, 복제본에서 읽은 엔티티/쿼리 결과를 2차 캐시에 저장하면
+ * 원본의 변경으로 캐시가 무효화된 직후 이전 값이 다시 저장되어 캐시 유지 시간(ehcache.xml) 동안 조회될 수 있다.
+ * 복제본으로 라우팅되는 트랜잭션은 캐시를 조회만 하고({@link CacheMode#GET}) 저장하지 않는다.
+ * 캐시는 원본에서 읽은 트랜잭션(쓰기 트랜잭션, 쓰기 직후 읽기 일관성 유지 시간 내의 읽기 전용 트랜잭션)만 채운다.
+ */
+public class ReplicaCacheMode implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaCacheMode(final EntityManagerFactory entityManagerFactory, final ReadYourWrites readYourWrites) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWrites = readYourWrites;
+    }
+
+    /**
+     * 새 트랜잭션 시작 시, 복제본으로 라우팅될 읽기 전용 트랜잭션이면 캐시 저장을 끈다. (라우팅 기준은 {@link ReplicaDataSource}와 같다.)
+     * open-in-view 를 사용하지 않으므로 엔티티 매니저는 트랜잭션마다 새로 만들어지며, 설정은 이 트랜잭션에만 적용된다.
+     */
+    @Override
+    public void afterBegin(final TransactionExecution transaction, final Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isReadOnly() || readYourWrites.isPrimaryRequired()) {
+            return;
+        }
+
+        final EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 읽기 전용 커넥션 데이터소스. <br/>
+ * 커넥션을 요청할 때마다 복제본 데이터소스를 순서대로 돌아가며 선택한다.
+ * 현재 요청이 쓰기 직후 읽기 일관성 유지 시간 내에 있으면({@link ReadYourWrites}) 복제본 대신 원본에서 커넥션을 얻는다.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<? extends DataSource> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(
+            final DataSource primary,
+            final List<? extends DataSource> replicas,
+            final ReadYourWrites readYourWrites
+    ) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replicas must not be empty");
+        }
+
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    DataSource determineTarget() {
+        if (readYourWrites.isPrimaryRequired()) {
+            return primary;
+        }
+
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * 복제본 데이터소스를 닫는다. 원본 데이터소스는 별도 빈으로 관리되므로 닫지 않는다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.util.Arrays;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description 요청 로그 레코드. <br/>
+ * 요청 스레드에서는 참조만 보관하며, 인자의 문자열 변환은 로그를 기록하는 백그라운드 스레드에서 수행한다.
+ */
+public record RequestLog(
+        long timestamp,
+        String thread,
+        String httpMethod,
+        String uri,
+        String handler,
+        Object[] args,
+        String outcome,
+        long durationNanos,
+        String errorMessage
+) {
+
+    /**
+     * 인자 1개당 최대 출력 길이. 대량 등록 요청 등 큰 요청 객체가 그대로 출력되지 않도록 자른다.
+     */
+    private static final int MAX_ARG_LENGTH = 256;
+
+    public boolean isError() {
+        return errorMessage != null;
+    }
+
+    /**
+     * key=value 형태의 한 줄 로그로 변환한다.
+     */
+    public String render() {
+        final StringBuilder builder = new StringBuilder(256)
+                .append("method=").append(httpMethod)
+                .append(" uri=").append(uri)
+                .append(" handler=").append(handler)
+                .append(" outcome=").append(outcome)
+                .append(" durationMs=").append(durationNanos / 1_000_000).append('.').append(durationNanos / 100_000 % 10)
+                .append(" thread=").append(thread)
+                .append(" args=[");
+
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(renderArg(args[i]));
+        }
+        builder.append(']');
+
+        if (errorMessage != null) {
+            builder.append(" error=\"").append(errorMessage).append('"');
+        }
+
+        return builder.toString();
+    }
+
+    private static String renderArg(final Object arg) {
+        try {
+            final String value = arg instanceof Object[] array ? Arrays.toString(array) : String.valueOf(arg);
+            return value.length() > MAX_ARG_LENGTH ? value.substring(0, MAX_ARG_LENGTH) + "...(" + value.length() + ")" : value;
+        } catch (RuntimeException e) {
+            return arg.getClass().getSimpleName() + "(unrenderable)";
+        }
+    }
+}
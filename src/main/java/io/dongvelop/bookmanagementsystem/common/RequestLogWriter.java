@@ -0,0 +1,133 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description 요청 로그를 링 버퍼에 모아 백그라운드 스레드에서 기록하는 Writer. <br/>
+ * 성공한 요청은 설정한 비율로 샘플링하며, 실패한 요청은 항상 기록한다.
+ * 버퍼가 가득 찬 경우 성공 로그는 버리고(드롭 수 집계), 실패 로그는 요청 스레드에서 바로 기록한다.
+ */
+@Slf4j
+@Component
+public class RequestLogWriter implements SmartLifecycle {
+
+    /**
+     * 요청 로그 전용 로거. logging.level.request-log 로 별도 제어할 수 있다.
+     */
+    private static final Logger REQUEST_LOG = LoggerFactory.getLogger("request-log");
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MpscRingBuffer<RequestLog> buffer;
+    private final double sampleRate;
+    private final LongAdder dropCount = new LongAdder();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public RequestLogWriter(
+            @Value("${logging.request.buffer-size:8192}") final int bufferSize,
+            @Value("${logging.request.sample-rate:0.1}") final double sampleRate
+    ) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 성공한 요청을 샘플링 대상에 포함할지 결정한다. 샘플링되지 않은 요청은 로그 객체도 생성하지 않도록 먼저 호출한다.
+     */
+    public boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 로그를 버퍼에 추가한다. 요청 스레드를 대기시키지 않는다.
+     */
+    public void submit(final RequestLog requestLog) {
+        if (buffer.offer(requestLog)) {
+            return;
+        }
+
+        if (requestLog.isError()) {
+            REQUEST_LOG.warn(requestLog.render());
+        } else {
+            dropCount.increment();
+        }
+    }
+
+    public long dropCount() {
+        return dropCount.sum();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "request-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 로그를 모두 기록한 뒤 스레드를 정리한다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (dropCount() > 0) {
+            log.warn("request logs dropped[{}]", dropCount());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running || buffer.size() > 0) {
+            final RequestLog requestLog = buffer.poll();
+
+            if (requestLog == null) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            write(requestLog);
+        }
+    }
+
+    private void write(final RequestLog requestLog) {
+        try {
+            if (requestLog.isError()) {
+                REQUEST_LOG.warn(requestLog.render());
+            } else if (REQUEST_LOG.isInfoEnabled()) {
+                REQUEST_LOG.info(requestLog.render());
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to write request log", e);
+        }
+    }
+}
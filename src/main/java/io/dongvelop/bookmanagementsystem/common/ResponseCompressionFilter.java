@@ -0,0 +1,450 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 16
+ * @description 응답 gzip 압축 필터. <br/>
+ * 요청의 Accept-Encoding 에 gzip 이 허용된 경우, 응답 본문을 최소 크기까지만 버퍼링한다.
+ * 응답이 최소 크기 이하로 끝나면 압축하지 않고 Content-Length 와 함께 그대로 전송하고,
+ * 최소 크기를 넘으면 그 시점부터 gzip 으로 압축하며 스트리밍한다. (스트리밍 응답도 전체를 버퍼링하지 않는다.) <br/>
+ * 비동기 응답(startAsync)과 논블로킹 쓰기(WriteListener)는 압축하지 않고, 그때까지 버퍼링한 본문부터 원본 응답에 그대로 전달한다.
+ */
+@Component
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final boolean enabled;
+    private final int minResponseSize;
+    private final List<MediaType> mimeTypes;
+
+    public ResponseCompressionFilter(
+            @Value("${response.compression.enabled:true}") final boolean enabled,
+            @Value("${response.compression.min-response-size:2KB}") final DataSize minResponseSize,
+            @Value("${response.compression.mime-types:application/json,application/x-ndjson}") final String mimeTypes
+    ) {
+        if (minResponseSize.isNegative() || minResponseSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("minResponseSize[" + minResponseSize + "] is out of range");
+        }
+
+        this.enabled = enabled;
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.mimeTypes = MediaType.parseMediaTypes(mimeTypes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !enabled || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        // 압축 여부가 Accept-Encoding 에 따라 달라지므로, 공유 캐시가 인코딩별로 따로 저장하도록 한다.
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (!acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final CompressionResponse compressionResponse = new CompressionResponse(response);
+        filterChain.doFilter(request, compressionResponse);
+
+        if (request.isAsyncStarted()) {
+            // 필터가 반환된 뒤에도 다른 스레드에서 본문이 기록되므로, 이후 본문은 압축하지 않는다.
+            compressionResponse.passThrough(request.getAsyncContext());
+            return;
+        }
+
+        compressionResponse.finish();
+    }
+
+    /**
+     * Accept-Encoding 헤더에 q=0 이 아닌 gzip 또는 * 이 있는지 확인한다.
+     */
+    static boolean acceptsGzip(final HttpServletRequest request) {
+        final Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                final String[] parts = coding.split(";");
+                final String name = parts[0].trim();
+                if (!GZIP.equalsIgnoreCase(name) && !"*".equals(name)) {
+                    continue;
+                }
+
+                if (quality(parts) > 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static double quality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    private boolean isCompressible(final String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        final MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return mimeTypes.stream().anyMatch(mimeType -> mimeType.isCompatibleWith(mediaType));
+    }
+
+    /**
+     * 본문을 최소 크기까지 버퍼링하다가 압축 여부를 결정하는 응답. <br/>
+     * 압축 여부가 결정되기 전에는 Content-Length 를 원본 응답에 전달하지 않는다.
+     */
+    private final class CompressionResponse extends HttpServletResponseWrapper {
+
+        private CompressionOutputStream outputStream;
+        private PrintWriter writer;
+        private long contentLength = -1;
+
+        /**
+         * 압축하지 않고 원본 응답에 그대로 전달하는지 여부. 비동기 응답과 논블로킹 쓰기에서 사용한다.
+         */
+        private boolean passThrough;
+
+        private CompressionResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+
+            return compressionOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+
+                writer = new PrintWriter(new OutputStreamWriter(compressionOutputStream(), getCharacterEncoding()));
+            }
+
+            return writer;
+        }
+
+        private CompressionOutputStream compressionOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CompressionOutputStream(this);
+                if (passThrough) {
+                    outputStream.passThrough();
+                }
+            }
+
+            return outputStream;
+        }
+
+        @Override
+        public void setContentLength(final int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(final long length) {
+            if (passThrough) {
+                super.setContentLengthLong(length);
+                return;
+            }
+
+            this.contentLength = length;
+        }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !passThrough) {
+                this.contentLength = value == null ? -1 : Long.parseLong(value);
+                return;
+            }
+
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(final String name, final String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setHeader(name, value);
+                return;
+            }
+
+            super.addHeader(name, value);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+
+            // 압축 여부가 결정되기 전에는 응답을 커밋하지 않는다.
+            if (outputStream == null || outputStream.target != null) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            contentLength = -1;
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            } else if (contentLength >= 0) {
+                // 본문 없이 길이만 지정한 응답
+                super.setContentLengthLong(contentLength);
+            }
+        }
+
+        /**
+         * 이후 본문을 압축하지 않고 원본 응답에 그대로 전달한다. <br/>
+         * 비동기 처리 전에 이미 압축을 시작한 경우에는 압축을 이어가고, 비동기 처리가 끝날 때 압축 스트림을 마무리한다.
+         */
+        private void passThrough(final AsyncContext asyncContext) throws IOException {
+            if (outputStream != null && outputStream.gzip != null) {
+                asyncContext.addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(final AsyncEvent event) throws IOException {
+                        finish();
+                    }
+
+                    @Override
+                    public void onTimeout(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(final AsyncEvent event) {
+                    }
+                });
+                return;
+            }
+
+            passThrough = true;
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.passThrough();
+            } else if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+    }
+
+    private final class CompressionOutputStream extends ServletOutputStream {
+
+        private final CompressionResponse response;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        /**
+         * 압축 여부 결정 후 본문을 기록할 스트림. 결정 전에는 null 이다.
+         */
+        private OutputStream target;
+        private GZIPOutputStream gzip;
+        private boolean finished;
+
+        private CompressionOutputStream(final CompressionResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (target == null && buffer.size() + len > minResponseSize) {
+                start();
+            }
+
+            if (target == null) {
+                buffer.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        /**
+         * 최소 크기를 넘었으므로 압축 여부를 결정하고, 버퍼링한 본문을 먼저 기록한다.
+         */
+        private void start() throws IOException {
+            final HttpServletResponse original = (HttpServletResponse) response.getResponse();
+
+            if (!response.passThrough && isCompressible(response.getContentType()) && !original.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+                original.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+
+                // 압축된 본문은 원본과 바이트가 다르므로 강한 ETag 를 약한 ETag 로 바꾼다. (If-None-Match 는 약한 비교를 사용한다.)
+                final String etag = original.getHeader(HttpHeaders.ETAG);
+                if (etag != null && !etag.startsWith("W/")) {
+                    original.setHeader(HttpHeaders.ETAG, "W/" + etag);
+                }
+
+                // 압축 중 flush 시 그때까지의 본문이 바로 전송되도록 SYNC_FLUSH 를 사용한다.
+                gzip = new GZIPOutputStream(original.getOutputStream(), 8192, true);
+                target = gzip;
+            } else {
+                if (response.contentLength >= 0) {
+                    original.setContentLengthLong(response.contentLength);
+                }
+                target = original.getOutputStream();
+            }
+
+            buffer.writeTo(target);
+            buffer.reset();
+        }
+
+        /**
+         * 압축하지 않기로 결정하고, 버퍼링한 본문을 원본 응답에 먼저 기록한다.
+         */
+        private void passThrough() throws IOException {
+            if (gzip != null) {
+                throw new IllegalStateException("response is already being compressed");
+            }
+
+            response.passThrough = true;
+            if (target == null) {
+                start();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // 압축 여부가 결정되기 전의 flush 는 최소 크기까지 미룬다.
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        private void resetBuffer() {
+            if (target == null) {
+                buffer.reset();
+            }
+        }
+
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+
+            if (target == null) {
+                // 최소 크기 이하로 끝난 응답은 압축하지 않고 그대로 전송한다.
+                if (buffer.size() > 0) {
+                    final HttpServletResponse original = (HttpServletResponse) response.getResponse();
+                    original.setContentLength(buffer.size());
+                    buffer.writeTo(original.getOutputStream());
+                }
+                return;
+            }
+
+            if (gzip != null) {
+                gzip.finish();
+            }
+            target.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !(target instanceof ServletOutputStream servletOutputStream) || servletOutputStream.isReady();
+        }
+
+        /**
+         * 논블로킹 쓰기는 압축하지 않고 원본 스트림에 위임한다. 이미 압축을 시작한 경우에는 사용할 수 없다.
+         */
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            try {
+                passThrough();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            ((ServletOutputStream) target).setWriteListener(writeListener);
+        }
+    }
+}
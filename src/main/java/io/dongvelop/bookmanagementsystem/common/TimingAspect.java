@@ -0,0 +1,72 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 09
+ * @description `Aspect`를 이용해 Controller 및 Service 메서드의 응답 시간을 측정. <br/>
+ * 클래스/메서드/결과(outcome)별 Timer 로 기록하며, 백분위수(p50/p99/p999)와 히스토그램 설정은 application.yml 의
+ * management.metrics.distribution 에서 지정한다. 트랜잭션 커밋 시간까지 포함되도록 다른 Aspect 보다 바깥에서 실행된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TimingAspect {
+
+    public static final String ENDPOINT_TIMER = "api.endpoint";
+    public static final String SERVICE_TIMER = "api.service";
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * `endpoint` 패키지 내에 `@RestController` 애너테이션이 붙은 클래스의 메서드에 적용.
+     */
+    @Around("execution(* io.dongvelop.bookmanagementsystem.endpoint.*.*(..)) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeEndpoint(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(ENDPOINT_TIMER, joinPoint);
+    }
+
+    /**
+     * `service` 패키지 내에 `@Service` 애너테이션이 붙은 클래스의 public 메서드에 적용.
+     */
+    @Around("execution(public * io.dongvelop.bookmanagementsystem.service.*.*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    private Object time(final String name, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
+
+        try {
+            return joinPoint.proceed();
+        } catch (APIException e) {
+            outcome = e.getErrorType() == null ? e.getHttpStatus().name() : e.getErrorType().name();
+            throw e;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 락 없는 토큰 버킷. <br/>
+ * 남은 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 시각" 하나만 저장하고(GCRA), CAS 로 갱신한다.
+ * 요청 하나는 충전 간격(1 / 초당 충전량)만큼 그 시각을 뒤로 미루며, 그 시각이 현재로부터 용량 × 충전 간격보다 멀어지면 거절한다.
+ */
+final class TokenBucket {
+
+    /**
+     * 버킷이 가득 차는 시각(nanoTime). 현재 시각 이전이면 가득 찬 상태이다.
+     */
+    private final AtomicLong fullAt;
+
+    TokenBucket(final long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나를 사용한다.
+     *
+     * @param now            현재 시각(nanoTime)
+     * @param intervalNanos  토큰 하나의 충전 간격
+     * @param capacity       버킷 용량
+     * @return 요청 허용 여부와 남은 토큰 수, 버킷이 가득 찰 때까지의 시간 또는 재시도 대기 시간
+     */
+    Result tryAcquire(final long now, final long intervalNanos, final int capacity) {
+        final long burstNanos = intervalNanos * capacity;
+
+        while (true) {
+            final long current = fullAt.get();
+            final long next = Math.max(current, now) + intervalNanos;
+            final long untilFull = next - now;
+
+            if (untilFull > burstNanos) {
+                return new Result(false, 0, Math.max(0, current - now), untilFull - burstNanos);
+            }
+
+            if (fullAt.compareAndSet(current, next)) {
+                return new Result(true, (int) ((burstNanos - untilFull) / intervalNanos), untilFull, 0);
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 뒤로 idleNanos 이상 지났는지 여부. 가득 찬 버킷은 새 버킷과 같으므로 제거해도 제한에 영향이 없다.
+     */
+    boolean isIdle(final long now, final long idleNanos) {
+        return now - fullAt.get() > idleNanos;
+    }
+
+    /**
+     * @param allowed         요청 허용 여부
+     * @param remaining       남은 토큰 수
+     * @param resetNanos      버킷이 가득 찰 때까지의 시간
+     * @param retryAfterNanos 거절된 경우, 토큰 하나가 충전될 때까지의 시간
+     */
+    record Result(boolean allowed, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
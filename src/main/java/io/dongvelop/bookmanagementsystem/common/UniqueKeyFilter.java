@@ -0,0 +1,279 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 13
+ * @description 도서 ISBN / 저자 이메일 중복 확인용 인메모리 필터. <br/>
+ * 등록 요청의 ISBN/이메일은 대부분 새로운 값이므로, {@link CountingBloomFilter}로 "확실히 없는" 값을 걸러내어
+ * 중복일 가능성이 있는 값만 DB 로 확인한다. 애플리케이션 기동 후 테이블을 스트리밍으로 읽어 필터를 구성하며, 구성 전에는 항상 DB 로 확인한다.
+ * 키 추가는 즉시 반영하고 롤백 시 되돌리며, 키 제거는 커밋 후에 반영하여 필터가 DB 보다 먼저 "없음"으로 판단하지 않도록 한다.
+ * 필터별 메모리 사용량과 추정/실측 오탐률을 uniqueness.filter.* 지표로 노출한다.
+ */
+@Slf4j
+@Component
+public class UniqueKeyFilter implements MeterBinder {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+
+    private final KeyFilter<Isbn> isbnFilter;
+    private final KeyFilter<String> emailFilter;
+
+    public UniqueKeyFilter(
+            final BookRepository bookRepository,
+            final AuthorRepository authorRepository,
+            @Value("${uniqueness.filter.isbn.expected-insertions:1000000}") final long isbnExpectedInsertions,
+            @Value("${uniqueness.filter.email.expected-insertions:100000}") final long emailExpectedInsertions,
+            @Value("${uniqueness.filter.false-positive-rate:0.01}") final double falsePositiveRate
+    ) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.isbnFilter = new KeyFilter<>("isbn", isbn -> CountingBloomFilter.hash(isbn.packed()),
+                new CountingBloomFilter(isbnExpectedInsertions, falsePositiveRate));
+        this.emailFilter = new KeyFilter<>("email", CountingBloomFilter::hash,
+                new CountingBloomFilter(emailExpectedInsertions, falsePositiveRate));
+    }
+
+    /**
+     * 애플리케이션 기동 후 도서/저자 테이블의 ISBN, 이메일만 스트리밍으로 읽어 필터를 구성한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<Isbn> isbns = bookRepository.streamAllIsbns()) {
+            isbnFilter.build(isbns);
+        }
+        try (Stream<String> emails = authorRepository.streamAllEmails()) {
+            emailFilter.build(emails);
+        }
+    }
+
+    /**
+     * ISBN 중복 여부 확인. 필터에서 존재할 가능성이 있는 경우에만 DB 를 조회한다.
+     */
+    public boolean existsIsbn(final String isbn) {
+        final Isbn key = Isbn.tryParse(isbn);
+        if (key == null) {
+            // 유효하지 않은 ISBN 은 저장될 수 없으므로 존재하지 않는다.
+            return false;
+        }
+
+        return isbnFilter.exists(key, bookRepository::existsByIsbn);
+    }
+
+    /**
+     * 이메일 중복 여부 확인. 필터에서 존재할 가능성이 있는 경우에만 DB 를 조회한다.
+     */
+    public boolean existsEmail(final String email) {
+        if (email == null) {
+            return false;
+        }
+
+        return emailFilter.exists(email, authorRepository::existsByEmail);
+    }
+
+    /**
+     * 이미 존재하는 ISBN 목록 조회. 필터에서 존재할 가능성이 있는 ISBN 만 모아 한 번의 쿼리로 확인한다.
+     */
+    public Set<Isbn> findExistingIsbns(final Collection<Isbn> isbns) {
+        if (!isbnFilter.isReady()) {
+            return isbns.isEmpty() ? Set.of() : new HashSet<>(bookRepository.findExistingIsbns(isbns));
+        }
+
+        final List<Isbn> candidates = isbns.stream().filter(isbnFilter::mightContain).toList();
+        isbnFilter.negatives.add(isbns.size() - candidates.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        final Set<Isbn> existing = new HashSet<>(bookRepository.findExistingIsbns(candidates));
+        isbnFilter.duplicates.add(existing.size());
+        isbnFilter.falsePositives.add(candidates.size() - existing.size());
+
+        return existing;
+    }
+
+    public void addIsbn(final Isbn isbn) {
+        isbnFilter.add(isbn);
+    }
+
+    public void removeIsbn(final Isbn isbn) {
+        isbnFilter.remove(isbn);
+    }
+
+    public void addEmail(final String email) {
+        emailFilter.add(email);
+    }
+
+    public void removeEmail(final String email) {
+        emailFilter.remove(email);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (KeyFilter<?> filter : List.of(isbnFilter, emailFilter)) {
+            Gauge.builder("uniqueness.filter.memory", filter.bloomFilter, CountingBloomFilter::memoryBytes)
+                    .tags("filter", filter.name)
+                    .baseUnit("bytes")
+                    .description("the memory used by the filter counters")
+                    .register(registry);
+            Gauge.builder("uniqueness.filter.expected.false.positive.rate", filter.bloomFilter, CountingBloomFilter::expectedFalsePositiveRate)
+                    .tags("filter", filter.name)
+                    .description("the false positive rate estimated from the ratio of non-zero counters")
+                    .register(registry);
+            Gauge.builder("uniqueness.filter.false.positive.rate", filter, KeyFilter::observedFalsePositiveRate)
+                    .tags("filter", filter.name)
+                    .description("the ratio of lookups for new keys that still reached the database")
+                    .register(registry);
+            FunctionCounter.builder("uniqueness.filter.checks", filter.negatives, LongAdder::sum)
+                    .tags("filter", filter.name, "result", "negative")
+                    .description("the number of uniqueness checks answered by the filter without a database query")
+                    .register(registry);
+            FunctionCounter.builder("uniqueness.filter.checks", filter.duplicates, LongAdder::sum)
+                    .tags("filter", filter.name, "result", "duplicate")
+                    .description("the number of uniqueness checks confirmed as duplicates by the database")
+                    .register(registry);
+            FunctionCounter.builder("uniqueness.filter.checks", filter.falsePositives, LongAdder::sum)
+                    .tags("filter", filter.name, "result", "false_positive")
+                    .description("the number of uniqueness checks that reached the database for a new key")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 키 종류별 필터와 확인 결과 통계.
+     */
+    private static final class KeyFilter<K> {
+
+        private final String name;
+        private final ToLongFunction<K> hasher;
+        private final CountingBloomFilter bloomFilter;
+
+        private final LongAdder negatives = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder falsePositives = new LongAdder();
+
+        private volatile boolean ready = false;
+
+        private KeyFilter(final String name, final ToLongFunction<K> hasher, final CountingBloomFilter bloomFilter) {
+            this.name = name;
+            this.hasher = hasher;
+            this.bloomFilter = bloomFilter;
+        }
+
+        private void build(final Stream<K> keys) {
+            final LongAdder count = new LongAdder();
+            keys.forEach(key -> {
+                bloomFilter.put(hasher.applyAsLong(key));
+                count.increment();
+            });
+            ready = true;
+
+            log.info("uniqueness filter built. filter[{}], keys[{}], counters[{}], hashes[{}], memory[{}]",
+                    name, count.sum(), bloomFilter.counterCount(), bloomFilter.hashCount(), bloomFilter.memoryBytes());
+        }
+
+        private boolean isReady() {
+            return ready;
+        }
+
+        private boolean mightContain(final K key) {
+            return bloomFilter.mightContain(hasher.applyAsLong(key));
+        }
+
+        private boolean exists(final K key, final Predicate<K> database) {
+            if (!ready) {
+                return database.test(key);
+            }
+
+            if (!mightContain(key)) {
+                negatives.increment();
+                return false;
+            }
+
+            final boolean exists = database.test(key);
+            (exists ? duplicates : falsePositives).increment();
+
+            return exists;
+        }
+
+        /**
+         * 키를 즉시 추가한다. 트랜잭션 내에서 호출된 경우, 롤백 시 다시 제거한다.
+         */
+        private void add(final K key) {
+            final long hash = hasher.applyAsLong(key);
+            bloomFilter.put(hash);
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        if (status == STATUS_ROLLED_BACK) {
+                            bloomFilter.remove(hash);
+                        }
+                    }
+                });
+            }
+        }
+
+        /**
+         * 키를 제거한다. 트랜잭션 내에서 호출된 경우, 커밋 후에 제거한다. <br/>
+         * 필터 구성 전에 삭제된 키는 필터에 추가되었는지 알 수 없으므로 제거하지 않는다. (오탐만 늘어날 뿐 중복 확인은 정확하다.)
+         */
+        private void remove(final K key) {
+            final long hash = hasher.applyAsLong(key);
+
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                removeIfReady(hash);
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeIfReady(hash);
+                }
+            });
+        }
+
+        private void removeIfReady(final long hash) {
+            if (ready) {
+                bloomFilter.remove(hash);
+            }
+        }
+
+        /**
+         * 실측 오탐률. 새로운 키(DB 에 없는 키)를 확인한 요청 중 필터를 통과해 DB 까지 조회한 비율.
+         */
+        private double observedFalsePositiveRate() {
+            final long falsePositive = falsePositives.sum();
+            final long newKeys = falsePositive + negatives.sum();
+
+            return newKeys == 0 ? 0.0 : (double) falsePositive / newKeys;
+        }
+    }
+}
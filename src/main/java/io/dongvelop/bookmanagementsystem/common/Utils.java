@@ -1,11 +1,8 @@
 package io.dongvelop.bookmanagementsystem.common;
 
 import io.dongvelop.bookmanagementsystem.exception.APIException;
-import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
-import org.springframework.http.HttpStatus;
-import org.springframework.util.StringUtils;
 
 import java.util.Locale;
 
@@ -20,46 +17,13 @@ public final class Utils {
     }
 
     /**
-     * ISBN 유효성 검사 메서드
+     * ISBN 유효성 검사 메서드 <br/>
+     * 문자열을 한 번만 순회하는 {@link Isbn#pack10(CharSequence)}로 검증하며, 실패 시 규칙별 메시지로 예외가 발생한다.
      */
     public static void validateISBN10(final String isbn) throws APIException {
-        if (!StringUtils.hasText(isbn)) {
-            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 공백이거나 빈 값일 수 없습니다.");
-        }
-
-        if (isbn.chars().filter(ch -> ch == '-').count() != 2) {
-            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 하이픈(-)을 포함해야 합니다.");
-        }
-
-        final String cleanISBN = isbn.replaceAll("-", "");
-
-        if (!cleanISBN.matches("\\d{10}")) {
-            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10은 10자리 숫자여야 합니다.");
-        }
-
-        final String prefix = cleanISBN.substring(0, 3);
-        if (!isValidPrefix(prefix)) {
-            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10의 앞 세 자리는 100~900 사이여야 합니다.");
-        }
-
-        if (cleanISBN.charAt(9) != '0') {
-            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ISBN-10의 마지막 자리는 0이어야 합니다.");
-        }
-    }
-
-    /**
-     * ISBN 앞자리 유효성 검사 메서드
-     */
-    private static boolean isValidPrefix(String prefix) {
-        try {
-            final int prefixNum = Integer.parseInt(prefix);
-            return prefixNum >= 100 && prefixNum <= 900;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        Isbn.parseIsbn10(isbn);
     }
 
-
     /**
      * 해당 코드에 해당되는 다국어 메시지를 구한다.
      *
@@ -0,0 +1,13 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 11
+ * @description 응답 객체와, 응답 객체를 만든 엔티티 시점의 ETag 묶음. <br/>
+ * 캐시에 함께 저장하여 응답 본문과 ETag 가 항상 같은 시점의 데이터를 가리키도록 한다.
+ */
+public record Versioned<T>(
+        T body,
+        String etag
+) {
+}
@@ -0,0 +1,130 @@
+package io.dongvelop.bookmanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.dongvelop.bookmanagementsystem.common.ReadYourWrites;
+import io.dongvelop.bookmanagementsystem.common.ReadYourWritesFilter;
+import io.dongvelop.bookmanagementsystem.common.ReplicaCacheMode;
+import io.dongvelop.bookmanagementsystem.common.ReplicaDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 읽기 복제본 라우팅 데이터소스 설정. (db.replica.enabled=true 인 경우에만 적용) <br/>
+ * 서비스의 `@Transactional(readOnly = true)` 트랜잭션은 복제본으로, 쓰기 트랜잭션은 원본(spring.datasource)으로 보낸다.
+ * 트랜잭션 시작 시점에는 커넥션을 얻지 않는 {@link LazyConnectionDataSourceProxy}를 사용하여,
+ * 트랜잭션 매니저가 커넥션에 지정한 읽기 전용 여부를 보고 첫 쿼리 실행 시점에 실제 커넥션을 얻을 데이터소스를 고른다.
+ * 서비스 코드는 변경하지 않는다. <br/>
+ * 복제본에서 읽은 값은 2차 캐시에 저장하지 않으므로({@link ReplicaCacheMode}), 캐시 유지 시간 동안 복제 지연 이전의 값이 조회되지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * 원본 데이터소스. 커넥션 풀 설정은 spring.datasource.hikari 를 따른다.
+     */
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${db.replica.read-your-writes:5s}") final Duration window) {
+        return new ReadYourWrites(window);
+    }
+
+    /**
+     * 애플리케이션 스레드 풀(applicationTaskExecutor) 작업이 끝나면 쓰기 직후 읽기 일관성 기한을 스레드에서 제거한다.
+     */
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator(final ReadYourWrites readYourWrites) {
+        return readYourWrites::decorate;
+    }
+
+    /**
+     * 복제본으로 라우팅되는 읽기 전용 트랜잭션은 2차 캐시를 채우지 않는다.
+     */
+    @Bean
+    public ReplicaCacheMode replicaCacheMode(final EntityManagerFactory entityManagerFactory, final ReadYourWrites readYourWrites) {
+        return new ReplicaCacheMode(entityManagerFactory, readYourWrites);
+    }
+
+    /**
+     * 복제본 데이터소스. 접속 정보(계정, 드라이버)와 커넥션 풀 설정은 원본과 같고, URL 만 다르다.
+     * db.replica.migrate=true 인 경우 복제본에도 스키마 마이그레이션을 적용한다. (복제가 없는 로컬 H2 환경용)
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            final HikariDataSource primaryDataSource,
+            final DataSourceProperties properties,
+            final ReadYourWrites readYourWrites,
+            final Environment environment,
+            @Value("${db.replica.urls}") final String[] urls,
+            @Value("${db.replica.migrate:false}") final boolean migrate,
+            @Value("${spring.flyway.locations:classpath:db/migration}") final String[] migrationLocations
+    ) {
+        final List<HikariDataSource> replicas = new ArrayList<>(urls.length);
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+
+            final HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + replicas.size());
+
+            if (migrate) {
+                Flyway.configure().dataSource(replica).locations(migrationLocations).load().migrate();
+            }
+            replicas.add(replica);
+        }
+
+        return new ReplicaDataSource(primaryDataSource, replicas, readYourWrites);
+    }
+
+    /**
+     * JPA, Flyway, JdbcTemplate 이 사용하는 데이터소스. 읽기 전용 커넥션만 복제본 데이터소스에서 얻는다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primaryDataSource, final ReplicaDataSource replicaDataSource) {
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(final ReadYourWrites readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+}
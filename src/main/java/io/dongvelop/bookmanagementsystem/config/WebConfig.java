@@ -0,0 +1,63 @@
+package io.dongvelop.bookmanagementsystem.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dongvelop.bookmanagementsystem.common.RateLimitInterceptor;
+import io.dongvelop.bookmanagementsystem.common.RateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 17
+ * @description Spring MVC 설정 클래스 <br/>
+ * 요청/응답 본문을 JSON 외에 CBOR, Smile 바이너리 형식으로도 주고받을 수 있도록 변환기를 등록한다.
+ * 기본 변환기는 Spring Boot 의 Jackson 설정(spring.jackson.*)을 따르지 않으므로, 같은 설정으로 만든 변환기로 교체하여
+ * 형식과 관계없이 필드명과 날짜 표현(yyyy-MM-dd 문자열)이 JSON 과 동일하도록 한다. <br/>
+ * 요청 빈도 제한({@link RateLimiter})이 활성화된 경우 컨트롤러 실행 전에 적용되도록 인터셉터를 등록한다.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    private final ObjectProvider<RateLimiter> rateLimiter;
+    private final String rateLimitClientHeader;
+    private final int rateLimitTrustedProxies;
+
+    public WebConfig(
+            final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder,
+            final ObjectProvider<RateLimiter> rateLimiter,
+            @Value("${rate-limit.client-header:}") final String rateLimitClientHeader,
+            @Value("${rate-limit.trusted-proxies:1}") final int rateLimitTrustedProxies
+    ) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitClientHeader = rateLimitClientHeader;
+        this.rateLimitTrustedProxies = rateLimitTrustedProxies;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        rateLimiter.ifAvailable(limiter -> registry.addInterceptor(new RateLimitInterceptor(limiter, rateLimitClientHeader, rateLimitTrustedProxies)));
+    }
+
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
@@ -1,21 +1,42 @@
 package io.dongvelop.bookmanagementsystem.endpoint;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.JsonStreamWriter;
+import io.dongvelop.bookmanagementsystem.common.RateLimited;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.endpoint.spec.AuthorAPISpec;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDeletionResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.AuthorListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookCursorResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.CreateAuthorResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookRow;
+import io.dongvelop.bookmanagementsystem.service.AuthorDeletionJob;
+import io.dongvelop.bookmanagementsystem.service.AuthorDeletionService;
 import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import io.dongvelop.bookmanagementsystem.service.AuthorStatsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 /**
@@ -25,11 +46,14 @@ import java.util.List;
  */
 @Slf4j
 @RestController
-@RequestMapping("/authors")
+@RequestMapping(value = "/authors", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
 @RequiredArgsConstructor
 public class AuthorEndpoint implements AuthorAPISpec {
 
     private final AuthorService authorService;
+    private final AuthorDeletionService authorDeletionService;
+    private final AuthorStatsService authorStatsService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 저자 생성 API
@@ -37,7 +61,7 @@ public class AuthorEndpoint implements AuthorAPISpec {
      * @param request 생성할 저자 정보
      */
     @Override
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
     public ResponseEntity<CreateAuthorResponse> createAuthor(@RequestBody @Valid final CreateAuthorRequest request) throws APIException {
         return new ResponseEntity<>(
                 new CreateAuthorResponse(authorService.createAuthor(request).getId()),
@@ -46,30 +70,145 @@ public class AuthorEndpoint implements AuthorAPISpec {
     }
 
     /**
-     * 저자 목록 조회 API
+     * 저자 목록 조회 API <br/>
+     * 저자 목록을 한 번에 메모리에 올리지 않고, 청크 단위로 조회하여 저자 단위로 JSON 배열의 항목을 응답 스트림에 바로 기록한다.
      *
-     * @return 저자 목록
+     * @param response 응답 스트림
      */
     @Override
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<AuthorListResponse>> getAuthorList() {
-        return ResponseEntity.ok(authorService.getAuthorList()
-                .stream()
-                .map(AuthorListResponse::from)
-                .toList()
-        );
+    @RateLimited(RateLimited.Budget.SEARCH)
+    public void getAuthorList(final HttpServletResponse response) throws IOException {
+        final JsonStreamWriter<AuthorListResponse> writer = JsonStreamWriter.array(objectMapper, AuthorListResponse.class, response);
+        writeAuthorList(writer);
+        writer.finish();
+    }
+
+    /**
+     * 저자 통계 목록 조회 API <br/>
+     * 도서 변경 시 함께 갱신되는 저자별 통계만 조회하며, 도서 테이블은 읽지 않는다.
+     *
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 저자 아이디 순 통계 목록
+     */
+    @Override
+    @GetMapping("/stats")
+    @RateLimited(RateLimited.Budget.SEARCH)
+    public ResponseEntity<Page<AuthorStatsResponse>> getAuthorStatsList(
+            @RequestParam(required = false, defaultValue = "0") final int page,
+            @RequestParam(required = false, defaultValue = "10") final int size
+    ) {
+        return ResponseEntity.ok(authorStatsService.getAuthorStatsList(PageRequest.of(page, size)));
     }
 
     /**
-     * 저자 상세 조회 API
+     * 저자 다건 조회 API <br/>
+     * ids 파라미터가 있으면 목록 조회 대신, 요청한 아이디의 저자 상세 정보를 요청 순서대로 조회한다.
      *
-     * @param id 저자 아이디
+     * @param ids 조회할 저자 아이디 목록. (예: ids=1,2,3)
+     * @return 저자 상세 정보 목록 및 존재하지 않는 아이디 목록
+     */
+    @Override
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<AuthorDetailResponse>> getAuthorDetailList(@RequestParam final List<Long> ids) throws APIException {
+        return ResponseEntity.ok(authorService.getAuthorDetailList(ids));
+    }
+
+    /**
+     * 저자 목록 내보내기 API <br/>
+     * 저자 목록을 한 번에 메모리에 올리지 않고, 청크 단위로 조회하여 저자 한 명당 한 줄의 JSON(NDJSON)으로 응답 스트림에 바로 기록한다.
+     *
+     * @param response 응답 스트림
+     */
+    @Override
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimited(RateLimited.Budget.SEARCH)
+    public void exportAuthorList(final HttpServletResponse response) throws IOException {
+        final JsonStreamWriter<AuthorListResponse> writer = JsonStreamWriter.lines(objectMapper, AuthorListResponse.class, response);
+        writeAuthorList(writer);
+        writer.finish();
+    }
+
+    /**
+     * 저자 목록을 저자 아이디 순의 청크로 조회하여 기록한다. <br/>
+     * 청크 조회가 끝난 뒤에 응답에 기록하므로, 느린 클라이언트에게 기록하는 동안 DB 커넥션을 점유하지 않는다.
+     */
+    private void writeAuthorList(final JsonStreamWriter<AuthorListResponse> writer) {
+        Long after = 0L;
+
+        while (true) {
+            final List<List<AuthorBookRow>> authors = authorService.getAuthorBookGroups(after, Const.AUTHOR_LIST_CHUNK_SIZE);
+            if (authors.isEmpty()) {
+                return;
+            }
+
+            for (List<AuthorBookRow> rows : authors) {
+                writer.accept(toAuthorListResponse(rows));
+            }
+            after = authors.get(authors.size() - 1).get(0).authorId();
+        }
+    }
+
+    /**
+     * 한 저자의 저자-도서 조인 행을 저자 목록 응답으로 변환한다. 도서가 없는 저자는 도서 값이 null 인 한 행만 갖는다.
+     */
+    private static AuthorListResponse toAuthorListResponse(final List<AuthorBookRow> rows) {
+        final AuthorBookRow author = rows.get(0);
+        final List<BookListResponse> books = rows.stream()
+                .filter(row -> row.bookId() != null)
+                .map(row -> new BookListResponse(row.bookId(), row.title(), row.description(), row.publicationDate()))
+                .toList();
+
+        return new AuthorListResponse(author.name(), author.email(), books);
+    }
+
+    /**
+     * 저자 상세 조회 API <br/>
+     * If-None-Match 헤더가 있으면 수정 시각과 도서 수만 조회하여 ETag 를 비교하고, 일치하면 본문 없이 304로 응답한다.
+     *
+     * @param id          저자 아이디
+     * @param ifNoneMatch 클라이언트가 가진 ETag 목록
+     * @param accept      응답 형식. 형식마다 ETag 가 다르다.
      * @return 저자 정보
      */
     @Override
-    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<AuthorDetailResponse> getAuthorDetail(@PathVariable final Long id) throws APIException {
-        return ResponseEntity.ok(AuthorDetailResponse.of(authorService.getAuthorDetail(id)));
+    @GetMapping("/{id}")
+    public ResponseEntity<AuthorDetailResponse> getAuthorDetail(
+            @PathVariable final Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept
+    ) throws APIException {
+        final MediaType format = EntityTag.negotiate(accept);
+
+        if (ifNoneMatch != null) {
+            final String etag = EntityTag.forFormat(authorService.getAuthorETag(id), format);
+            if (EntityTag.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+
+        final Versioned<AuthorDetailResponse> detail = authorService.getCachedAuthorDetail(id);
+        return ResponseEntity.ok().eTag(EntityTag.forFormat(detail.etag(), format)).varyBy(HttpHeaders.ACCEPT).body(detail.body());
+    }
+
+    /**
+     * 저자 도서 목록 조회 API <br/>
+     * 응답의 `next_cursor` 값을 다음 요청의 `after` 값으로 전달하여 다음 페이지를 조회한다.
+     *
+     * @param id    저자 아이디
+     * @param after 이전 페이지의 마지막 커서
+     * @param size  페이지 크기
+     * @return 출판일 최신순 도서 목록
+     */
+    @Override
+    @GetMapping("/{id}/books")
+    public ResponseEntity<BookCursorResponse> getAuthorBooks(
+            @PathVariable final Long id,
+            @RequestParam(required = false) final String after,
+            @RequestParam(required = false, defaultValue = "10") final int size
+    ) throws APIException {
+        return ResponseEntity.ok(authorService.getAuthorBooks(id, after, size));
     }
 
     /**
@@ -79,21 +218,46 @@ public class AuthorEndpoint implements AuthorAPISpec {
      * @param request 수정할 정보
      */
     @Override
-    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
     public ResponseEntity<?> updateAuthor(@PathVariable final Long id, @RequestBody @Valid final UpdateAuthorRequest request) throws APIException {
         authorService.updateAuthor(id, request);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     /**
-     * 저자 삭제 API
+     * 저자 삭제 API <br/>
+     * async 가 true 이면 도서를 청크 단위로 삭제하는 백그라운드 작업을 등록하고, 진행 상태 조회 경로와 함께 202로 응답한다.
+     * 같은 저자의 삭제가 진행 중이면 동기/백그라운드 삭제 모두 409로 응답한다.
      *
-     * @param id 삭제할 저자 아이디
+     * @param id    삭제할 저자 아이디
+     * @param async 백그라운드 삭제 여부
      */
     @Override
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteAuthor(@PathVariable final Long id) throws APIException {
-        authorService.deleteAuthor(id);
+    public ResponseEntity<?> deleteAuthor(
+            @PathVariable final Long id,
+            @RequestParam(defaultValue = "false") final boolean async
+    ) throws APIException {
+        if (async) {
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(id);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/authors/deletions/" + job.getId()))
+                    .body(AuthorDeletionResponse.of(job));
+        }
+
+        authorDeletionService.deleteAuthor(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * 저자 백그라운드 삭제 진행 상태 조회 API
+     *
+     * @param jobId 삭제 작업 아이디
+     * @return 삭제 작업 진행 상태
+     */
+    @Override
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<AuthorDeletionResponse> getAuthorDeletion(@PathVariable final String jobId) throws APIException {
+        return ResponseEntity.ok(AuthorDeletionResponse.of(authorDeletionService.getDeletion(jobId)));
+    }
 }
@@ -1,12 +1,22 @@
 package io.dongvelop.bookmanagementsystem.endpoint;
 
+import io.dongvelop.bookmanagementsystem.common.BookCursor;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.RateLimited;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.endpoint.spec.BookAPISpec;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookBatchRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.BookCursorResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
 import io.dongvelop.bookmanagementsystem.payload.response.CreateBookResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.service.BookBatchService;
 import io.dongvelop.bookmanagementsystem.service.BookService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,11 +24,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
@@ -26,11 +39,12 @@ import org.springframework.web.bind.annotation.*;
  */
 @Slf4j
 @RestController
-@RequestMapping("/books")
+@RequestMapping(value = "/books", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
 @RequiredArgsConstructor
 public class BookEndpoint implements BookAPISpec {
 
     private final BookService bookService;
+    private final BookBatchService bookBatchService;
 
     /**
      * 도서 생성 API
@@ -38,7 +52,7 @@ public class BookEndpoint implements BookAPISpec {
      * @param request 생성할 도서 정보
      */
     @Override
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
     public ResponseEntity<CreateBookResponse> createBook(@RequestBody @Valid final CreateBookRequest request) throws APIException {
         return new ResponseEntity<>(
                 new CreateBookResponse(bookService.createBook(request).getId()),
@@ -46,6 +60,18 @@ public class BookEndpoint implements BookAPISpec {
         );
     }
 
+    /**
+     * 도서 대량 등록 API <br/>
+     * 항목별로 검증하여 등록 가능한 도서만 등록하고, 요청 순서별 결과를 반환한다.
+     *
+     * @param request 등록할 도서 목록
+     */
+    @Override
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<CreateBookBatchResponse> createBookBatch(@RequestBody @Valid final CreateBookBatchRequest request) {
+        return ResponseEntity.ok(bookBatchService.createBooks(request.books()));
+    }
+
     /**
      * 도서 목록 조회 <br/>
      *
@@ -53,7 +79,8 @@ public class BookEndpoint implements BookAPISpec {
      * @param size 페이지 크기
      */
     @Override
-    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping
+    @RateLimited(RateLimited.Budget.SEARCH)
     public ResponseEntity<Page<BookListResponse>> getBookList(
             @RequestParam(required = false, defaultValue = "0") final int page,
             @RequestParam(required = false, defaultValue = "10") final int size,
@@ -62,18 +89,67 @@ public class BookEndpoint implements BookAPISpec {
     ) {
         final PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sort));
 
-        return ResponseEntity.ok(bookService.getBookList(pageRequest, title).map(BookListResponse::of));
+        return ResponseEntity.ok(bookService.getBookList(pageRequest, title));
     }
 
     /**
-     * 도서 상세 조회 API
+     * 도서 다건 조회 API <br/>
+     * ids 파라미터가 있으면 목록 조회 대신, 요청한 아이디의 도서 상세 정보를 요청 순서대로 조회한다.
      *
-     * @param id 조회할 도서 아이디
+     * @param ids 조회할 도서 아이디 목록. (예: ids=1,2,3)
+     */
+    @Override
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<BookDetailResponse>> getBookDetailList(@RequestParam final List<Long> ids) throws APIException {
+        return ResponseEntity.ok(bookService.getBookDetailList(ids));
+    }
+
+    /**
+     * 커서 기반 도서 목록 조회 <br/>
+     * 응답의 `next_cursor` 값을 다음 요청의 `after` 값으로 전달하여 다음 페이지를 조회한다.
+     *
+     * @param after 이전 페이지의 마지막 커서
+     * @param size  페이지 크기
+     * @param sort  정렬 기준 [ id , title ]
+     */
+    @Override
+    @GetMapping("/scroll")
+    public ResponseEntity<BookCursorResponse> getBookScroll(
+            @RequestParam(required = false) final String after,
+            @RequestParam(required = false, defaultValue = "10") final int size,
+            @RequestParam(required = false, defaultValue = "id") final String sort
+    ) throws APIException {
+        final BookCursor.Sort cursorSort = BookCursor.Sort.from(sort);
+
+        return ResponseEntity.ok(BookCursorResponse.of(bookService.getBookScroll(after, size, cursorSort), cursorSort));
+    }
+
+    /**
+     * 도서 상세 조회 API <br/>
+     * If-None-Match 헤더가 있으면 수정 시각만 조회하여 ETag 를 비교하고, 일치하면 본문 없이 304로 응답한다.
+     *
+     * @param id          조회할 도서 아이디
+     * @param ifNoneMatch 클라이언트가 가진 ETag 목록
+     * @param accept      응답 형식. 형식마다 ETag 가 다르다.
      */
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<BookDetailResponse> getBookDetails(@PathVariable final Long id) throws APIException {
-        return ResponseEntity.ok(BookDetailResponse.of(bookService.getBookDetails(id)));
+    public ResponseEntity<BookDetailResponse> getBookDetails(
+            @PathVariable final Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept
+    ) throws APIException {
+        final MediaType format = EntityTag.negotiate(accept);
+
+        if (ifNoneMatch != null) {
+            final String etag = EntityTag.forFormat(bookService.getBookETag(id), format);
+            if (EntityTag.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+
+        final Versioned<BookDetailResponse> detail = bookService.getCachedBookDetails(id);
+        return ResponseEntity.ok().eTag(EntityTag.forFormat(detail.etag(), format)).varyBy(HttpHeaders.ACCEPT).body(detail.body());
     }
 
     /**
@@ -83,7 +159,7 @@ public class BookEndpoint implements BookAPISpec {
      * @param request 수정할 도서 정보
      */
     @Override
-    @PatchMapping("/{id}")
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, Const.APPLICATION_SMILE_VALUE})
     public ResponseEntity<?> updateBook(@PathVariable final Long id, @RequestBody @Valid final UpdateBookRequest request) throws APIException {
         bookService.updateBook(id, request);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -3,21 +3,33 @@ package io.dongvelop.bookmanagementsystem.endpoint.spec;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDeletionResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorListResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
  * @description 저자 API 명세
  */
-@Tag(name = "Author", description = "저자 API Endpoint")
+@Tag(name = "Author", description = """
+        저자 API Endpoint. 요청/응답 본문은 Content-Type / Accept 헤더로 JSON(application/json, 기본값),
+        CBOR(application/cbor), Smile(application/x-jackson-smile) 중 선택할 수 있습니다.
+        단, 저자 목록 조회/내보내기 API 는 JSON / NDJSON 스트리밍만 지원합니다.
+        """)
 public interface AuthorAPISpec {
 
     @Operation(summary = "저자 생성 API", description = "저자의 이메일은 고유해야 합니다.")
@@ -50,15 +62,79 @@ public interface AuthorAPISpec {
     })
     ResponseEntity<?> createAuthor(CreateAuthorRequest request) throws APIException;
 
-    @Operation(summary = "저자 목록 조회 API")
+    @Operation(summary = "저자 목록 조회 API",
+            description = "전체 저자 목록을 JSON 배열로 스트리밍합니다. 저자 수와 관계없이 서버 메모리 사용량이 일정하며, Accept-Encoding 에 gzip 이 포함되면 압축하여 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = AuthorListResponse.class))
+                    )
+            ),
+    })
+    void getAuthorList(HttpServletResponse response) throws IOException;
+
+    @Operation(summary = "저자 통계 목록 조회 API",
+            description = "저자별 도서 수, 가장 이른/늦은 출판일, 마지막 통계 갱신 시각을 저자 아이디 순으로 페이징하여 조회합니다. 통계는 도서 등록/수정/삭제 시 함께 갱신됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
     })
-    ResponseEntity<?> getAuthorList();
+    ResponseEntity<?> getAuthorStatsList(int page, int size) throws APIException;
+
+    @Operation(summary = "저자 다건 조회 API",
+            description = "ids 파라미터로 전달한 아이디의 저자를 도서 목록과 함께 한 번에 조회합니다. 결과는 요청 순서대로 반환하며, 존재하지 않는 아이디는 not_found 로 반환합니다. 아이디는 최대 100개까지 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "일부 아이디가 존재하지 않을 경우", value = """
+                                            {
+                                              "content": [
+                                                { "id": 2, "name": "name2", "email": "name2@email.com", "books": [] }
+                                              ],
+                                              "not_found": [ 3 ]
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "최대 아이디 수를 초과한 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[ids size[101] must be less than or equal to 100]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> getAuthorDetailList(List<Long> ids) throws APIException;
+
+    @Operation(summary = "저자 목록 내보내기 API",
+            description = "전체 저자 목록을 저자 한 명당 한 줄의 JSON(application/x-ndjson)으로 스트리밍합니다. 저자 수와 관계없이 서버 메모리 사용량이 일정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "저자 목록", value = """
+                                            {"name":"name1","email":"name1@email.com","books":[]}
+                                            {"name":"name2","email":"name2@email.com","books":[]}
+                                            """),
+                            }
+                    )
+            ),
+    })
+    void exportAuthorList(HttpServletResponse response) throws IOException;
 
-    @Operation(summary = "저자 상세 조회 API", description = "")
+    @Operation(summary = "저자 상세 조회 API", description = """
+            도서 목록은 최근 출판 도서 10건만 응답하며, 전체 도서 수는 book_count 로 응답합니다. 전체 도서 목록은 저자 도서 목록 조회 API 로 조회합니다.
+            응답의 ETag 값을 If-None-Match 헤더로 전달하면, 저자와 저자의 도서 목록에 변경이 없는 경우 본문 없이 304로 응답합니다.
+            """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음. If-None-Match 의 ETag 와 현재 ETag 가 일치할 경우"),
             @ApiResponse(responseCode = "404", description = "요청 실패. 상세 에러 코드 참고.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             examples = {
@@ -72,7 +148,38 @@ public interface AuthorAPISpec {
                     )
             ),
     })
-    ResponseEntity<?> getAuthorDetail(Long id) throws APIException;
+    ResponseEntity<?> getAuthorDetail(Long id, String ifNoneMatch, String accept) throws APIException;
+
+    @Operation(summary = "저자 도서 목록 조회 API",
+            description = "저자의 도서를 출판일 최신순(출판일이 없는 도서는 마지막)으로 조회합니다. 응답의 next_cursor 값을 after 파라미터로 전달하면 다음 페이지를 조회하며, 페이지 크기는 최대 100입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "커서 값이 유효하지 않을 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[after[abc] is invalid cursor]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "존재하지 않는 저자 아이디일 경우", value = """
+                                            {
+                                              "error_code": "104",
+                                              "error_message": "데이터가 존재하지 않습니다.[authorId[1] not found]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> getAuthorBooks(Long id, String after, int size) throws APIException;
 
     @Operation(summary = "저자 수정 API", description = "저자 정보는 이름만 수정할 수 있습니다.")
     @ApiResponses(value = {
@@ -104,8 +211,28 @@ public interface AuthorAPISpec {
     })
     ResponseEntity<?> updateAuthor(Long id, UpdateAuthorRequest request) throws APIException;
 
-    @Operation(summary = "저자 삭제 API", description = "저자를 삭제할 경우, 저자가 등록한 도서까지 모두 삭제됩니다.")
+    @Operation(summary = "저자 삭제 API", description = """
+            저자를 삭제할 경우, 저자가 등록한 도서까지 모두 삭제됩니다.
+            async=true 인 경우 도서를 청크 단위로 삭제하는 백그라운드 작업을 등록하며, Location 헤더의 경로로 진행 상태를 조회할 수 있습니다.
+            동기 삭제는 도서가 1,000권 이하인 저자만 가능하며, 그보다 많으면 async=true 로 삭제해야 합니다.
+            """)
     @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "백그라운드 삭제 작업 등록 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "삭제 작업 등록", value = """
+                                            {
+                                              "job_id": "0f8e6a1c-6a41-4c1e-9d0c-3b1f1c2b7a10",
+                                              "author_id": 1,
+                                              "status": "RUNNING",
+                                              "total_books": 120000,
+                                              "deleted_books": 0,
+                                              "started_at": "2025-03-12T10:00:00"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
             @ApiResponse(responseCode = "204", description = "요청 성공"),
             @ApiResponse(responseCode = "404", description = "요청 실패. 상세 에러 코드 참고.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -119,6 +246,42 @@ public interface AuthorAPISpec {
                             }
                     )
             ),
+            @ApiResponse(responseCode = "409", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "같은 저자의 삭제 작업이 진행 중일 경우", value = """
+                                            {
+                                              "error_code": "108",
+                                              "error_message": "현재 상태에서 처리할 수 없는 요청입니다.[authorId[1] deletion is already running]"
+                                            }
+                                            """),
+                                    @ExampleObject(name = "동기 삭제 가능한 도서 수를 넘는 경우", value = """
+                                            {
+                                              "error_code": "108",
+                                              "error_message": "현재 상태에서 처리할 수 없는 요청입니다.[authorId[1] has more than 1000 books. delete asynchronously(async=true)]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> deleteAuthor(Long id, boolean async) throws APIException;
+
+    @Operation(summary = "저자 백그라운드 삭제 진행 상태 조회 API", description = "삭제된 도서 수와 작업 상태(RUNNING, COMPLETED, FAILED)를 조회합니다. 종료된 작업은 보관 기간이 지나면 조회되지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "404", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "존재하지 않는 작업 아이디일 경우", value = """
+                                            {
+                                              "error_code": "104",
+                                              "error_message": "데이터가 존재하지 않습니다.[jobId[0f8e6a1c-6a41-4c1e-9d0c-3b1f1c2b7a10] not found]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
     })
-    ResponseEntity<?> deleteAuthor(Long id) throws APIException;
+    ResponseEntity<AuthorDeletionResponse> getAuthorDeletion(String jobId) throws APIException;
 }
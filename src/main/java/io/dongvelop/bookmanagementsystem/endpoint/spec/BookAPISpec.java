@@ -1,6 +1,7 @@
 package io.dongvelop.bookmanagementsystem.endpoint.spec;
 
 import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookBatchRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,12 +13,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
  * @description 도서 API 명세
  */
-@Tag(name = "Book", description = "도서 API Endpoint")
+@Tag(name = "Book", description = """
+        도서 API Endpoint. 요청/응답 본문은 Content-Type / Accept 헤더로 JSON(application/json, 기본값),
+        CBOR(application/cbor), Smile(application/x-jackson-smile) 중 선택할 수 있습니다.
+        """)
 public interface BookAPISpec {
 
     @Operation(summary = "도서 생성 API", description = "도서의 ISBN은 고유해야 합니다.")
@@ -74,15 +80,108 @@ public interface BookAPISpec {
     })
     ResponseEntity<?> createBook(CreateBookRequest request) throws APIException;
 
+    @Operation(summary = "도서 대량 등록 API",
+            description = "최대 10,000건의 도서를 한 번에 등록합니다. 일부 도서의 등록에 실패하더라도 나머지 도서는 등록되며, 요청 순서(index)별 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공. 항목별 결과는 results 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "일부 도서가 중복된 ISBN일 경우", value = """
+                                            {
+                                              "requested": 2,
+                                              "created": 1,
+                                              "failed": 1,
+                                              "results": [
+                                                { "index": 0, "isbn": "123-456789-0", "id": 1 },
+                                                { "index": 1, "isbn": "123-456780-0", "error_code": "103", "reason": "isbn[123-456780-0] is already exist" }
+                                              ]
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "도서 목록이 비어있거나 최대 건수를 초과한 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[[books : 비어 있을 수 없습니다]]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> createBookBatch(CreateBookBatchRequest request);
+
     @Operation(summary = "도서 목록 조회 API", description = "제목을 포함하여 검색이 가능하며, 결과는 페이징 처리되어 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
     })
     ResponseEntity<?> getBookList(int page, int size, String sortBy, String title) throws APIException;
 
-    @Operation(summary = "도서 상세 조회 API", description = "")
+    @Operation(summary = "도서 다건 조회 API",
+            description = "ids 파라미터로 전달한 아이디의 도서를 한 번에 조회합니다. 결과는 요청 순서대로 반환하며, 존재하지 않는 아이디는 not_found 로 반환합니다. 아이디는 최대 100개까지 조회할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "일부 아이디가 존재하지 않을 경우", value = """
+                                            {
+                                              "content": [
+                                                { "id": 2, "title": "title", "description": "description", "isbn": "123-456789-0", "publication_date": "2025-03-14", "author_id": 1 }
+                                              ],
+                                              "not_found": [ 3 ]
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "최대 아이디 수를 초과한 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[ids size[101] must be less than or equal to 100]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> getBookDetailList(List<Long> ids) throws APIException;
+
+    @Operation(summary = "커서 기반 도서 목록 조회 API",
+            description = "카운트 쿼리와 OFFSET 없이 조회합니다. 응답의 next_cursor 값을 after 파라미터로 전달하면 다음 페이지를 조회하며, 페이지 크기는 최대 100입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 실패. 상세 에러 코드 참고.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = {
+                                    @ExampleObject(name = "지원하지 않는 정렬 기준일 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[sort[isbn] is not supported]"
+                                            }
+                                            """),
+                                    @ExampleObject(name = "커서 값이 유효하지 않을 경우", value = """
+                                            {
+                                              "error_code": "101",
+                                              "error_message": "입력값이 올바르지 않습니다.[after[abc] is invalid cursor]"
+                                            }
+                                            """),
+                            }
+                    )
+            ),
+    })
+    ResponseEntity<?> getBookScroll(String after, int size, String sort) throws APIException;
+
+    @Operation(summary = "도서 상세 조회 API", description = "응답의 ETag 값을 If-None-Match 헤더로 전달하면, 변경이 없는 경우 본문 없이 304로 응답합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "요청 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음. If-None-Match 의 ETag 와 현재 ETag 가 일치할 경우"),
             @ApiResponse(responseCode = "404", description = "요청 실패. 상세 에러 코드 참고.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             examples = {
@@ -96,7 +195,7 @@ public interface BookAPISpec {
                     )
             ),
     })
-    ResponseEntity<?> getBookDetails(Long id) throws APIException;
+    ResponseEntity<?> getBookDetails(Long id, String ifNoneMatch, String accept) throws APIException;
 
     @Operation(summary = "도서 수정 API", description = "도서 정보는 제목/설명/출판일만 수정할 수 있습니다.")
     @ApiResponses(value = {
@@ -8,6 +8,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
 
@@ -19,9 +21,12 @@ import java.util.List;
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
- * @description 저자 Entity Model.
+ * @description 저자 Entity Model. <br/>
+ * 2차 캐시(author 영역)에 캐싱되며, 변경 시 커밋과 함께 캐시 항목이 갱신된다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "author")
 @Getter
 @Table(name = "author")
 @ToString(exclude = {"books"})
@@ -48,9 +53,11 @@ public class Author extends BaseEntity implements Serializable {
     private String email;
 
     /**
-     * 도서 목록
+     * 도서 목록. 도서 아이디 목록이 2차 캐시(author.books 영역)에 캐싱되며,
+     * 도서 등록/삭제/저자 변경 시 해당 저자의 캐시 항목이 제거된다. (hibernate.cache.auto_evict_collection_cache)
      */
     @OneToMany(mappedBy = "author")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "author.books")
     private final List<Book> books = new ArrayList<>();
 
     public Author(final String name, final String email) {
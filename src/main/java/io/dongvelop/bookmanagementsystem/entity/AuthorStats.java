@@ -0,0 +1,133 @@
+package io.dongvelop.bookmanagementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 저자별 도서 통계 Entity Model. <br/>
+ * 도서 등록/수정/삭제 시 증분으로 갱신되며, 마지막 갱신 시각은 updatedAt 이다.
+ * 삭제/수정된 도서의 출판일이 범위의 경계였던 경우에만 출판일 범위를 다시 계산해야 한다.
+ */
+@Entity
+@Getter
+@Table(name = "author_stats")
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorStats extends BaseEntity implements Persistable<Long> {
+
+    /**
+     * 저자 아이디를 그대로 사용하므로, 저장 시 SELECT 후 병합하지 않도록 새 엔티티 여부를 직접 관리한다.
+     */
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "book_count", nullable = false)
+    private long bookCount;
+
+    /**
+     * 가장 이른 출판일. 출판일이 있는 도서가 없으면 null.
+     */
+    @Column(name = "first_publication_date")
+    private LocalDate firstPublicationDate;
+
+    /**
+     * 가장 늦은 출판일. 출판일이 있는 도서가 없으면 null.
+     */
+    @Column(name = "last_publication_date")
+    private LocalDate lastPublicationDate;
+
+    @Transient
+    @ToString.Exclude
+    private boolean isNew = true;
+
+    public AuthorStats(final Long authorId) {
+        this.authorId = authorId;
+    }
+
+    @Override
+    public Long getId() {
+        return authorId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 도서 추가. 출판일이 없는 도서는 도서 수에만 반영한다.
+     */
+    public void addBook(final LocalDate publicationDate) {
+        this.bookCount++;
+        includeDate(publicationDate);
+    }
+
+    /**
+     * 도서 삭제
+     *
+     * @return 출판일 범위를 다시 계산해야 하는지 여부
+     */
+    public boolean removeBook(final LocalDate publicationDate) {
+        this.bookCount = Math.max(0, this.bookCount - 1);
+        return isBoundary(publicationDate);
+    }
+
+    /**
+     * 도서의 출판일 변경
+     *
+     * @return 출판일 범위를 다시 계산해야 하는지 여부
+     */
+    public boolean changePublicationDate(final LocalDate before, final LocalDate after) {
+        if (Objects.equals(before, after)) {
+            return false;
+        }
+        if (isBoundary(before)) {
+            return true;
+        }
+
+        includeDate(after);
+        return false;
+    }
+
+    /**
+     * 도서 테이블에서 집계한 값으로 통계를 덮어쓴다.
+     */
+    public void reset(final long bookCount, final LocalDate firstPublicationDate, final LocalDate lastPublicationDate) {
+        this.bookCount = bookCount;
+        this.firstPublicationDate = firstPublicationDate;
+        this.lastPublicationDate = lastPublicationDate;
+    }
+
+    private void includeDate(final LocalDate publicationDate) {
+        if (publicationDate == null) {
+            return;
+        }
+        if (firstPublicationDate == null || publicationDate.isBefore(firstPublicationDate)) {
+            this.firstPublicationDate = publicationDate;
+        }
+        if (lastPublicationDate == null || publicationDate.isAfter(lastPublicationDate)) {
+            this.lastPublicationDate = publicationDate;
+        }
+    }
+
+    private boolean isBoundary(final LocalDate publicationDate) {
+        return publicationDate != null
+                && (publicationDate.equals(firstPublicationDate) || publicationDate.equals(lastPublicationDate));
+    }
+}
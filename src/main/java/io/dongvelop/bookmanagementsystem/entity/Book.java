@@ -1,7 +1,8 @@
 package io.dongvelop.bookmanagementsystem.entity;
 
 import io.dongvelop.bookmanagementsystem.common.Const;
-import io.dongvelop.bookmanagementsystem.common.Utils;
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+import io.dongvelop.bookmanagementsystem.common.IsbnConverter;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
 import jakarta.persistence.*;
@@ -9,6 +10,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.StringUtils;
 
 import java.io.Serial;
@@ -19,11 +23,14 @@ import java.util.Objects;
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
- * @description 도서 Entity Model
+ * @description 도서 Entity Model <br/>
+ * 2차 캐시(book 영역)에 캐싱되며, 변경 시 커밋과 함께 캐시 항목이 갱신된다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
 @Getter
-@Table(name = "book")
+@Table(name = "book") // 테이블 및 인덱스는 Flyway 마이그레이션(db/migration)으로 관리한다.
 @ToString(exclude = {"author"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book extends BaseEntity implements Serializable {
@@ -31,8 +38,13 @@ public class Book extends BaseEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = -7890108862165975032L;
 
+    /**
+     * IDENTITY 전략은 INSERT 시점에 아이디가 결정되어 JDBC 배치 INSERT 가 불가능하므로,
+     * 시퀀스를 미리 할당받는(pooled) SEQUENCE 전략을 사용한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(name = "book_seq_generator", sequenceName = "book_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq_generator")
     private Long id;
 
     /**
@@ -48,10 +60,11 @@ public class Book extends BaseEntity implements Serializable {
     private String description;
 
     /**
-     * [필수. 고유] ISBN
+     * [필수. 고유] ISBN. 문자열 대신 압축된 숫자 값으로 저장하여 고유 인덱스의 크기와 비교 비용을 줄인다.
      */
+    @Convert(converter = IsbnConverter.class)
     @Column(name = "isbn", nullable = false, unique = true)
-    private String isbn;
+    private Isbn isbn;
 
     /**
      * [선택] 출판일
@@ -69,18 +82,31 @@ public class Book extends BaseEntity implements Serializable {
     public Book(String title, String nullableDescription, String isbn,
                 LocalDate nullablePublicationDate, Author author) throws APIException {
 
-        Utils.validateISBN10(isbn);
-
         this.title = title;
         this.description = nullableDescription;
-        this.isbn = isbn;
+        this.isbn = Isbn.parseIsbn10(isbn);
         this.publicationDate = nullablePublicationDate;
         this.setAuthor(author);
     }
 
+    /**
+     * 연관관계 편의 메서드. <br/>
+     * 저자의 도서 목록이 아직 로딩되지 않은 경우, 도서 추가만을 위해 전체 목록을 조회하지 않도록 컬렉션을 건드리지 않는다.
+     */
     private void setAuthor(Author author) {
         this.author = author;
-        author.getBooks().add(this);
+
+        if (Hibernate.isInitialized(author) && Hibernate.isInitialized(author.getBooks())) {
+            author.getBooks().add(this);
+        }
+    }
+
+    public String getIsbn() {
+        return this.isbn.toString();
+    }
+
+    public Isbn getIsbnKey() {
+        return this.isbn;
     }
 
     public String getDescription() {
@@ -91,6 +117,13 @@ public class Book extends BaseEntity implements Serializable {
         return Objects.requireNonNullElse(this.publicationDate, LocalDate.now());
     }
 
+    /**
+     * 저장된 출판일. 출판일이 없으면 null 이며, 정렬 등 저장된 값 그대로가 필요한 경우에 사용한다.
+     */
+    public LocalDate getPublicationDateOrNull() {
+        return this.publicationDate;
+    }
+
     public void update(final UpdateBookRequest request) {
         if (StringUtils.hasText(request.title())) {
             this.title = request.title();
@@ -0,0 +1,86 @@
+package io.dongvelop.bookmanagementsystem.entity;
+
+import io.dongvelop.bookmanagementsystem.common.ChangeEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 발행 전 변경 이벤트 Entity Model (Transactional Outbox). <br/>
+ * 도서/저자 변경과 같은 트랜잭션에서 저장되므로, 변경이 커밋된 경우에만 이벤트가 남는다. 발행 후에는 삭제된다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox_event")
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    /**
+     * 대량 등록 시 이벤트도 JDBC 배치 INSERT 로 저장하기 위해 SEQUENCE 전략을 사용한다.
+     */
+    @Id
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    private Long id;
+
+    /**
+     * 발행 순번. INSERT 시점에 DB 가 할당하므로(outbox_event_order_seq), 조회한 이벤트에만 값이 있다.
+     */
+    @Column(name = "seq", nullable = false, insertable = false, updatable = false)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "aggregate_type", nullable = false)
+    private ChangeEvent.Aggregate aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false)
+    private ChangeEvent.Type eventType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private OutboxEvent(final ChangeEvent.Aggregate aggregateType, final Long aggregateId, final Long authorId, final ChangeEvent.Type eventType) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.authorId = authorId;
+        this.eventType = eventType;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent ofBook(final Long bookId, final Long authorId, final ChangeEvent.Type eventType) {
+        return new OutboxEvent(ChangeEvent.Aggregate.BOOK, bookId, authorId, eventType);
+    }
+
+    /**
+     * 저자는 프록시 상태로 두고 아이디만 사용한다.
+     */
+    public static OutboxEvent ofBook(final Book book, final ChangeEvent.Type eventType) {
+        return ofBook(book.getId(), book.getAuthor().getId(), eventType);
+    }
+
+    public static OutboxEvent ofAuthor(final Long authorId, final ChangeEvent.Type eventType) {
+        return new OutboxEvent(ChangeEvent.Aggregate.AUTHOR, authorId, authorId, eventType);
+    }
+
+    public ChangeEvent toChangeEvent() {
+        return new ChangeEvent(id, seq, aggregateType, aggregateId, authorId, eventType, createdAt);
+    }
+}
@@ -34,6 +34,26 @@ public enum ErrorType {
      */
     NOT_EXIST_DATA("104"),
 
+    /**
+     * DB 요청이 많아 처리할 수 없습니다.
+     */
+    DB_BUSY("105"),
+
+    /**
+     * 요청이 많아 처리할 수 없습니다.(동시 처리 한도 초과)
+     */
+    OVERLOADED("106"),
+
+    /**
+     * 요청 빈도가 허용량을 넘었습니다.
+     */
+    TOO_MANY_REQUESTS("107"),
+
+    /**
+     * 현재 상태에서 처리할 수 없는 요청입니다.
+     */
+    CONFLICT_STATE("108"),
+
     /**
      * 직접 정의하는 메시지.
      */
@@ -2,11 +2,14 @@ package io.dongvelop.bookmanagementsystem.exception;
 
 import io.dongvelop.bookmanagementsystem.common.Const;
 import io.dongvelop.bookmanagementsystem.common.Utils;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintDefinitionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -28,11 +31,18 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    public static final String ERROR_COUNTER = "api.errors";
+
     @Value("${spring.web.locale:ko_KR}")
     private Locale locale;
 
     private final MessageSource messageSource;
 
+    /**
+     * 에러 타입별 발생 횟수 집계용. Actuator 가 없는 환경(슬라이스 테스트 등)에서는 집계하지 않는다.
+     */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     /**
      * Checked Exception 처리
      */
@@ -42,6 +52,37 @@ public class GlobalExceptionHandler {
         return getExceptionResponse(e.getErrorType(), e.getMessage(), e.getHttpStatus());
     }
 
+    /**
+     * 과부하 등으로 요청을 처리할 수 없는 경우. 재시도 대기 시간이 있으면 Retry-After 헤더로 전달한다.
+     */
+    @ExceptionHandler(value = ServiceUnavailableException.class)
+    public ResponseEntity<?> serviceUnavailableException(ServiceUnavailableException e) {
+        log.warn(e.getMessage());
+        final ResponseEntity<?> response = getExceptionResponse(e.getErrorType(), e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+
+        if (e.getRetryAfter() == null) {
+            return response;
+        }
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
+    /**
+     * 클라이언트의 요청 빈도가 허용량을 넘은 경우. 재시도 대기 시간을 Retry-After 헤더로 전달한다.
+     */
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<?> tooManyRequestsException(TooManyRequestsException e) {
+        // 요청이 과도한 클라이언트의 거절 로그가 쌓이지 않도록 debug 로 기록한다. (거절 횟수는 rate.limit.rejected 지표)
+        log.debug(e.getMessage());
+        final ResponseEntity<?> response = getExceptionResponse(e.getErrorType(), e.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000)))
+                .body(response.getBody());
+    }
+
     /**
      * RequestParam 및 PathParam 에서 선언한 매개변수의 타입과 불일치시 발생하는 예외
      */
@@ -90,6 +131,12 @@ public class GlobalExceptionHandler {
     private ResponseEntity<?> getExceptionResponse(final ErrorType errorType, final String message, final HttpStatus status, final Locale locale) {
         log.debug("errorType[{}], message[{}], status[{}], locale[{}]", errorType, message, status, locale);
 
+        meterRegistry.ifAvailable(registry -> registry.counter(ERROR_COUNTER,
+                "error_code", errorType.getValue(),
+                "error_type", errorType.name(),
+                "status", String.valueOf(status.value())
+        ).increment());
+
         final ErrorResponse response = new ErrorResponse(errorType.getValue(), Utils.getLocaleMessage(messageSource, errorType.getValue(), message, locale));
         return new ResponseEntity<>(response, status);
     }
@@ -0,0 +1,32 @@
+package io.dongvelop.bookmanagementsystem.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 10
+ * @description 서버가 일시적으로 요청을 처리할 수 없는 경우(과부하 등)의 예외. <br/>
+ * 서비스 메서드의 시그니처와 무관하게 AOP 에서 던질 수 있도록 Unchecked Exception 으로 정의하며, 503 으로 응답한다.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -4785216014583302911L;
+
+    private final ErrorType errorType;
+
+    /**
+     * 클라이언트에게 Retry-After 헤더로 전달할 재시도 대기 시간. 없을 경우 null.
+     */
+    private final transient Duration retryAfter;
+
+    public ServiceUnavailableException(final ErrorType errorType, final String message, final Duration retryAfter) {
+        super(message);
+        this.errorType = errorType;
+        this.retryAfter = retryAfter;
+    }
+}
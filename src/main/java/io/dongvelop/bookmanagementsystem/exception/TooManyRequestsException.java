@@ -0,0 +1,32 @@
+package io.dongvelop.bookmanagementsystem.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 클라이언트의 요청 빈도가 허용량을 넘은 경우의 예외. <br/>
+ * 컨트롤러 실행 전(인터셉터)에 던질 수 있도록 Unchecked Exception 으로 정의하며, 429 로 응답한다.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 3308216853904147728L;
+
+    private final ErrorType errorType;
+
+    /**
+     * 클라이언트에게 Retry-After 헤더로 전달할 재시도 대기 시간
+     */
+    private final transient Duration retryAfter;
+
+    public TooManyRequestsException(final ErrorType errorType, final String message, final Duration retryAfter) {
+        super(message);
+        this.errorType = errorType;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,20 @@
+package io.dongvelop.bookmanagementsystem.payload.request;
+
+import io.dongvelop.bookmanagementsystem.common.Const;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 05
+ * @description 도서 대량 등록 API 요청 클래스. <br/>
+ * 개별 도서의 유효성 검증은 요청 전체를 실패시키지 않도록 등록 처리 중에 항목별로 수행한다.
+ */
+public record CreateBookBatchRequest(
+        @NotEmpty
+        @Size(max = Const.MAX_BOOK_BATCH_SIZE)
+        List<CreateBookRequest> books
+) {
+}
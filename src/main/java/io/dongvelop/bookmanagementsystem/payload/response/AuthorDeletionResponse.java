@@ -0,0 +1,43 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dongvelop.bookmanagementsystem.service.AuthorDeletionJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 12
+ * @description 저자 백그라운드 삭제 작업 진행 상태 응답 클래스
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuthorDeletionResponse(
+        @JsonProperty("job_id")
+        String jobId,
+        @JsonProperty("author_id")
+        Long authorId,
+        AuthorDeletionJob.Status status,
+        @JsonProperty("total_books")
+        long totalBooks,
+        @JsonProperty("deleted_books")
+        long deletedBooks,
+        @JsonProperty("started_at")
+        LocalDateTime startedAt,
+        @JsonProperty("finished_at")
+        LocalDateTime finishedAt,
+        String error
+) {
+    public static AuthorDeletionResponse of(final AuthorDeletionJob job) {
+        return new AuthorDeletionResponse(
+                job.getId(),
+                job.getAuthorId(),
+                job.getStatus(),
+                job.getTotalBooks(),
+                job.getDeletedBooks(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError()
+        );
+    }
+}
@@ -1,26 +1,50 @@
 package io.dongvelop.bookmanagementsystem.payload.response;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dongvelop.bookmanagementsystem.common.Const;
 import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
- * @description 저자 상세 조회 API 응답 클래스
+ * @description 저자 상세 조회 API 응답 클래스. <br/>
+ * 도서 목록은 최근 출판 도서 {@link Const#AUTHOR_BOOK_PREVIEW_SIZE}건만 담고, 전체 도서 수를 함께 응답한다.
+ * 전체 도서 목록은 저자 도서 목록 API(GET /authors/{id}/books)로 조회한다.
  */
 public record AuthorDetailResponse(
         Long id,
         String name,
         String email,
-        List<BookListResponse> books
+        List<BookListResponse> books,
+        @JsonProperty("book_count")
+        long bookCount
 ) {
+
+    /**
+     * 저자 도서 목록 API 와 같은 순서. 출판일 내림차순(출판일이 없는 도서는 마지막), 아이디 내림차순.
+     */
+    private static final Comparator<Book> PREVIEW_ORDER = Comparator
+            .comparing(Book::getPublicationDateOrNull, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Book::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    public static AuthorDetailResponse of(final Author author, final List<BookListResponse> preview, final long bookCount) {
+        return new AuthorDetailResponse(author.getId(), author.getName(), author.getEmail(), preview, bookCount);
+    }
+
+    /**
+     * 도서 목록이 이미 로딩된 저자의 상세 응답. 로딩된 도서 중 최근 출판 도서만 담는다.
+     */
     public static AuthorDetailResponse of(final Author author) {
-        return new AuthorDetailResponse(
-                author.getId(),
-                author.getName(),
-                author.getEmail(),
-                author.getBooks().stream().map(BookListResponse::of).toList()
-        );
+        final List<BookListResponse> preview = author.getBooks().stream()
+                .sorted(PREVIEW_ORDER)
+                .limit(Const.AUTHOR_BOOK_PREVIEW_SIZE)
+                .map(BookListResponse::of)
+                .toList();
+
+        return of(author, preview, author.getBooks().size());
     }
 }
@@ -0,0 +1,26 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 저자 통계 목록 조회 API 응답 클래스
+ *
+ * @param authorId             저자 아이디
+ * @param name                 저자 이름
+ * @param bookCount            도서 수
+ * @param firstPublicationDate 가장 이른 출판일. 출판일이 있는 도서가 없으면 null.
+ * @param lastPublicationDate  가장 늦은 출판일. 출판일이 있는 도서가 없으면 null.
+ * @param updatedAt            마지막 통계 갱신 시각
+ */
+public record AuthorStatsResponse(
+        Long authorId,
+        String name,
+        long bookCount,
+        LocalDate firstPublicationDate,
+        LocalDate lastPublicationDate,
+        LocalDateTime updatedAt
+) {
+}
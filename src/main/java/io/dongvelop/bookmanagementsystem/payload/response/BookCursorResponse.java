@@ -0,0 +1,33 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dongvelop.bookmanagementsystem.common.BookCursor;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 02
+ * @description 커서 기반 도서 목록 조회 API 응답 클래스
+ */
+public record BookCursorResponse(
+        List<BookListResponse> content,
+        @JsonProperty("next_cursor")
+        String nextCursor,
+        @JsonProperty("has_next")
+        boolean hasNext
+) {
+    public static BookCursorResponse of(final Slice<Book> slice, final BookCursor.Sort sort) {
+        final List<Book> books = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !books.isEmpty()) {
+            final Book last = books.get(books.size() - 1);
+            nextCursor = new BookCursor(sort, last.getId(), sort == BookCursor.Sort.TITLE ? last.getTitle() : null).encode();
+        }
+
+        return new BookCursorResponse(books.stream().map(BookListResponse::of).toList(), nextCursor, slice.hasNext());
+    }
+}
@@ -18,4 +18,13 @@ public record BookListResponse(
     public static BookListResponse of(Book book) {
         return new BookListResponse(book.getId(), book.getTitle(), book.getDescription(), book.getPublicationDate());
     }
+
+    /**
+     * 커서 조회, 쿼리 캐시 등을 위해 그대로 조회한 출판일을, 도서 엔티티와 같이 출판일이 없으면 오늘 날짜로 응답한다.
+     */
+    public BookListResponse withPublicationDate() {
+        return publicationDate != null
+                ? this
+                : new BookListResponse(id, title, description, LocalDate.now());
+    }
 }
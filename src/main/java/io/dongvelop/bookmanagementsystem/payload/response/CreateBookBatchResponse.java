@@ -0,0 +1,52 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 05
+ * @description 도서 대량 등록 API 응답 클래스
+ */
+public record CreateBookBatchResponse(
+        int requested,
+        int created,
+        int failed,
+        List<Result> results
+) {
+
+    /**
+     * 요청 순서(index)별 등록 결과. 성공 시 도서 아이디가, 실패 시 에러 코드와 사유가 채워진다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(
+            int index,
+            String isbn,
+            Long id,
+            @JsonProperty("error_code")
+            String errorCode,
+            String reason
+    ) {
+        public static Result created(final int index, final String isbn, final Long id) {
+            return new Result(index, isbn, id, null, null);
+        }
+
+        public static Result failed(final int index, final String isbn, final ErrorType errorType, final String reason) {
+            return new Result(index, isbn, null, errorType.getValue(), reason);
+        }
+
+        @JsonIgnore
+        public boolean isCreated() {
+            return id != null;
+        }
+    }
+
+    public static CreateBookBatchResponse of(final List<Result> results) {
+        final int created = (int) results.stream().filter(Result::isCreated).count();
+        return new CreateBookBatchResponse(results.size(), created, results.size() - created, results);
+    }
+}
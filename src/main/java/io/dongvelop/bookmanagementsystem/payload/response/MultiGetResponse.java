@@ -0,0 +1,47 @@
+package io.dongvelop.bookmanagementsystem.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 14
+ * @description 아이디 목록 다건 조회 API 응답 클래스. <br/>
+ * 조회 결과는 요청한 아이디 순서를 따르며, 존재하지 않는 아이디는 not_found 에 요청 순서대로 담는다.
+ */
+public record MultiGetResponse<T>(
+        List<T> content,
+        @JsonProperty("not_found")
+        List<Long> notFound
+) {
+
+    /**
+     * 요청한 아이디 순서대로 조회 결과를 정렬하고, 조회되지 않은 아이디를 모은다.
+     *
+     * @param ids   요청한 아이디 목록 (중복 없음)
+     * @param found 조회 결과. 순서는 무관하다.
+     * @param idOf  조회 결과의 아이디
+     */
+    public static <T> MultiGetResponse<T> of(final List<Long> ids, final Collection<T> found, final Function<T, Long> idOf) {
+        final Map<Long, T> byId = found.stream().collect(Collectors.toMap(idOf, Function.identity()));
+
+        final List<T> content = new ArrayList<>(byId.size());
+        final List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            final T item = byId.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                notFound.add(id);
+            }
+        }
+
+        return new MultiGetResponse<>(content, notFound);
+    }
+}
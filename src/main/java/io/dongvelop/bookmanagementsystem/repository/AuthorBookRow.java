@@ -0,0 +1,20 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import java.time.LocalDate;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 04
+ * @description 저자 목록 스트리밍 조회 시 사용하는 저자-도서 조인 결과의 한 행. <br/>
+ * 도서가 없는 저자의 경우 도서 관련 값은 모두 null 이다.
+ */
+public record AuthorBookRow(
+        Long authorId,
+        String name,
+        String email,
+        Long bookId,
+        String title,
+        String description,
+        LocalDate publicationDate
+) {
+}
@@ -0,0 +1,19 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import java.time.LocalDate;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 저자의 도서 수와 출판일 범위 집계 결과. 저자별 도서 통계를 다시 계산할 때 저자의 도서만 인덱스로 읽어 집계한다.
+ *
+ * @param bookCount            저자의 도서 수
+ * @param firstPublicationDate 가장 이른 출판일. 출판일이 있는 도서가 없으면 null.
+ * @param lastPublicationDate  가장 늦은 출판일. 출판일이 있는 도서가 없으면 null.
+ */
+public record AuthorBookSummary(
+        long bookCount,
+        LocalDate firstPublicationDate,
+        LocalDate lastPublicationDate
+) {
+}
@@ -1,10 +1,21 @@
 package io.dongvelop.bookmanagementsystem.repository;
 
 import io.dongvelop.bookmanagementsystem.entity.Author;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author 이동엽(Lee Dongyeop)
@@ -22,8 +33,89 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * 저자 목록 조회. 추후 확장성을 대비해 미리 페치조인 작성함.
+     * 저자 이메일 조회. 저자 삭제 시 엔티티를 읽지 않고 존재 여부와 이메일을 함께 확인한다.
+     *
+     * @param id 저자 아이디
+     * @return 이메일
+     */
+    @Query("SELECT a.email FROM Author a WHERE a.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
+
+    /**
+     * 저자를 행 잠금과 함께 조회. 통계 행이 없는 저자의 통계 생성을 트랜잭션 종료까지 직렬화할 때 사용한다.
+     *
+     * @param id 저자 아이디
+     * @return 저자. 없으면 빈 값.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Author a WHERE a.id = :id")
+    Optional<Author> findForUpdate(@Param("id") Long id);
+
+    /**
+     * 저자 상세 응답의 변경 여부 확인용 조회. 저자와 도서 엔티티를 읽지 않고 수정 시각과 도서 수만 집계한다.
+     *
+     * @param id 저자 아이디
+     * @return 저자 및 도서의 수정 시각과 도서 수. 저자가 없으면 빈 값.
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.repository.AuthorVersion(a.updatedAt, MAX(b.updatedAt), COUNT(b.id))
+            FROM Author a LEFT JOIN a.books b
+            WHERE a.id = :id
+            GROUP BY a.id, a.updatedAt
+            """)
+    Optional<AuthorVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 아이디 목록에 해당하는 저자를 도서와 함께 조회. 다건 조회 시 하나의 IN 쿼리로 조회하며, 순서는 보장하지 않는다.
+     *
+     * @param ids 저자 아이디 목록
+     * @return 저자 목록
+     */
+    @Query("SELECT a FROM Author a LEFT JOIN FETCH a.books WHERE a.id IN :ids")
+    List<Author> findAllWithBooksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 커서(저자 아이디) 이후의 저자 아이디를 아이디 순으로 조회. 저자 목록을 청크 단위로 읽을 때 청크의 범위를 정한다.
+     *
+     * @param after    이전 청크의 마지막 저자 아이디. 첫 청크는 0.
+     * @param pageable 청크 크기
+     * @return 저자 아이디 목록
+     */
+    @Query("SELECT a.id FROM Author a WHERE a.id > :after ORDER BY a.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 아이디 범위에 해당하는 저자-도서 조인 행 조회. <br/>
+     * 엔티티 대신 조인 행을 저자 아이디, 도서 아이디 순으로 읽어오므로, 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+     *
+     * @param from 첫 저자 아이디
+     * @param to   마지막 저자 아이디
+     * @return 저자-도서 조인 행 목록. 도서가 없는 저자도 한 행으로 포함한다.
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.repository.AuthorBookRow(
+                a.id, a.name, a.email, b.id, b.title, COALESCE(b.description, ''), COALESCE(b.publicationDate, CURRENT_DATE))
+            FROM Author a LEFT JOIN a.books b
+            WHERE a.id BETWEEN :from AND :to
+            ORDER BY a.id, b.id
+            """)
+    List<AuthorBookRow> findAuthorBooksByIdBetween(@Param("from") Long from, @Param("to") Long to);
+
+    /**
+     * 저자 삭제. 엔티티를 읽지 않고 하나의 DELETE 문으로 삭제한다. 저자의 도서가 남아 있으면 외래 키 제약으로 실패한다.
+     *
+     * @param id 저자 아이디
+     * @return 삭제된 저자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Author a WHERE a.id = :id")
+    int deleteAuthorById(@Param("id") Long id);
+
+    /**
+     * 전체 이메일 스트리밍 조회. 중복 확인 필터 구성 시 엔티티를 읽지 않고 이메일만 읽어온다. <br/>
+     * 반드시 트랜잭션 내에서 호출하고, 사용 후 스트림을 닫아야 한다.
      */
-    @Query("SELECT a FROM Author a LEFT JOIN FETCH a.books")
-    List<Author> findAuthors();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.email FROM Author a")
+    Stream<String> streamAllEmails();
 }
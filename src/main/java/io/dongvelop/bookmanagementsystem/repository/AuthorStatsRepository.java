@@ -0,0 +1,57 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import io.dongvelop.bookmanagementsystem.entity.AuthorStats;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 저자별 도서 통계 JPA Repository
+ */
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+
+    /**
+     * 갱신할 저자 통계를 행 잠금과 함께 조회. 같은 저자의 도서를 동시에 변경해도 갱신이 유실되지 않도록 트랜잭션 종료까지 잠근다.
+     *
+     * @param authorId 저자 아이디
+     * @return 저자 통계. 통계 행이 없으면 빈 값.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AuthorStats s WHERE s.authorId = :authorId")
+    Optional<AuthorStats> findForUpdate(@Param("authorId") Long authorId);
+
+    /**
+     * 저자 통계 목록 조회. 도서 테이블은 읽지 않고, 저자 이름만 기본 키로 조인한다.
+     *
+     * @param pageable 페이지 번호 및 크기
+     * @return 저자 아이디 순 통계 목록
+     */
+    @Query(value = """
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse(
+                s.authorId, a.name, s.bookCount, s.firstPublicationDate, s.lastPublicationDate, s.updatedAt)
+            FROM AuthorStats s JOIN Author a ON a.id = s.authorId
+            ORDER BY s.authorId
+            """,
+            countQuery = "SELECT COUNT(s) FROM AuthorStats s JOIN Author a ON a.id = s.authorId")
+    Page<AuthorStatsResponse> findStatsList(Pageable pageable);
+
+    /**
+     * 저자 통계 삭제. 엔티티를 읽지 않고 하나의 DELETE 문으로 삭제한다.
+     *
+     * @param authorId 저자 아이디
+     * @return 삭제된 통계 수
+     */
+    @Modifying
+    @Query("DELETE FROM AuthorStats s WHERE s.authorId = :authorId")
+    int deleteByAuthorId(@Param("authorId") Long authorId);
+}
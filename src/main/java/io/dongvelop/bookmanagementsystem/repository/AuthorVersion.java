@@ -0,0 +1,19 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 11
+ * @description 저자 상세 응답의 변경 여부 확인용 조회 결과. 저자와 도서 엔티티를 읽지 않고 수정 시각과 도서 수만 조회한다.
+ *
+ * @param updatedAt      저자 수정 시각
+ * @param booksUpdatedAt 저자의 도서 중 가장 최근 수정 시각. 도서가 없으면 null.
+ * @param bookCount      저자의 도서 수
+ */
+public record AuthorVersion(
+        LocalDateTime updatedAt,
+        LocalDateTime booksUpdatedAt,
+        Long bookCount
+) {
+}
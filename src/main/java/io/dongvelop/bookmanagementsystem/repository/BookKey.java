@@ -0,0 +1,14 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+
+import java.time.LocalDate;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 13
+ * @description 도서 아이디와 ISBN 조회용 Projection. 일괄 삭제 후 캐시/색인/중복 확인 필터를 정리할 때 엔티티 대신 사용한다. <br/>
+ * 출판일은 저자 통계에 삭제를 증분으로 반영할 때 사용한다. 출판일이 없는 도서는 null.
+ */
+public record BookKey(Long id, Isbn isbn, LocalDate publicationDate) {
+}
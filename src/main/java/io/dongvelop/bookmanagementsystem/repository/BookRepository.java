@@ -1,9 +1,24 @@
 package io.dongvelop.bookmanagementsystem.repository;
 
+import io.dongvelop.bookmanagementsystem.common.Isbn;
 import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author 이동엽(Lee Dongyeop)
@@ -18,13 +33,251 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      * @param isbn 국제 표준 도서번호
      * @return 존재 여부
      */
-    boolean existsByIsbn(String isbn);
+    boolean existsByIsbn(Isbn isbn);
+
+    /**
+     * ISBN 존재 여부 검증. 유효하지 않은 ISBN 은 저장될 수 없으므로 존재하지 않는 것으로 판단한다.
+     *
+     * @param isbn 국제 표준 도서번호
+     * @return 존재 여부
+     */
+    default boolean existsByIsbn(String isbn) {
+        final Isbn key = Isbn.tryParse(isbn);
+        return key != null && existsByIsbn(key);
+    }
+
+    /**
+     * 주어진 ISBN 중 이미 존재하는 ISBN 목록 조회. 대량 등록 시 한 번의 IN 쿼리로 중복 여부를 확인한다.
+     *
+     * @param isbns 확인할 ISBN 목록
+     * @return 이미 존재하는 ISBN 목록
+     */
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<Isbn> findExistingIsbns(@Param("isbns") Collection<Isbn> isbns);
 
     /**
-     * 제목을 포함한 도서 목록 조회
+     * 도서 수정 시각 조회. 상세 조회 응답의 ETag 를 엔티티를 읽지 않고 확인할 때 사용한다.
+     *
+     * @param id 도서 아이디
+     * @return 수정 시각. 도서가 없으면 빈 값.
+     */
+    @Query("SELECT b.updatedAt FROM Book b WHERE b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * 도서 목록 조회 <br/>
+     * 엔티티 대신 목록 응답에 필요한 컬럼만 조회하므로, 영속성 컨텍스트에 엔티티와 변경 감지용 스냅샷이 쌓이지 않는다.
+     *
+     * @param pageable 페이지 번호, 크기 및 정렬 정보
+     * @return 도서 목록
+     */
+    @Query(value = """
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), COALESCE(b.publicationDate, CURRENT_DATE))
+            FROM Book b
+            """,
+            countQuery = "SELECT COUNT(b) FROM Book b")
+    Page<BookListResponse> findBookList(Pageable pageable);
+
+    /**
+     * 제목을 포함한 도서 목록 조회 (대소문자 구분 없음) <br/>
+     * 검색어의 `%`, `_` 는 와일드카드가 아닌 문자로 취급하며, 목록 응답에 필요한 컬럼만 조회한다. <br/>
+     * 조회 결과와 카운트는 쿼리 캐시(book.title-search 영역)에 캐싱되며, 도서 테이블이 변경되면 무효화된다.
+     * 캐싱된 결과에 조회 시점의 날짜가 남지 않도록 출판일은 그대로 조회하며, 출판일이 없는 도서의 기본값은 서비스에서 채운다.
      *
      * @param title 제목
+     * @return 도서 목록. 출판일이 없는 도서의 출판일은 null.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "book.title-search")
+    })
+    @Query(value = """
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), b.publicationDate)
+            FROM Book b
+            WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}
+            """,
+            countQuery = """
+                    SELECT COUNT(b) FROM Book b
+                    WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}
+                    """)
+    Page<BookListResponse> findBooksByTitleContainsIgnoreCase(@Param("title") String title, Pageable pageable);
+
+    /**
+     * 아이디 목록에 해당하는 도서 목록 조회. 목록 응답에 필요한 컬럼만 조회하며, 순서는 보장하지 않는다.
+     *
+     * @param ids 도서 아이디 목록
      * @return 도서 목록
      */
-    Page<Book> findBooksByTitleContainsIgnoreCase(String title, Pageable pageable);
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), COALESCE(b.publicationDate, CURRENT_DATE))
+            FROM Book b
+            WHERE b.id IN :ids
+            """)
+    List<BookListResponse> findBookListByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 아이디 목록에 해당하는 도서를 저자와 함께 조회. 다건 조회 시 하나의 IN 쿼리로 조회하며, 순서는 보장하지 않는다.
+     *
+     * @param ids 도서 아이디 목록
+     * @return 도서 목록
+     */
+    @Query("SELECT b FROM Book b JOIN FETCH b.author WHERE b.id IN :ids")
+    List<Book> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 커서 기반 도서 목록 조회 - 아이디 정렬의 첫 페이지
+     *
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 목록
+     */
+    List<Book> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 커서 기반 도서 목록 조회 - 아이디 정렬의 다음 페이지
+     *
+     * @param id       마지막으로 조회한 도서 아이디
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 목록
+     */
+    List<Book> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    /**
+     * 커서 기반 도서 목록 조회 - 제목 정렬의 첫 페이지
+     *
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 목록
+     */
+    List<Book> findAllByOrderByTitleDescIdDesc(Pageable pageable);
+
+    /**
+     * 커서 기반 도서 목록 조회 - 제목 정렬의 다음 페이지 <br/>
+     * OFFSET 없이 마지막으로 조회한 (제목, 아이디) 이후부터 탐색한다.
+     * `title <= :title` 범위 조건을 함께 두어, OR 조건만으로는 인덱스를 타지 못하는 경우에도 (title, id) 인덱스의 범위로 조회한다.
+     *
+     * @param title    마지막으로 조회한 도서 제목
+     * @param id       마지막으로 조회한 도서 아이디
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 목록
+     */
+    @Query("""
+            SELECT b FROM Book b
+            WHERE b.title <= :title AND (b.title < :title OR b.id < :id)
+            ORDER BY b.title DESC, b.id DESC
+            """)
+    List<Book> findNextByTitle(@Param("title") String title, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 저자 도서 목록 커서 조회 - 첫 페이지 <br/>
+     * 출판일 내림차순(출판일이 없는 도서는 마지막), 아이디 내림차순으로 (author_id, publication_date, id) 인덱스를 따라 조회한다.
+     * 커서에 사용하도록 출판일은 저장된 값 그대로(null 포함) 조회한다.
+     *
+     * @param authorId 저자 아이디
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 목록
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), b.publicationDate)
+            FROM Book b
+            WHERE b.author.id = :authorId
+            ORDER BY b.publicationDate DESC NULLS LAST, b.id DESC
+            """)
+    List<BookListResponse> findAuthorBooks(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * 저자 도서 목록 커서 조회 - 출판일이 있는 도서 이후의 다음 페이지 <br/>
+     * OFFSET 없이 마지막으로 조회한 (출판일, 아이디) 이후부터 탐색하며, 출판일이 없는 도서는 마지막에 이어서 조회한다.
+     *
+     * @param authorId        저자 아이디
+     * @param publicationDate 마지막으로 조회한 도서 출판일
+     * @param id              마지막으로 조회한 도서 아이디
+     * @param pageable        조회 크기
+     * @return 도서 목록
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), b.publicationDate)
+            FROM Book b
+            WHERE b.author.id = :authorId
+              AND (b.publicationDate < :publicationDate
+                   OR (b.publicationDate = :publicationDate AND b.id < :id)
+                   OR b.publicationDate IS NULL)
+            ORDER BY b.publicationDate DESC NULLS LAST, b.id DESC
+            """)
+    List<BookListResponse> findAuthorBooksAfter(@Param("authorId") Long authorId,
+                                                @Param("publicationDate") LocalDate publicationDate,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 저자 도서 목록 커서 조회 - 출판일이 없는 도서 이후의 다음 페이지
+     *
+     * @param authorId 저자 아이디
+     * @param id       마지막으로 조회한 도서 아이디
+     * @param pageable 조회 크기
+     * @return 도서 목록
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.payload.response.BookListResponse(
+                b.id, b.title, COALESCE(b.description, ''), b.publicationDate)
+            FROM Book b
+            WHERE b.author.id = :authorId AND b.publicationDate IS NULL AND b.id < :id
+            ORDER BY b.id DESC
+            """)
+    List<BookListResponse> findUndatedAuthorBooksAfter(@Param("authorId") Long authorId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 저자의 도서 아이디/ISBN 목록을 청크 단위로 조회. 삭제 후 캐시/색인/중복 확인 필터 정리를 위해 엔티티 대신 아이디, ISBN, 출판일만 조회한다.
+     * 백그라운드 삭제 작업에서 청크별로 삭제할 대상을 조회하고, 동기 삭제에서는 삭제 가능한 도서 수를 넘는지 확인한다.
+     *
+     * @param authorId 저자 아이디
+     * @param pageable 조회 크기. 별도의 카운트 쿼리는 실행되지 않는다.
+     * @return 도서 아이디/ISBN 목록
+     */
+    @Query("SELECT new io.dongvelop.bookmanagementsystem.repository.BookKey(b.id, b.isbn, b.publicationDate) FROM Book b WHERE b.author.id = :authorId ORDER BY b.id")
+    List<BookKey> findKeysByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * 저자의 도서 수 조회
+     *
+     * @param authorId 저자 아이디
+     * @return 도서 수
+     */
+    long countByAuthorId(Long authorId);
+
+    /**
+     * 저자의 도서 수와 출판일 범위 집계. 저자 통계를 다시 계산할 때 저자/출판일 인덱스로 해당 저자의 도서만 읽는다.
+     *
+     * @param authorId 저자 아이디
+     * @return 도서 수와 가장 이른/늦은 출판일
+     */
+    @Query("""
+            SELECT new io.dongvelop.bookmanagementsystem.repository.AuthorBookSummary(
+                COUNT(b.id), MIN(b.publicationDate), MAX(b.publicationDate))
+            FROM Book b
+            WHERE b.author.id = :authorId
+            """)
+    AuthorBookSummary summarizeByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * 저자의 도서 일괄 삭제. 엔티티를 읽지 않고 하나의 DELETE 문으로 삭제한다. <br/>
+     * 영속성 컨텍스트를 거치지 않으므로, 삭제 후 영속성 컨텍스트를 비워 삭제된 도서가 다시 조회되지 않도록 한다.
+     *
+     * @param authorId 저자 아이디
+     * @return 삭제된 도서 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Book b WHERE b.author.id = :authorId")
+    int deleteByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * 전체 ISBN 스트리밍 조회. 중복 확인 필터 구성 시 엔티티를 읽지 않고 ISBN 만 읽어온다. <br/>
+     * 반드시 트랜잭션 내에서 호출하고, 사용 후 스트림을 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.isbn FROM Book b")
+    Stream<Isbn> streamAllIsbns();
 }
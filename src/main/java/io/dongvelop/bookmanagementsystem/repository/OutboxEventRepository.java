@@ -0,0 +1,25 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 변경 이벤트 outbox JPA Repository <br/>
+ * 발행한 이벤트는 deleteAllByIdInBatch 로 엔티티를 다시 읽지 않고 하나의 DELETE 문으로 삭제한다.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행할 이벤트를 발행 순번 순으로 한 배치만큼 조회. 순번 인덱스 순서대로 앞에서부터 읽는다. <br/>
+     * 발행은 조회 트랜잭션이 끝난 뒤에 하므로 잠그지 않는다.
+     *
+     * @param pageable 배치 크기
+     * @return 이벤트 목록
+     */
+    List<OutboxEvent> findAllByOrderBySeqAsc(Pageable pageable);
+}
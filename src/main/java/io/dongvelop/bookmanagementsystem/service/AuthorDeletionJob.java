@@ -0,0 +1,61 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 12
+ * @description 저자 백그라운드 삭제 작업의 진행 상태. <br/>
+ * 작업 스레드가 갱신하고 요청 스레드가 조회하므로, 변경되는 필드는 모두 volatile 또는 Atomic 으로 선언한다.
+ */
+@Getter
+public class AuthorDeletionJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Long authorId;
+    private final long totalBooks;
+    private final LocalDateTime startedAt;
+    private final AtomicLong deletedBooks = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public AuthorDeletionJob(final Long authorId, final long totalBooks) {
+        this.id = UUID.randomUUID().toString();
+        this.authorId = authorId;
+        this.totalBooks = totalBooks;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public long getDeletedBooks() {
+        return deletedBooks.get();
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    void addDeletedBooks(final int count) {
+        deletedBooks.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(final String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,191 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 12
+ * @description 저자 백그라운드 삭제 Service <br/>
+ * 도서가 매우 많은 저자를 하나의 트랜잭션으로 삭제하면 잠금과 undo 로그가 도서 수만큼 커지므로,
+ * 도서를 청크 단위로 나누어 청크마다 커밋하고 마지막에 저자를 삭제한다. 진행 상태는 작업 아이디로 조회한다.
+ * 같은 저자의 백그라운드 삭제와 동기 삭제는 동시에 실행하지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AuthorDeletionService {
+
+    private final AuthorService authorService;
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final Duration retention;
+
+    /**
+     * 작업 아이디별 삭제 작업. 종료 후 보관 기간이 지난 작업은 새 작업 등록 시 제거한다.
+     */
+    private final Map<String, AuthorDeletionJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 삭제 중인 저자 아이디. 같은 저자에 대한 백그라운드 작업과 동기 삭제가 동시에 실행되지 않도록 한다.
+     */
+    private final Set<Long> deletingAuthors = ConcurrentHashMap.newKeySet();
+
+    public AuthorDeletionService(
+            final AuthorService authorService,
+            final AuthorRepository authorRepository,
+            final BookRepository bookRepository,
+            @Qualifier("applicationTaskExecutor") final TaskExecutor taskExecutor,
+            @Value("${author.deletion.chunk-size:1000}") final int chunkSize,
+            @Value("${author.deletion.retention:1h}") final Duration retention
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize[" + chunkSize + "] must be positive");
+        }
+
+        this.authorService = authorService;
+        this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    /**
+     * 저자 백그라운드 삭제 시작 메서드
+     *
+     * @param authorId 저자 아이디
+     * @return 등록된 삭제 작업
+     */
+    public AuthorDeletionJob startDeletion(final Long authorId) throws APIException {
+        log.debug("authorId[{}]", authorId);
+
+        if (!authorRepository.existsById(authorId)) {
+            throw new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found");
+        }
+
+        final AuthorDeletionJob job = new AuthorDeletionJob(authorId, bookRepository.countByAuthorId(authorId));
+        if (!deletingAuthors.add(authorId)) {
+            throw alreadyRunning(authorId);
+        }
+
+        purgeFinishedJobs();
+        jobs.put(job.getId(), job);
+        taskExecutor.execute(() -> run(job));
+
+        return job;
+    }
+
+    /**
+     * 저자 동기 삭제 메서드 <br/>
+     * 같은 저자의 삭제가 진행 중이면 청크 삭제와 경합하지 않도록 거절한다. 삭제는 {@link AuthorService#deleteAuthor(Long)}의 트랜잭션에서 수행한다.
+     *
+     * @param authorId 저자 아이디
+     * @throws APIException 같은 저자의 삭제가 진행 중인 경우(409), 그 외 {@link AuthorService#deleteAuthor(Long)}의 예외
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteAuthor(final Long authorId) throws APIException {
+        log.debug("authorId[{}]", authorId);
+
+        if (!deletingAuthors.add(authorId)) {
+            throw alreadyRunning(authorId);
+        }
+
+        try {
+            authorService.deleteAuthor(authorId);
+        } finally {
+            deletingAuthors.remove(authorId);
+        }
+    }
+
+    /**
+     * 저자 백그라운드 삭제 진행 상태 조회 메서드
+     *
+     * @param jobId 작업 아이디
+     */
+    public AuthorDeletionJob getDeletion(final String jobId) throws APIException {
+        log.debug("jobId[{}]", jobId);
+
+        final AuthorDeletionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "jobId[" + jobId + "] not found");
+        }
+
+        return job;
+    }
+
+    private APIException alreadyRunning(final Long authorId) {
+        return new APIException(HttpStatus.CONFLICT, ErrorType.CONFLICT_STATE, "authorId[" + authorId + "] deletion is already running");
+    }
+
+    private void run(final AuthorDeletionJob job) {
+        final Long authorId = job.getAuthorId();
+
+        try {
+            while (true) {
+                int deleted;
+                while ((deleted = deleteChunk(authorId)) > 0) {
+                    job.addDeletedBooks(deleted);
+                }
+
+                // 청크 삭제 도중 추가된 도서는 저자 삭제 시 함께 삭제되며, 동기 삭제 가능한 수보다 많으면 다시 청크 단위로 삭제한다.
+                try {
+                    authorService.deleteAuthor(authorId);
+                    break;
+                } catch (APIException e) {
+                    if (e.getHttpStatus() != HttpStatus.CONFLICT) {
+                        throw e;
+                    }
+                }
+            }
+            job.complete();
+            log.info("author deletion completed. jobId[{}], authorId[{}], deletedBooks[{}]", job.getId(), authorId, job.getDeletedBooks());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("interrupted");
+        } catch (Exception e) {
+            log.warn("author deletion failed. jobId[{}], authorId[{}], deletedBooks[{}]", job.getId(), authorId, job.getDeletedBooks(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deletingAuthors.remove(authorId);
+        }
+    }
+
+    /**
+     * 도서 한 청크를 삭제한다. DB 요청이 많아 permit 을 얻지 못한 경우, 요청 처리를 우선하도록 잠시 기다렸다가 다시 시도한다.
+     */
+    private int deleteChunk(final Long authorId) throws InterruptedException {
+        while (true) {
+            try {
+                return authorService.deleteBookChunk(authorId, chunkSize);
+            } catch (ServiceUnavailableException e) {
+                log.debug("author deletion deferred. authorId[{}], reason[{}]", authorId, e.getMessage());
+                Thread.sleep(e.getRetryAfter() != null ? e.getRetryAfter().toMillis() : 1000L);
+            }
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        final LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -1,20 +1,41 @@
 package io.dongvelop.bookmanagementsystem.service;
 
+import io.dongvelop.bookmanagementsystem.common.AuthorBookCursor;
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEvent;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.MultiGetLimit;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.entity.Author;
-import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookCursorResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookRow;
 import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.AuthorVersion;
+import io.dongvelop.bookmanagementsystem.repository.BookKey;
 import io.dongvelop.bookmanagementsystem.repository.BookRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,6 +51,12 @@ public class AuthorService {
 
     private final AuthorRepository authorRepository;
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final UniqueKeyFilter uniqueKeyFilter;
+    private final DetailCache detailCache;
+    private final MultiGetLimit multiGetLimit;
+    private final ChangeEventOutbox changeEventOutbox;
+    private final AuthorStatsService authorStatsService;
 
     /**
      * 저자 생성 메서드
@@ -42,17 +69,46 @@ public class AuthorService {
             throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.EXIST_DATA, "email[" + request.email() + "] is already exist");
         }
 
-        return authorRepository.save(request.toEntity());
+        final Author author = authorRepository.save(request.toEntity());
+        changeEventOutbox.append(OutboxEvent.ofAuthor(author.getId(), ChangeEvent.Type.CREATED));
+        authorStatsService.createStats(author.getId());
+        uniqueKeyFilter.addEmail(author.getEmail());
+
+        // 새 아이디로 캐싱되어 있을 수 있는 404 결과를 제거한다.
+        detailCache.evictAuthor(author.getId());
+
+        return author;
     }
 
     /**
-     * 저자 목록 조회 메서드
+     * 저자 목록 청크 조회 메서드 <br/>
+     * 커서 이후 저자 size 명의 저자-도서 조인 행을 조회하여 저자 단위로 묶는다. 청크마다 트랜잭션이 끝나므로,
+     * 호출부가 청크를 응답에 기록하는 동안에는 DB 커넥션과 permit 을 점유하지 않는다.
      *
-     * @return 저자 목록
+     * @param after 이전 청크의 마지막 저자 아이디. 첫 청크는 0.
+     * @param size  청크의 저자 수
+     * @return 저자 아이디 순의 저자별 조인 행(도서 아이디 순). 비어 있으면 더 이상 저자가 없다.
      */
-    public List<Author> getAuthorList() {
-        // 저자 목록이 많아졌을 때 한번에 조회할 경우, 메모리를 많이 차지할 수 있음.
-        return authorRepository.findAuthors();
+    public List<List<AuthorBookRow>> getAuthorBookGroups(final Long after, final int size) {
+        log.debug("after[{}], size[{}]", after, size);
+
+        final List<Long> ids = authorRepository.findIdsAfter(after, PageRequest.of(0, size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 저자 아이디 범위로 조인하므로, 도서 수와 관계없이 청크의 저자 수는 size 를 넘지 않는다.
+        final List<AuthorBookRow> rows = authorRepository.findAuthorBooksByIdBetween(ids.get(0), ids.get(ids.size() - 1));
+
+        final List<List<AuthorBookRow>> groups = new ArrayList<>(ids.size());
+        for (AuthorBookRow row : rows) {
+            if (groups.isEmpty() || !groups.get(groups.size() - 1).get(0).authorId().equals(row.authorId())) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(groups.size() - 1).add(row);
+        }
+
+        return groups;
     }
 
     /**
@@ -65,6 +121,123 @@ public class AuthorService {
                 .orElseThrow(() -> new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found"));
     }
 
+    /**
+     * 저자 다건 조회 메서드 <br/>
+     * 요청한 아이디의 저자를 도서와 함께 하나의 IN 쿼리로 조회하여 요청 순서대로 반환하며, 존재하지 않는 아이디는 별도로 반환한다.
+     *
+     * @param authorIds 조회할 저자 아이디 목록. 중복된 아이디는 한 번만 조회한다.
+     */
+    public MultiGetResponse<AuthorDetailResponse> getAuthorDetailList(final List<Long> authorIds) throws APIException {
+        log.debug("authorIds[{}]", authorIds);
+
+        final List<Long> ids = multiGetLimit.distinct(authorIds);
+        final List<AuthorDetailResponse> authors = authorRepository.findAllWithBooksByIdIn(ids)
+                .stream()
+                .map(AuthorDetailResponse::of)
+                .toList();
+
+        return MultiGetResponse.of(ids, authors, AuthorDetailResponse::id);
+    }
+
+    /**
+     * 저자 상세 조회 메서드 <br/>
+     * 상세 조회 결과(존재하지 않는 경우 포함)를 ETag 와 함께 캐싱하며, 저자 또는 저자의 도서가 변경되면 캐시에서 제거된다.
+     */
+    public Versioned<AuthorDetailResponse> getCachedAuthorDetail(final Long authorId) throws APIException {
+        log.debug("authorId[{}]", authorId);
+
+        return detailCache.getAuthor(authorId, id -> {
+            final Author author = getAuthorDetail(id);
+            final AuthorVersion version = getAuthorVersion(id);
+            final List<BookListResponse> preview = findAuthorBooks(id, null, Const.AUTHOR_BOOK_PREVIEW_SIZE);
+
+            return new Versioned<>(
+                    AuthorDetailResponse.of(author, preview.stream().map(BookListResponse::withPublicationDate).toList(), version.bookCount()),
+                    EntityTag.ofAuthor(id, version.updatedAt(), version.booksUpdatedAt(), version.bookCount())
+            );
+        });
+    }
+
+    /**
+     * 저자 도서 목록 커서 조회 메서드 <br/>
+     * 출판일 내림차순(출판일이 없는 도서는 마지막), 아이디 내림차순으로 조회하며, OFFSET 및 카운트 쿼리 없이 커서 이후의 도서만 탐색한다.
+     *
+     * @param authorId 저자 아이디
+     * @param after    이전 페이지의 마지막 커서. 첫 페이지 조회 시에는 빈 값.
+     * @param size     페이지 크기. 최대 {@link Const#MAX_CURSOR_PAGE_SIZE}까지 조회한다.
+     */
+    public BookCursorResponse getAuthorBooks(final Long authorId, final String after, final int size) throws APIException {
+        log.debug("authorId[{}], after[{}], size[{}]", authorId, after, size);
+
+        if (size < 1) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "size[" + size + "] must be positive");
+        }
+
+        final int limit = Math.min(size, Const.MAX_CURSOR_PAGE_SIZE);
+        final AuthorBookCursor cursor = StringUtils.hasText(after) ? AuthorBookCursor.decode(after) : null;
+
+        // 다음 페이지 존재 여부를 카운트 쿼리 없이 판단하기 위해 한 건을 더 조회한다.
+        final List<BookListResponse> books = findAuthorBooks(authorId, cursor, limit + 1);
+
+        // 조회된 도서가 없을 때만 저자 존재 여부를 확인한다.
+        if (books.isEmpty() && !authorRepository.existsById(authorId)) {
+            throw new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found");
+        }
+
+        final boolean hasNext = books.size() > limit;
+        final List<BookListResponse> content = hasNext ? books.subList(0, limit) : books;
+
+        String nextCursor = null;
+        if (hasNext) {
+            final BookListResponse last = content.get(content.size() - 1);
+            nextCursor = new AuthorBookCursor(last.publicationDate(), last.id()).encode();
+        }
+
+        return new BookCursorResponse(content.stream().map(BookListResponse::withPublicationDate).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 저자 상세 조회 응답의 현재 ETag 조회 <br/>
+     * 엔티티를 읽지 않고 저자/도서의 수정 시각과 도서 수만 집계하므로, 조건부 요청(If-None-Match)의 변경 여부 확인에 사용한다.
+     */
+    public String getAuthorETag(final Long authorId) throws APIException {
+        log.debug("authorId[{}]", authorId);
+
+        final AuthorVersion version = getAuthorVersion(authorId);
+        return EntityTag.ofAuthor(authorId, version.updatedAt(), version.booksUpdatedAt(), version.bookCount());
+    }
+
+    /**
+     * 연관관계 설정을 위한 저자 조회 메서드 <br/>
+     * 저자가 캐싱되어 있으면 SELECT 없이 프록시를 반환하고, 존재하지 않는 저자로 캐싱되어 있으면 DB 조회 없이 예외가 발생한다.
+     */
+    public Author getAuthorReference(final Long authorId) throws APIException {
+        log.debug("authorId[{}]", authorId);
+
+        if (authorId != null && detailCache.containsAuthor(authorId)) {
+            return authorRepository.getReferenceById(authorId);
+        }
+
+        return getAuthorDetail(authorId);
+    }
+
+    private AuthorVersion getAuthorVersion(final Long authorId) throws APIException {
+        return authorRepository.findVersionById(authorId)
+                .orElseThrow(() -> new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found"));
+    }
+
+    private List<BookListResponse> findAuthorBooks(final Long authorId, final AuthorBookCursor cursor, final int limit) {
+        final Pageable pageable = PageRequest.of(0, limit);
+
+        if (cursor == null) {
+            return bookRepository.findAuthorBooks(authorId, pageable);
+        }
+
+        return cursor.publicationDate() == null
+                ? bookRepository.findUndatedAuthorBooksAfter(authorId, cursor.id(), pageable)
+                : bookRepository.findAuthorBooksAfter(authorId, cursor.publicationDate(), cursor.id(), pageable);
+    }
+
     /**
      * 저자 수정 메서드
      *
@@ -77,27 +250,88 @@ public class AuthorService {
 
         final Author author = getAuthorDetail(authorId);
         author.update(request);
+        changeEventOutbox.append(OutboxEvent.ofAuthor(authorId, ChangeEvent.Type.UPDATED));
+
+        detailCache.evictAuthor(authorId);
     }
 
     /**
      * 저자 삭제 메서드 <br/>
      * 저자를 삭제할 경우, 저자가 등록한 도서까지 모두 삭제한다.
+     * 도서 엔티티를 읽지 않고 저자 단위의 DELETE 문 하나로 삭제하며, 캐시/색인/중복 확인 필터 정리를 위해 도서 아이디와 ISBN 만 조회한다.
+     * 한 트랜잭션에서 도서별 삭제 이벤트와 정리 작업을 수행하므로, 도서가 {@link Const#MAX_SYNC_DELETE_BOOKS}권보다 많으면 삭제하지 않고
+     * 백그라운드 청크 삭제(async=true)를 사용하도록 거절한다.
      *
      * @param authorId 저자 아이디
+     * @throws APIException 저자가 없는 경우(404), 동기 삭제 가능한 도서 수를 넘는 경우(409)
      */
     @Transactional
     public void deleteAuthor(final Long authorId) throws APIException {
         log.debug("authorId[{}]", authorId);
 
-        final Author author = getAuthorDetail(authorId);
+        final String email = authorRepository.findEmailById(authorId)
+                .orElseThrow(() -> new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found"));
+
+        final List<BookKey> books = bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, Const.MAX_SYNC_DELETE_BOOKS + 1));
+        if (books.size() > Const.MAX_SYNC_DELETE_BOOKS) {
+            throw new APIException(HttpStatus.CONFLICT, ErrorType.CONFLICT_STATE,
+                    "authorId[" + authorId + "] has more than " + Const.MAX_SYNC_DELETE_BOOKS + " books. delete asynchronously(async=true)");
+        }
+
+        final int deletedBooks = bookRepository.deleteByAuthorId(authorId);
+        authorStatsService.deleteStats(authorId);
+        authorRepository.deleteAuthorById(authorId);
+        log.debug("authorId[{}], deletedBooks[{}]", authorId, deletedBooks);
+
+        removeBooks(authorId, books);
+        changeEventOutbox.append(OutboxEvent.ofAuthor(authorId, ChangeEvent.Type.DELETED));
+        uniqueKeyFilter.removeEmail(email);
+        detailCache.evictAuthor(authorId);
+    }
+
+    /**
+     * 저자의 도서를 청크 단위로 삭제하는 메서드 <br/>
+     * 청크마다 트랜잭션을 커밋하여 잠금 유지 시간과 undo 로그를 청크 크기로 제한한다. 저자 자체는 삭제하지 않는다.
+     * 저자 통계는 삭제한 도서 수만큼 줄이며, 삭제한 출판일이 범위의 경계인 청크에서만 다시 집계한다.
+     *
+     * @param authorId  저자 아이디
+     * @param chunkSize 한 번에 삭제할 도서 수
+     * @return 삭제된 도서 수. 0이면 더 이상 삭제할 도서가 없다.
+     */
+    @Transactional
+    public int deleteBookChunk(final Long authorId, final int chunkSize) {
+        log.debug("authorId[{}], chunkSize[{}]", authorId, chunkSize);
+
+        final List<BookKey> books = bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, chunkSize));
+        if (books.isEmpty()) {
+            return 0;
+        }
+
+        bookRepository.deleteAllByIdInBatch(books.stream().map(BookKey::id).toList());
+        authorStatsService.removeBooks(authorId, books.stream().map(BookKey::publicationDate).toList());
+
+        removeBooks(authorId, books);
+        detailCache.evictAuthor(authorId);
 
-        final List<Book> books = author.getBooks();
-        bookRepository.deleteAllInBatch(books);
+        return books.size();
+    }
 
-        authorRepository.deleteById(authorId);
+    /**
+     * 삭제된 도서의 삭제 이벤트를 기록하고, 검색 색인, ISBN 중복 확인 필터, 상세 조회 캐시에서 제거한다.
+     */
+    private void removeBooks(final Long authorId, final List<BookKey> books) {
+        changeEventOutbox.appendAll(books.stream()
+                .map(book -> OutboxEvent.ofBook(book.id(), authorId, ChangeEvent.Type.DELETED))
+                .toList());
+
+        for (BookKey book : books) {
+            bookSearchIndex.remove(book.id());
+            uniqueKeyFilter.removeIsbn(book.isbn());
+            detailCache.evictBook(book.id());
+        }
     }
 
     private boolean isAlreadyExistEmail(final String email) {
-        return authorRepository.existsByEmail(email);
+        return uniqueKeyFilter.existsEmail(email);
     }
 }
@@ -0,0 +1,189 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.entity.AuthorStats;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookSummary;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.AuthorStatsRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 18
+ * @description 저자별 도서 통계 Service <br/>
+ * 도서 변경과 같은 트랜잭션에서, 변경이 반영된 후 호출되어 저자 통계를 증분으로 갱신한다.
+ * <ul>
+ *     <li>통계 행을 잠그고 갱신하므로, 같은 저자의 도서를 동시에 변경해도 갱신이 유실되지 않는다.</li>
+ *     <li>삭제/수정된 도서의 출판일이 범위의 경계였던 경우에만, 저자/출판일 인덱스로 해당 저자의 도서를 다시 집계한다.</li>
+ *     <li>통계 행이 없는 저자(서비스를 거치지 않고 등록된 저자 등)는 도서 테이블에서 집계해 새로 만든다.
+ *     저자 행을 잠가 생성을 직렬화하므로, 같은 저자의 통계 행을 동시에 만들다 기본 키 충돌이 나지 않는다.</li>
+ * </ul>
+ * 조회는 통계 테이블만 읽으며, 도서 테이블은 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuthorStatsService {
+
+    private final AuthorStatsRepository authorStatsRepository;
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+
+    /**
+     * 저자 통계 목록 조회
+     *
+     * @param pageable 페이지 번호 및 크기
+     */
+    public Page<AuthorStatsResponse> getAuthorStatsList(final Pageable pageable) {
+        log.debug("pageable[{}]", pageable);
+
+        return authorStatsRepository.findStatsList(pageable);
+    }
+
+    /**
+     * 새 저자의 빈 통계 생성
+     *
+     * @param authorId 저자 아이디
+     */
+    @Transactional
+    public void createStats(final Long authorId) {
+        log.debug("authorId[{}]", authorId);
+
+        authorStatsRepository.save(new AuthorStats(authorId));
+    }
+
+    /**
+     * 삭제된 저자의 통계 삭제
+     *
+     * @param authorId 저자 아이디
+     */
+    @Transactional
+    public void deleteStats(final Long authorId) {
+        log.debug("authorId[{}]", authorId);
+
+        authorStatsRepository.deleteByAuthorId(authorId);
+    }
+
+    /**
+     * 도서 등록 반영
+     *
+     * @param authorId        저자 아이디
+     * @param publicationDate 등록된 도서의 출판일. 없으면 null.
+     */
+    @Transactional
+    public void addBook(final Long authorId, final LocalDate publicationDate) {
+        addBooks(authorId, Collections.singletonList(publicationDate));
+    }
+
+    /**
+     * 같은 저자의 도서 여러 건 등록 반영. 통계 행은 한 번만 잠근다.
+     *
+     * @param authorId         저자 아이디
+     * @param publicationDates 등록된 도서의 출판일 목록. 출판일이 없는 도서는 null.
+     */
+    @Transactional
+    public void addBooks(final Long authorId, final List<LocalDate> publicationDates) {
+        log.debug("authorId[{}], books[{}]", authorId, publicationDates.size());
+
+        update(authorId, stats -> {
+            publicationDates.forEach(stats::addBook);
+            return false;
+        });
+    }
+
+    /**
+     * 도서 출판일 수정 반영
+     *
+     * @param authorId 저자 아이디
+     * @param before   수정 전 출판일
+     * @param after    수정 후 출판일
+     */
+    @Transactional
+    public void changePublicationDate(final Long authorId, final LocalDate before, final LocalDate after) {
+        log.debug("authorId[{}], before[{}], after[{}]", authorId, before, after);
+
+        update(authorId, stats -> stats.changePublicationDate(before, after));
+    }
+
+    /**
+     * 도서 삭제 반영
+     *
+     * @param authorId        저자 아이디
+     * @param publicationDate 삭제된 도서의 출판일. 없으면 null.
+     */
+    @Transactional
+    public void removeBook(final Long authorId, final LocalDate publicationDate) {
+        log.debug("authorId[{}], publicationDate[{}]", authorId, publicationDate);
+
+        update(authorId, stats -> stats.removeBook(publicationDate));
+    }
+
+    /**
+     * 같은 저자의 도서 여러 건 삭제 반영. 통계 행은 한 번만 잠그며, 삭제된 출판일 중 범위의 경계가 있는 경우에만 한 번 다시 집계한다.
+     *
+     * @param authorId         저자 아이디
+     * @param publicationDates 삭제된 도서의 출판일 목록. 출판일이 없는 도서는 null.
+     */
+    @Transactional
+    public void removeBooks(final Long authorId, final List<LocalDate> publicationDates) {
+        log.debug("authorId[{}], books[{}]", authorId, publicationDates.size());
+
+        update(authorId, stats -> {
+            boolean boundary = false;
+            for (LocalDate publicationDate : publicationDates) {
+                boundary |= stats.removeBook(publicationDate);
+            }
+            return boundary;
+        });
+    }
+
+    /**
+     * 통계 행을 잠그고 변경을 적용한다. 변경 결과 출판일 범위를 알 수 없게 되면 도서 테이블에서 다시 집계한다.
+     *
+     * @param change 통계 변경. 다시 집계해야 하면 true 를 반환한다.
+     */
+    private void update(final Long authorId, final Predicate<AuthorStats> change) {
+        Optional<AuthorStats> locked = authorStatsRepository.findForUpdate(authorId);
+
+        if (locked.isEmpty()) {
+            // 저자 행을 잠가 통계 행 생성을 직렬화하고, 잠금을 기다리는 동안 다른 트랜잭션이 만든 통계 행이 있는지 다시 확인한다.
+            authorRepository.findForUpdate(authorId);
+            locked = authorStatsRepository.findForUpdate(authorId);
+        }
+
+        if (locked.isEmpty()) {
+            final AuthorStats stats = new AuthorStats(authorId);
+            recalculate(stats);
+            authorStatsRepository.save(stats);
+            return;
+        }
+
+        final AuthorStats stats = locked.get();
+        if (change.test(stats)) {
+            recalculate(stats);
+        }
+    }
+
+    /**
+     * 저자의 도서를 다시 집계한다. 집계 쿼리 전에 같은 트랜잭션의 도서 변경이 먼저 반영(flush)된다.
+     */
+    private void recalculate(final AuthorStats stats) {
+        final AuthorBookSummary summary = bookRepository.summarizeByAuthorId(stats.getAuthorId());
+        log.debug("authorId[{}], summary[{}]", stats.getAuthorId(), summary);
+
+        stats.reset(summary.bookCount(), summary.firstPublicationDate(), summary.lastPublicationDate());
+    }
+}
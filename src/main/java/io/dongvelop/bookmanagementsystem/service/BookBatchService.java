@@ -0,0 +1,185 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEvent;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author 이동엽(Lee Dongyeop)
+ * @date 2025. 03. 05
+ * @description 도서 대량 등록 Service <br/>
+ * 요청을 청크 단위로 나누어, 청크마다 ISBN 중복 확인과 저자 조회를 각각 한 번의 쿼리로 처리하고 INSERT 는 JDBC 배치로 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookBatchService {
+
+    /**
+     * 한 번에 처리할 청크 크기. 청크마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 한다.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final UniqueKeyFilter uniqueKeyFilter;
+    private final DetailCache detailCache;
+    private final ChangeEventOutbox changeEventOutbox;
+    private final AuthorStatsService authorStatsService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    /**
+     * 도서 대량 등록 메서드 <br/>
+     * 일부 도서의 등록에 실패하더라도 나머지 도서는 등록되며, 요청 순서별 결과를 반환한다.
+     *
+     * @param requests 등록할 도서 목록
+     */
+    @Transactional
+    public CreateBookBatchResponse createBooks(final List<CreateBookRequest> requests) {
+        log.debug("requests size[{}]", requests.size());
+
+        final List<CreateBookBatchResponse.Result> results = new ArrayList<>(requests.size());
+        final Set<Isbn> seenIsbns = new HashSet<>();
+
+        for (int from = 0; from < requests.size(); from += CHUNK_SIZE) {
+            final int to = Math.min(from + CHUNK_SIZE, requests.size());
+            results.addAll(createChunk(requests.subList(from, to), from, seenIsbns));
+        }
+
+        return CreateBookBatchResponse.of(results);
+    }
+
+    private List<CreateBookBatchResponse.Result> createChunk(final List<CreateBookRequest> chunk, final int offset, final Set<Isbn> seenIsbns) {
+        final CreateBookBatchResponse.Result[] results = new CreateBookBatchResponse.Result[chunk.size()];
+        final Isbn[] isbns = new Isbn[chunk.size()];
+        final List<Integer> candidates = new ArrayList<>(chunk.size());
+
+        // 1. 항목별 유효성 검증 및 요청 내 ISBN 중복 확인
+        for (int i = 0; i < chunk.size(); i++) {
+            final CreateBookRequest request = chunk.get(i);
+            final String violation = validate(request);
+
+            if (violation != null) {
+                results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), ErrorType.INVALID_INPUT, violation);
+            } else if (request.authorId() == null) {
+                results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), ErrorType.REQUIRED_INPUT, "author_id is required.");
+            } else {
+                try {
+                    isbns[i] = Isbn.parseIsbn10(request.isbn());
+                } catch (APIException e) {
+                    results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), e.getErrorType(), e.getMessage());
+                    continue;
+                }
+
+                if (seenIsbns.add(isbns[i])) {
+                    candidates.add(i);
+                } else {
+                    results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), ErrorType.EXIST_DATA, "isbn[" + request.isbn() + "] is duplicated in request");
+                }
+            }
+        }
+
+        // 2. 청크 전체의 ISBN 중복 여부와 저자를 각각 한 번의 쿼리로 조회. ISBN 은 중복 확인 필터를 통과한 값만 조회한다.
+        final Set<Isbn> existingIsbns = candidates.isEmpty() ? Set.of() : uniqueKeyFilter.findExistingIsbns(
+                candidates.stream().map(i -> isbns[i]).toList());
+
+        final Map<Long, Author> authors = candidates.isEmpty() ? Map.of() : authorRepository.findAllById(
+                        candidates.stream().map(i -> chunk.get(i).authorId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+
+        // 3. 등록 가능한 도서만 모아 배치 INSERT
+        final List<Book> books = new ArrayList<>(candidates.size());
+        final List<Integer> bookIndexes = new ArrayList<>(candidates.size());
+
+        for (Integer i : candidates) {
+            final CreateBookRequest request = chunk.get(i);
+            final Author author = authors.get(request.authorId());
+
+            if (existingIsbns.contains(isbns[i])) {
+                results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), ErrorType.EXIST_DATA, "isbn[" + request.isbn() + "] is already exist");
+            } else if (author == null) {
+                results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), ErrorType.NOT_EXIST_DATA, "authorId[" + request.authorId() + "] not found");
+            } else {
+                try {
+                    books.add(request.toEntity(author));
+                    bookIndexes.add(i);
+                } catch (APIException e) {
+                    results[i] = CreateBookBatchResponse.Result.failed(offset + i, request.isbn(), e.getErrorType(), e.getMessage());
+                }
+            }
+        }
+
+        // 도서 아이디는 저장 시점에 할당되므로, 이벤트도 같은 flush 에서 배치 INSERT 된다.
+        bookRepository.saveAll(books);
+        changeEventOutbox.appendAll(books.stream().map(book -> OutboxEvent.ofBook(book, ChangeEvent.Type.CREATED)).toList());
+
+        // 저자 통계는 저자 아이디 순으로 잠가, 동시에 실행되는 대량 등록끼리 교착 상태에 빠지지 않도록 한다.
+        books.stream()
+                .collect(Collectors.groupingBy(book -> book.getAuthor().getId(), TreeMap::new,
+                        Collectors.mapping(Book::getPublicationDateOrNull, Collectors.toList())))
+                .forEach(authorStatsService::addBooks);
+        entityManager.flush();
+
+        for (int j = 0; j < books.size(); j++) {
+            final Book book = books.get(j);
+            final int i = bookIndexes.get(j);
+
+            results[i] = CreateBookBatchResponse.Result.created(offset + i, book.getIsbn(), book.getId());
+            bookSearchIndex.index(book);
+            uniqueKeyFilter.addIsbn(book.getIsbnKey());
+            detailCache.evictBook(book.getId());
+        }
+        authors.keySet().forEach(detailCache::evictAuthor);
+
+        entityManager.clear();
+
+        return List.of(results);
+    }
+
+    private String validate(final CreateBookRequest request) {
+        final Set<ConstraintViolation<CreateBookRequest>> violations = validator.validate(request);
+        if (violations == null || violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .filter(Objects::nonNull)
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .toList()
+                .toString();
+    }
+}
@@ -1,21 +1,46 @@
 package io.dongvelop.bookmanagementsystem.service;
 
+import io.dongvelop.bookmanagementsystem.common.BookCursor;
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEvent;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.MultiGetLimit;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
 import io.dongvelop.bookmanagementsystem.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * @author 이동엽(Lee Dongyeop)
  * @date 2025. 02. 23
@@ -28,7 +53,13 @@ import org.springframework.util.StringUtils;
 public class BookService {
 
     private final AuthorService authorService;
+    private final AuthorStatsService authorStatsService;
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final UniqueKeyFilter uniqueKeyFilter;
+    private final DetailCache detailCache;
+    private final MultiGetLimit multiGetLimit;
+    private final ChangeEventOutbox changeEventOutbox;
 
     /**
      * 도서 생성 메서드
@@ -43,26 +74,78 @@ public class BookService {
             throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.EXIST_DATA, "isbn[" + request.isbn() + "] is already exist");
         }
 
-        final Author author = authorService.getAuthorDetail(request.authorId());
+        final Author author = authorService.getAuthorReference(request.authorId());
         log.debug("author[{}]", author);
 
-        return bookRepository.save(request.toEntity(author));
+        final Book book = bookRepository.save(request.toEntity(author));
+        changeEventOutbox.append(OutboxEvent.ofBook(book, ChangeEvent.Type.CREATED));
+        authorStatsService.addBook(request.authorId(), book.getPublicationDateOrNull());
+        bookSearchIndex.index(book);
+        uniqueKeyFilter.addIsbn(book.getIsbnKey());
+
+        // 새 아이디로 캐싱된 404 결과와, 도서 목록이 바뀐 저자 상세 정보를 제거한다.
+        detailCache.evictBook(book.getId());
+        detailCache.evictAuthor(request.authorId());
+
+        return book;
     }
 
     /**
      * 도서 목록 조회 <br/>
+     * 검색어가 주어질 경우 인메모리 역색인을 이용해 제목/설명과 일치하는 도서를 관련도 순으로 조회하며,
+     * 색인을 사용할 수 없는 경우(기동 직후, 한 글자 단어가 포함된 검색어 등)에만 DB 검색으로 대체한다.
+     * 어느 경우든 엔티티를 읽지 않고 목록 응답에 필요한 컬럼만 조회한다.
      *
      * @param pageable 페이지 번호 및 크기 등의 페이징 정보
      * @param title    도서 제목
      */
-    public Page<Book> getBookList(final Pageable pageable, final String title) {
+    public Page<BookListResponse> getBookList(final Pageable pageable, final String title) {
         log.debug("pageable[{}], title[{}]", pageable, title);
 
-        if (StringUtils.hasText(title)) {
-            return bookRepository.findBooksByTitleContainsIgnoreCase(title, pageable);
-        } else {
-            return bookRepository.findAll(pageable);
+        if (!StringUtils.hasText(title)) {
+            return bookRepository.findBookList(pageable);
+        }
+
+        final BookSearchIndex.SearchResult result = bookSearchIndex.search(title, pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return bookRepository.findBooksByTitleContainsIgnoreCase(title, pageable).map(BookListResponse::withPublicationDate);
+        }
+
+        return new PageImpl<>(findAllInOrder(result.ids()), pageable, result.total());
+    }
+
+    /**
+     * 커서 기반 도서 목록 조회 <br/>
+     * OFFSET 및 카운트 쿼리 없이 커서 이후의 도서만 탐색하므로, 조회 깊이와 관계없이 페이지당 비용이 일정하다.
+     *
+     * @param after 이전 페이지의 마지막 커서. 첫 페이지 조회 시에는 빈 값.
+     * @param size  페이지 크기. 최대 {@link Const#MAX_CURSOR_PAGE_SIZE}까지 조회한다.
+     * @param sort  정렬 기준
+     */
+    public Slice<Book> getBookScroll(final String after, final int size, final BookCursor.Sort sort) throws APIException {
+        log.debug("after[{}], size[{}], sort[{}]", after, size, sort);
+
+        if (size < 1) {
+            throw new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "size[" + size + "] must be positive");
         }
+
+        final int limit = Math.min(size, Const.MAX_CURSOR_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부를 카운트 쿼리 없이 판단하기 위해 한 건을 더 조회한다.
+        final Pageable pageable = PageRequest.of(0, limit + 1);
+        final BookCursor cursor = StringUtils.hasText(after) ? BookCursor.decode(after, sort) : null;
+
+        final List<Book> books = switch (sort) {
+            case ID -> cursor == null
+                    ? bookRepository.findAllByOrderByIdDesc(pageable)
+                    : bookRepository.findByIdLessThanOrderByIdDesc(cursor.id(), pageable);
+            case TITLE -> cursor == null
+                    ? bookRepository.findAllByOrderByTitleDescIdDesc(pageable)
+                    : bookRepository.findNextByTitle(cursor.key(), cursor.id(), pageable);
+        };
+
+        final boolean hasNext = books.size() > limit;
+        return new SliceImpl<>(hasNext ? books.subList(0, limit) : books, PageRequest.of(0, limit), hasNext);
     }
 
     /**
@@ -77,6 +160,53 @@ public class BookService {
                 () -> new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "bookId[" + bookId + "] not found"));
     }
 
+    /**
+     * 도서 다건 조회 API <br/>
+     * 요청한 아이디의 도서를 저자와 함께 하나의 IN 쿼리로 조회하여 요청 순서대로 반환하며, 존재하지 않는 아이디는 별도로 반환한다.
+     *
+     * @param bookIds 조회할 도서 아이디 목록. 중복된 아이디는 한 번만 조회한다.
+     */
+    public MultiGetResponse<BookDetailResponse> getBookDetailList(final List<Long> bookIds) throws APIException {
+        log.debug("bookIds[{}]", bookIds);
+
+        final List<Long> ids = multiGetLimit.distinct(bookIds);
+        final List<BookDetailResponse> books = bookRepository.findAllWithAuthorByIdIn(ids)
+                .stream()
+                .map(BookDetailResponse::of)
+                .toList();
+
+        return MultiGetResponse.of(ids, books, BookDetailResponse::id);
+    }
+
+    /**
+     * 도서 상세 조회 API <br/>
+     * 상세 조회 결과(존재하지 않는 경우 포함)를 ETag 와 함께 캐싱하며, 수정/삭제 시 캐시에서 제거된다.
+     *
+     * @param bookId 조회할 도서 아이디
+     */
+    public Versioned<BookDetailResponse> getCachedBookDetails(final Long bookId) throws APIException {
+        log.debug("bookId[{}]", bookId);
+
+        return detailCache.getBook(bookId, id -> {
+            final Book book = getBookDetails(id);
+            return new Versioned<>(BookDetailResponse.of(book), EntityTag.of(book));
+        });
+    }
+
+    /**
+     * 도서 상세 조회 응답의 현재 ETag 조회 <br/>
+     * 도서 엔티티를 읽지 않고 수정 시각만 조회하므로, 조건부 요청(If-None-Match)의 변경 여부 확인에 사용한다.
+     *
+     * @param bookId 조회할 도서 아이디
+     */
+    public String getBookETag(final Long bookId) throws APIException {
+        log.debug("bookId[{}]", bookId);
+
+        return bookRepository.findUpdatedAtById(bookId)
+                .map(updatedAt -> EntityTag.ofBook(bookId, updatedAt))
+                .orElseThrow(() -> new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "bookId[" + bookId + "] not found"));
+    }
+
     /**
      * 도서 수정 API
      *
@@ -90,7 +220,14 @@ public class BookService {
         final Book book = getBookDetails(bookId);
         log.debug("book[{}]", book);
 
+        final LocalDate publicationDate = book.getPublicationDateOrNull();
         book.update(request);
+        changeEventOutbox.append(OutboxEvent.ofBook(book, ChangeEvent.Type.UPDATED));
+        authorStatsService.changePublicationDate(book.getAuthor().getId(), publicationDate, book.getPublicationDateOrNull());
+        bookSearchIndex.index(book);
+
+        detailCache.evictBook(bookId);
+        detailCache.evictAuthor(book.getAuthor().getId());
     }
 
     /**
@@ -102,11 +239,32 @@ public class BookService {
     public void deleteBook(Long bookId) throws APIException {
         log.debug("bookId[{}]", bookId);
 
-        getBookDetails(bookId);
+        final Book book = getBookDetails(bookId);
         bookRepository.deleteById(bookId);
+        changeEventOutbox.append(OutboxEvent.ofBook(book, ChangeEvent.Type.DELETED));
+        authorStatsService.removeBook(book.getAuthor().getId(), book.getPublicationDateOrNull());
+        bookSearchIndex.remove(bookId);
+        uniqueKeyFilter.removeIsbn(book.getIsbnKey());
+
+        detailCache.evictBook(bookId);
+        detailCache.evictAuthor(book.getAuthor().getId());
+    }
+
+    /**
+     * 아이디 목록 순서대로 도서를 조회한다. 색인과 DB 사이에 삭제된 도서는 결과에서 제외된다.
+     */
+    private List<BookListResponse> findAllInOrder(final List<Long> ids) {
+        final Map<Long, BookListResponse> books = bookRepository.findBookListByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(BookListResponse::id, Function.identity()));
+
+        return ids.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private boolean isAlreadyExistISBN(final String isbn) {
-        return bookRepository.existsByIsbn(isbn);
+        return uniqueKeyFilter.existsIsbn(isbn);
     }
 }
@@ -0,0 +1,43 @@
+-- 저자 / 도서 테이블 및 조회 쿼리별 인덱스
+-- 인덱스를 추가/변경할 경우 repository.QueryPlanTest 에 해당 쿼리의 실행 계획 검증을 함께 추가한다.
+
+CREATE TABLE author
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    -- 이메일 중복 확인(existsByEmail)
+    CONSTRAINT uk_author_email UNIQUE (email)
+);
+
+-- 도서 아이디는 JDBC 배치 INSERT 를 위해 50개씩 미리 할당받는다. (Book.id 의 allocationSize 와 같아야 한다.)
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE book
+(
+    id               BIGINT       NOT NULL PRIMARY KEY,
+    title            VARCHAR(255) NOT NULL,
+    description      VARCHAR(255),
+    isbn             BIGINT       NOT NULL, -- 압축된 ISBN 값 (IsbnConverter)
+    publication_date DATE,
+    author_id        BIGINT       NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    -- ISBN 중복 확인(existsByIsbn, findExistingIsbns)
+    CONSTRAINT uk_book_isbn UNIQUE (isbn),
+    CONSTRAINT fk_book_author FOREIGN KEY (author_id) REFERENCES author (id)
+);
+
+-- 저자별 도서 조회. 외래 키(author_id) 인덱스를 겸한다.
+-- - 저자 도서 목록 커서 조회(findAuthorBooks*) : 저자의 도서만 인덱스 범위로 읽는다.
+-- - 저자 버전/도서 수 조회(findVersionById, countByAuthorId), 저자 목록/다건 조회의 도서 조인
+-- - 저자 도서 일괄/청크 삭제(deleteByAuthorId, findKeysByAuthorId)
+CREATE INDEX idx_book_author_publication_date ON book (author_id, publication_date, id);
+
+-- 제목 내림차순 정렬. 제목 커서 조회(findAllByOrderByTitleDescIdDesc, findNextByTitle)와 제목 정렬 목록 조회를 정렬 없이 인덱스 순서대로 읽는다.
+CREATE INDEX idx_book_title ON book (title DESC, id DESC);
+
+-- 출판일 내림차순 정렬 목록 조회(GET /books?sort=publicationDate)
+CREATE INDEX idx_book_publication_date ON book (publication_date DESC, id DESC);
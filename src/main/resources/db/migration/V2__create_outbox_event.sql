@@ -0,0 +1,16 @@
+-- 도서 / 저자 변경 이벤트 outbox
+-- 서비스가 변경과 같은 트랜잭션에서 기록하고, ChangeEventRelay 가 아이디 순으로 읽어 발행한 뒤 삭제한다.
+-- 발행 조회(ORDER BY id)와 삭제(id IN)는 기본 키 인덱스를 사용한다.
+
+-- 대량 등록 시 이벤트도 JDBC 배치 INSERT 를 위해 50개씩 미리 할당받는다. (OutboxEvent.id 의 allocationSize 와 같아야 한다.)
+CREATE SEQUENCE outbox_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_event
+(
+    id             BIGINT       NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(20)  NOT NULL, -- BOOK, AUTHOR
+    aggregate_id   BIGINT       NOT NULL,
+    author_id      BIGINT       NOT NULL, -- 도서의 저자 아이디. 저자 이벤트는 aggregate_id 와 같다. (삭제된 저자일 수 있으므로 외래 키는 두지 않는다.)
+    event_type     VARCHAR(20)  NOT NULL, -- CREATED, UPDATED, DELETED
+    created_at     TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,20 @@
+-- 저자별 도서 통계 (도서 수, 가장 이른 / 늦은 출판일)
+-- 도서 등록 / 수정 / 삭제 시 같은 트랜잭션에서 저자 단위로 갱신하며, 통계 조회(GET /authors/stats)는 도서 테이블을 읽지 않는다.
+-- 출판일 범위를 다시 계산할 때는 idx_book_author_publication_date 로 해당 저자의 도서만 읽는다.
+
+CREATE TABLE author_stats
+(
+    author_id              BIGINT       NOT NULL PRIMARY KEY, -- 저자 삭제 시 함께 삭제한다. (조회는 저자와 조인하므로 외래 키는 두지 않는다.)
+    book_count             BIGINT       NOT NULL,
+    first_publication_date DATE,                              -- 출판일이 있는 도서가 없으면 NULL
+    last_publication_date  DATE,
+    created_at             TIMESTAMP(6) NOT NULL,
+    updated_at             TIMESTAMP(6) NOT NULL              -- 마지막 통계 갱신 시각
+);
+
+-- 기존 저자의 통계를 한 번 집계해 채운다.
+INSERT INTO author_stats (author_id, book_count, first_publication_date, last_publication_date, created_at, updated_at)
+SELECT a.id, COUNT(b.id), MIN(b.publication_date), MAX(b.publication_date), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM author a
+         LEFT JOIN book b ON b.author_id = a.id
+GROUP BY a.id;
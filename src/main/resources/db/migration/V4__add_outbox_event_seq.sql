@@ -0,0 +1,10 @@
+-- outbox 이벤트 발행 순번
+-- 아이디는 풀링된 시퀀스(outbox_event_seq)에서 저장 시점에 할당되므로, 커밋 순서와 다를 수 있다.
+-- 순번은 INSERT 시점에 DB 가 할당하며, ChangeEventOutbox 가 대상 행의 변경(잠금)을 먼저 반영한 뒤 이벤트를 INSERT 하므로
+-- 같은 대상의 이벤트는 커밋 순서대로 순번을 갖는다. ChangeEventRelay 는 순번 순으로 발행한다. (uk_outbox_event_seq 인덱스 사용)
+
+CREATE SEQUENCE outbox_event_order_seq START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE outbox_event ADD COLUMN seq BIGINT DEFAULT NEXT VALUE FOR outbox_event_order_seq NOT NULL;
+
+CREATE UNIQUE INDEX uk_outbox_event_seq ON outbox_event (seq);
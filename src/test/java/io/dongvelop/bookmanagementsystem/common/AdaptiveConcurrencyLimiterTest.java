@@ -0,0 +1,205 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.BDDMockito.given;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(20, 2, 100, Duration.ofSeconds(1), new DbConcurrencyLimiter(10, Duration.ofMillis(50)));
+    }
+
+    @Nested
+    @DisplayName("동시 처리 한도 초과 테스트")
+    class Reject {
+
+        @Test
+        @DisplayName("한도 이내인 경우, 메서드를 실행하고 종료 후 처리 중인 요청 수를 줄인다.")
+        void success() throws Throwable {
+
+            // given
+            final ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+            given(joinPoint.proceed()).willAnswer(invocation -> limiter.inflightCount());
+
+            // when
+            final Object inflightDuringCall = limiter.limit(joinPoint);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(inflightDuringCall).isEqualTo(1);
+                softly.assertThat(limiter.inflightCount()).isZero();
+                softly.assertThat(limiter.rejectedCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("한도를 넘은 경우, 대기하지 않고 OVERLOADED 예외와 재시도 시간을 반환한다.")
+        void fail() throws Throwable {
+
+            // given
+            limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(2), new DbConcurrencyLimiter(10, Duration.ofMillis(50)));
+
+            final CountDownLatch entered = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            final ProceedingJoinPoint holder = Mockito.mock(ProceedingJoinPoint.class);
+            given(holder.proceed()).willAnswer(invocation -> {
+                entered.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            });
+
+            final Thread thread = new Thread(() -> {
+                try {
+                    limiter.limit(holder);
+                } catch (Throwable ignored) {
+                }
+            });
+            thread.start();
+            entered.await(5, TimeUnit.SECONDS);
+
+            final Signature signature = Mockito.mock(Signature.class);
+            final ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+            given(joinPoint.getSignature()).willReturn(signature);
+
+            // when
+            final ServiceUnavailableException exception = assertThrowsExactly(ServiceUnavailableException.class, () -> limiter.limit(joinPoint));
+            release.countDown();
+            thread.join();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(exception.getErrorType()).isEqualTo(ErrorType.OVERLOADED);
+                softly.assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                softly.assertThat(limiter.rejectedCount()).isEqualTo(1);
+                softly.assertThat(limiter.inflightCount()).isZero();
+            });
+            Mockito.verify(joinPoint, Mockito.never()).proceed();
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 처리 한도 조절 테스트")
+    class Adjust {
+
+        private long now = System.nanoTime();
+
+        /**
+         * 응답 시간만큼 지난 시각에 종료된 요청의 표본을 기록한다. 구간 길이는 평균 응답 시간이므로 매번 구간이 끝난다.
+         */
+        private void sample(final long rttNanos, final int inflight, final boolean dropped) {
+            now += rttNanos;
+            limiter.onSample(now, rttNanos, inflight, dropped);
+        }
+
+        @Test
+        @DisplayName("응답 시간이 유지되고 한도만큼 처리 중인 경우, 한도를 늘린다.")
+        void increase() {
+
+            // given
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                sample(RTT, limiter.currentLimit(), false);
+            }
+
+            // then
+            Assertions.assertThat(limiter.currentLimit()).isGreaterThan(20);
+        }
+
+        @Test
+        @DisplayName("응답 시간이 장기 평균보다 크게 늘어난 경우, 한도를 줄인다.")
+        void decreaseOnLatency() {
+
+            // given
+            for (int i = 0; i < 10; i++) {
+                sample(RTT, limiter.currentLimit(), false);
+            }
+            final int before = limiter.currentLimit();
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                sample(RTT * 10, limiter.currentLimit(), false);
+            }
+
+            // then
+            Assertions.assertThat(limiter.currentLimit()).isLessThan(before);
+        }
+
+        @Test
+        @DisplayName("커넥션 풀이 포화된 구간마다 응답 시간과 관계없이 한도를 줄이며, 최소 한도 아래로는 줄이지 않는다.")
+        void decreaseOnDrop() {
+
+            // given
+
+            // when
+            sample(RTT, 20, true);
+            final int afterDrop = limiter.currentLimit();
+            for (int i = 0; i < 100; i++) {
+                sample(RTT, 20, true);
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(afterDrop).isEqualTo(18);
+                softly.assertThat(limiter.currentLimit()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("한 구간 안에서 포화된 표본이 여러 개인 경우, 한도는 한 번만 줄인다.")
+        void decreaseOncePerWindow() {
+
+            // given
+            sample(RTT, 20, true);
+
+            // when
+            for (int i = 0; i < 100; i++) {
+                limiter.onSample(now + RTT / 2, RTT, 20, true);
+            }
+            final int inWindow = limiter.currentLimit();
+            sample(RTT, 20, true);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(inWindow).as("구간 안에서는 유지").isEqualTo(18);
+                softly.assertThat(limiter.currentLimit()).as("다음 구간 종료 시 한 번 감소").isEqualTo(16);
+            });
+        }
+
+        @Test
+        @DisplayName("처리 중인 요청이 한도의 절반에 못 미치는 경우, 한도를 바꾸지 않는다.")
+        void appLimited() {
+
+            // given
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                sample(RTT * (i + 1), 1, false);
+            }
+
+            // then
+            Assertions.assertThat(limiter.currentLimit()).isEqualTo(20);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex bookSearchIndex;
+    private final Author author = new Author("name", "email@example.com");
+
+    @BeforeEach
+    void setUp() {
+        final BookRepository bookRepository = Mockito.mock(BookRepository.class);
+        given(bookRepository.findByIdLessThanOrderByIdDesc(anyLong(), any())).willReturn(List.of());
+
+        bookSearchIndex = new BookSearchIndex(bookRepository);
+        bookSearchIndex.rebuild();
+    }
+
+    private Book book(final Long id, final String title, final String description) throws APIException {
+        final Book book = new Book(title, description, "123-456789-0", LocalDate.now(), author);
+        ReflectionTestUtils.setField(book, "id", id);
+        return book;
+    }
+
+    @Nested
+    @DisplayName("도서 검색 테스트")
+    class Search {
+
+        @Test
+        @DisplayName("검색어를 포함한 도서만 조회되며, 제목 일치가 설명 일치보다 우선한다.")
+        void success1() throws APIException {
+
+            // given
+            bookSearchIndex.index(book(1L, "title test", "description"));
+            bookSearchIndex.index(book(2L, "title text", "description"));
+            bookSearchIndex.index(book(3L, "title", "text book"));
+
+            // when
+            final BookSearchIndex.SearchResult result = bookSearchIndex.search("TEXT", 0, 10);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.ids()).containsExactly(2L, 3L);
+                softly.assertThat(result.total()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("수정 및 삭제된 도서는 변경된 내용으로 검색된다.")
+        void success2() throws APIException {
+
+            // given
+            bookSearchIndex.index(book(1L, "spring boot", "description"));
+            bookSearchIndex.index(book(2L, "spring data", "description"));
+            bookSearchIndex.index(book(1L, "java", "description"));
+            bookSearchIndex.remove(2L);
+
+            // when
+            final BookSearchIndex.SearchResult result = bookSearchIndex.search("spring", 0, 10);
+
+            // then
+            Assertions.assertThat(result.ids()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("n-gram 은 모두 포함하지만 검색어 단어를 포함하지 않는 도서는 조회되지 않는다.")
+        void success3() throws APIException {
+
+            // given
+            bookSearchIndex.index(book(1L, "ab bc", "description"));
+            bookSearchIndex.index(book(2L, "abc", "description"));
+            bookSearchIndex.index(book(3L, "title", "xabcx"));
+
+            // when
+            final BookSearchIndex.SearchResult result = bookSearchIndex.search("ABC", 0, 10);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.ids()).containsExactly(2L, 3L);
+                softly.assertThat(result.total()).isEqualTo(2);
+            });
+        }
+
+        @ParameterizedTest
+        @DisplayName("검색어에 n-gram 을 만들기에 너무 짧은 단어가 있을 경우, 결과 대신 null 을 반환한다.")
+        @ValueSource(strings = {"a", "a book", "spring 5", "!!"})
+        void fail(final String query) throws APIException {
+
+            // given
+            bookSearchIndex.index(book(1L, "a book", "spring 5"));
+
+            // when
+            final BookSearchIndex.SearchResult result = bookSearchIndex.search(query, 0, 10);
+
+            // then
+            Assertions.assertThat(result).isNull();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.BDDMockito.given;
+
+class ChangeEventBusTest {
+
+    @Nested
+    @DisplayName("이벤트 발행 테스트")
+    class Publish {
+
+        @Test
+        @DisplayName("구독자가 실패하더라도 다음 구독자에게 이벤트를 순서대로 전달하고, 실패 횟수를 집계한다.")
+        void publish() {
+
+            // given
+            final List<ChangeEvent> received = new ArrayList<>();
+
+            final ChangeEventSubscriber failing = events -> {
+                throw new IllegalStateException("failed");
+            };
+            final ChangeEventSubscriber collecting = received::addAll;
+
+            @SuppressWarnings("unchecked")
+            final ObjectProvider<ChangeEventSubscriber> provider = Mockito.mock(ObjectProvider.class);
+            given(provider.orderedStream()).willReturn(Stream.of(failing, collecting));
+            final ChangeEventBus bus = new ChangeEventBus(provider);
+
+            final List<ChangeEvent> events = List.of(
+                    new ChangeEvent(1L, 1L, ChangeEvent.Aggregate.AUTHOR, 1L, 1L, ChangeEvent.Type.CREATED, LocalDateTime.now()),
+                    new ChangeEvent(2L, 2L, ChangeEvent.Aggregate.BOOK, 10L, 1L, ChangeEvent.Type.CREATED, LocalDateTime.now())
+            );
+
+            // when
+            final long acknowledged = bus.publish(events);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(received).containsExactlyElementsOf(events);
+                softly.assertThat(bus.failureCount()).isEqualTo(1);
+                softly.assertThat(acknowledged).as("실패한 구독자가 처리하지 못한 이벤트는 삭제 대상이 아니다.").isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("실패한 구독자에게는 다음 발행에서 같은 이벤트부터 다시 전달하고, 처리한 구독자에게는 새 이벤트만 전달한다.")
+        void retry() {
+
+            // given
+            final List<List<ChangeEvent>> flakyReceived = new ArrayList<>();
+            final List<List<ChangeEvent>> received = new ArrayList<>();
+            final int[] calls = {0};
+
+            final ChangeEventSubscriber flaky = events -> {
+                if (calls[0]++ == 0) {
+                    throw new IllegalStateException("failed");
+                }
+                flakyReceived.add(events);
+            };
+            final ChangeEventSubscriber collecting = received::add;
+
+            @SuppressWarnings("unchecked")
+            final ObjectProvider<ChangeEventSubscriber> provider = Mockito.mock(ObjectProvider.class);
+            given(provider.orderedStream()).willReturn(Stream.of(flaky, collecting));
+            final ChangeEventBus bus = new ChangeEventBus(provider);
+
+            final ChangeEvent first = new ChangeEvent(1L, 1L, ChangeEvent.Aggregate.AUTHOR, 1L, 1L, ChangeEvent.Type.CREATED, LocalDateTime.now());
+            final ChangeEvent second = new ChangeEvent(2L, 2L, ChangeEvent.Aggregate.BOOK, 10L, 1L, ChangeEvent.Type.CREATED, LocalDateTime.now());
+            final long firstAcknowledged = bus.publish(List.of(first));
+
+            // when
+            final long acknowledged = bus.publish(List.of(first, second));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(firstAcknowledged).isZero();
+                softly.assertThat(flakyReceived).containsExactly(List.of(first, second));
+                softly.assertThat(received).containsExactly(List.of(first), List.of(second));
+                softly.assertThat(acknowledged).isEqualTo(2L);
+            });
+        }
+
+        @Test
+        @DisplayName("구독자가 없는 경우, 모든 이벤트를 삭제 대상으로 반환한다.")
+        void noSubscriber() {
+
+            // given
+            @SuppressWarnings("unchecked")
+            final ObjectProvider<ChangeEventSubscriber> provider = Mockito.mock(ObjectProvider.class);
+            given(provider.orderedStream()).willReturn(Stream.empty());
+            final ChangeEventBus bus = new ChangeEventBus(provider);
+
+            // when
+            final long acknowledged = bus.publish(List.of(
+                    new ChangeEvent(5L, 3L, ChangeEvent.Aggregate.AUTHOR, 1L, 1L, ChangeEvent.Type.UPDATED, LocalDateTime.now())));
+
+            // then
+            Assertions.assertThat(acknowledged).isEqualTo(3L);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.repository.OutboxEventRepository;
+import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import io.dongvelop.bookmanagementsystem.service.BookService;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 서비스의 변경이 커밋된 뒤 outbox 를 거쳐 이벤트 버스로 발행되는지 확인한다.
+ * 변경이 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고, 종료 시 저자 삭제로 데이터를 정리한다.
+ * 다른 테스트 컨텍스트의 Relay 가 이벤트를 먼저 가져가지 않도록 별도의 H2 인스턴스를 사용한다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox")
+class ChangeEventRelayTest {
+
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private ChangeEventRelay changeEventRelay;
+    @Autowired
+    private ChangeEventBus changeEventBus;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+    private final ChangeEventSubscriber subscriber = received::addAll;
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() throws APIException {
+        author = authorService.createAuthor(new CreateAuthorRequest("name", "relay@example.com"));
+        changeEventBus.subscribe(subscriber);
+    }
+
+    @AfterEach
+    void tearDown() throws APIException {
+        changeEventBus.unsubscribe(subscriber);
+        authorService.deleteAuthor(author.getId());
+        relayAll();
+    }
+
+    /**
+     * Relay 스레드가 발행 중인 배치가 있으면 끝날 때까지 기다린 뒤, 남은 이벤트를 모두 발행한다.
+     */
+    private void relayAll() {
+        while (changeEventRelay.relay() > 0) {
+        }
+    }
+
+    private List<ChangeEvent> receivedOfAuthor() {
+        return received.stream().filter(event -> event.authorId() == author.getId()).toList();
+    }
+
+    @Nested
+    @DisplayName("변경 이벤트 발행 테스트")
+    class Publish {
+
+        @Test
+        @DisplayName("커밋된 도서 변경은 발생 순서대로 발행되며, 발행된 이벤트는 outbox 에서 삭제된다.")
+        void publishInOrder() throws APIException {
+
+            // given
+            final Book book = bookService.createBook(new CreateBookRequest("title", "description", "523-456789-0", LocalDate.now(), author.getId()));
+            bookService.updateBook(book.getId(), new UpdateBookRequest("new title", null, null));
+            bookService.deleteBook(book.getId());
+
+            // when
+            relayAll();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(receivedOfAuthor())
+                        .extracting(ChangeEvent::aggregate, ChangeEvent::aggregateId, ChangeEvent::type)
+                        .containsSubsequence(
+                                tuple(ChangeEvent.Aggregate.BOOK, book.getId(), ChangeEvent.Type.CREATED),
+                                tuple(ChangeEvent.Aggregate.BOOK, book.getId(), ChangeEvent.Type.UPDATED),
+                                tuple(ChangeEvent.Aggregate.BOOK, book.getId(), ChangeEvent.Type.DELETED)
+                        );
+                softly.assertThat(receivedOfAuthor()).extracting(ChangeEvent::seq).isSorted();
+                softly.assertThat(outboxEventRepository.count()).isZero();
+                softly.assertThat(changeEventRelay.lagSeconds()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("미리 할당된 아이디가 아닌, 이벤트가 기록(커밋)된 순서대로 발행한다.")
+        void publishInInsertOrder() {
+
+            // given
+            relayAll();
+            received.clear();
+
+            final String insert = "INSERT INTO outbox_event (id, aggregate_type, aggregate_id, author_id, event_type, created_at) VALUES (?, 'BOOK', ?, ?, ?, CURRENT_TIMESTAMP)";
+            jdbcTemplate.update(insert, 20_000_000L, 1L, author.getId(), "UPDATED");
+            jdbcTemplate.update(insert, 10_000_000L, 1L, author.getId(), "DELETED");
+
+            // when
+            relayAll();
+
+            // then
+            Assertions.assertThat(receivedOfAuthor())
+                    .extracting(ChangeEvent::id, ChangeEvent::type)
+                    .containsExactly(
+                            tuple(20_000_000L, ChangeEvent.Type.UPDATED),
+                            tuple(10_000_000L, ChangeEvent.Type.DELETED)
+                    );
+        }
+
+        @Test
+        @DisplayName("구독자가 실패한 이벤트는 outbox 에 남겨 그 구독자에게 다시 전달하며, 처리한 구독자에게는 다시 전달하지 않는다.")
+        void retryFailedSubscriber() {
+
+            // given
+            relayAll();
+            received.clear();
+
+            final List<ChangeEvent> flakyReceived = new CopyOnWriteArrayList<>();
+            final AtomicInteger calls = new AtomicInteger();
+            final ChangeEventSubscriber flaky = events -> {
+                if (calls.getAndIncrement() == 0) {
+                    throw new IllegalStateException("failed");
+                }
+                flakyReceived.addAll(events);
+            };
+            changeEventBus.subscribe(flaky);
+
+            jdbcTemplate.update("INSERT INTO outbox_event (id, aggregate_type, aggregate_id, author_id, event_type, created_at) VALUES (?, 'BOOK', ?, ?, ?, CURRENT_TIMESTAMP)",
+                    30_000_000L, 1L, author.getId(), "UPDATED");
+
+            // when
+            try {
+                // Relay 스레드와 번갈아 발행하더라도 재전달이 끝날 때까지 발행한다.
+                for (int i = 0; i < 10 && outboxEventRepository.count() > 0; i++) {
+                    changeEventRelay.relay();
+                }
+            } finally {
+                changeEventBus.unsubscribe(flaky);
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(calls.get()).isEqualTo(2);
+                softly.assertThat(flakyReceived).extracting(ChangeEvent::id).containsExactly(30_000_000L);
+                softly.assertThat(receivedOfAuthor()).extracting(ChangeEvent::id).containsExactly(30_000_000L);
+                softly.assertThat(outboxEventRepository.count()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("변경이 롤백된 경우, 이벤트도 기록되지 않아 발행되지 않는다.")
+        void rollback() {
+
+            // given
+            relayAll();
+            received.clear();
+
+            final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            final CreateBookRequest request = new CreateBookRequest("title", "description", "623-456789-0", LocalDate.now(), author.getId());
+
+            // when
+            transaction.executeWithoutResult(status -> {
+                try {
+                    bookService.createBook(request);
+                } catch (APIException e) {
+                    throw new IllegalStateException(e);
+                }
+                status.setRollbackOnly();
+            });
+            relayAll();
+
+            // then
+            Assertions.assertThat(receivedOfAuthor()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+class CountingBloomFilterTest {
+
+    private static final int KEY_COUNT = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Nested
+    @DisplayName("키 존재 여부 확인 테스트")
+    class MightContain {
+
+        @Test
+        @DisplayName("추가한 키는 항상 존재할 수 있다고 판단한다.")
+        void noFalseNegative() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            LongStream.range(0, KEY_COUNT).forEach(key -> filter.put(CountingBloomFilter.hash(key)));
+
+            // when
+            final long missing = LongStream.range(0, KEY_COUNT)
+                    .filter(key -> !filter.mightContain(CountingBloomFilter.hash(key)))
+                    .count();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(missing).isZero());
+        }
+
+        @Test
+        @DisplayName("예상 키 수만큼 추가한 경우, 추가하지 않은 키의 오탐률은 목표 오탐률 근처이다.")
+        void falsePositiveRate() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            LongStream.range(0, KEY_COUNT).forEach(key -> filter.put(CountingBloomFilter.hash(key)));
+
+            // when
+            final long falsePositives = LongStream.range(KEY_COUNT, KEY_COUNT * 11L)
+                    .filter(key -> filter.mightContain(CountingBloomFilter.hash(key)))
+                    .count();
+            final double observed = (double) falsePositives / (KEY_COUNT * 10L);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(observed).isLessThan(FALSE_POSITIVE_RATE * 2);
+                softly.assertThat(filter.expectedFalsePositiveRate()).isBetween(FALSE_POSITIVE_RATE / 2, FALSE_POSITIVE_RATE * 2);
+            });
+        }
+
+        @Test
+        @DisplayName("문자열 키도 같은 값이면 같은 해시를 사용한다.")
+        void stringKey() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            filter.put(CountingBloomFilter.hash("author@example.com"));
+
+            // when
+            final boolean result = filter.mightContain(CountingBloomFilter.hash(new StringBuilder("author@").append("example.com")));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result).isTrue());
+        }
+    }
+
+    @Nested
+    @DisplayName("키 제거 테스트")
+    class Remove {
+
+        @Test
+        @DisplayName("추가한 키를 모두 제거하면, 모든 카운터가 0이 된다.")
+        void success() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            LongStream.range(0, KEY_COUNT).forEach(key -> filter.put(CountingBloomFilter.hash(key)));
+
+            // when
+            LongStream.range(0, KEY_COUNT).forEach(key -> filter.remove(CountingBloomFilter.hash(key)));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(filter.expectedFalsePositiveRate()).isZero();
+                softly.assertThat(filter.mightContain(CountingBloomFilter.hash(0L))).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("일부 키를 제거해도, 남은 키는 계속 존재할 수 있다고 판단한다.")
+        void keepOthers() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            LongStream.range(0, KEY_COUNT).forEach(key -> filter.put(CountingBloomFilter.hash(key)));
+
+            // when
+            LongStream.range(0, KEY_COUNT / 2).forEach(key -> filter.remove(CountingBloomFilter.hash(key)));
+            final long missing = LongStream.range(KEY_COUNT / 2, KEY_COUNT)
+                    .filter(key -> !filter.mightContain(CountingBloomFilter.hash(key)))
+                    .count();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(missing).isZero());
+        }
+
+        @Test
+        @DisplayName("최댓값에 도달한 카운터는 감소시키지 않는다.")
+        void saturated() {
+
+            // given
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+            final long hash = CountingBloomFilter.hash(1L);
+            for (int i = 0; i < 20; i++) {
+                filter.put(hash);
+            }
+
+            // when
+            for (int i = 0; i < 20; i++) {
+                filter.remove(hash);
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(filter.mightContain(hash)).isTrue());
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 크기 테스트")
+    class Size {
+
+        @Test
+        @DisplayName("예상 키 수와 오탐률로 카운터 수와 해시 함수 수를 정하고, 카운터 하나에 4비트를 사용한다.")
+        void success() {
+
+            // when
+            final CountingBloomFilter filter = new CountingBloomFilter(KEY_COUNT, FALSE_POSITIVE_RATE);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(filter.counterCount()).isBetween(95_000L, 96_000L);
+                softly.assertThat(filter.hashCount()).isEqualTo(7);
+                softly.assertThat(filter.memoryBytes()).isEqualTo(filter.counterCount() / 2);
+            });
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.BDDMockito.given;
+
+class DbConcurrencyLimiterTest {
+
+    private DbConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new DbConcurrencyLimiter(1, Duration.ofMillis(50));
+    }
+
+    @Nested
+    @DisplayName("서비스 동시 실행 수 제한 테스트")
+    class Limit {
+
+        @Test
+        @DisplayName("permit 이 남아 있는 경우, 메서드를 실행하고 종료 후 permit 을 반환한다.")
+        void success() throws Throwable {
+
+            // given
+            final ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+            given(joinPoint.proceed()).willAnswer(invocation -> limiter.activeCount());
+
+            // when
+            final Object activeDuringCall = limiter.limit(joinPoint);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(activeDuringCall).isEqualTo(1);
+                softly.assertThat(limiter.activeCount()).isZero();
+                softly.assertThat(limiter.rejectedCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("서비스 내부에서 다른 서비스를 호출하는 경우, permit 을 다시 획득하지 않는다.")
+        void nested() throws Throwable {
+
+            // given
+            final ProceedingJoinPoint inner = Mockito.mock(ProceedingJoinPoint.class);
+            given(inner.proceed()).willReturn("inner");
+
+            final ProceedingJoinPoint outer = Mockito.mock(ProceedingJoinPoint.class);
+            given(outer.proceed()).willAnswer(invocation -> limiter.limit(inner));
+
+            // when
+            final Object result = limiter.limit(outer);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("inner");
+                softly.assertThat(limiter.activeCount()).isZero();
+                softly.assertThat(limiter.rejectedCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("예외가 발생한 경우에도 permit 을 반환한다.")
+        void releaseOnException() throws Throwable {
+
+            // given
+            final ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+            given(joinPoint.proceed()).willThrow(new IllegalStateException("fail"));
+
+            // when
+            assertThrowsExactly(IllegalStateException.class, () -> limiter.limit(joinPoint));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(limiter.activeCount()).isZero());
+        }
+
+        @Test
+        @DisplayName("대기 시간 내에 permit 을 얻지 못한 경우, DB_BUSY 예외가 발생한다.")
+        void fail() throws Throwable {
+
+            // given
+            final CountDownLatch acquired = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            final ProceedingJoinPoint holder = Mockito.mock(ProceedingJoinPoint.class);
+            given(holder.proceed()).willAnswer(invocation -> {
+                acquired.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            });
+
+            final Thread thread = new Thread(() -> {
+                try {
+                    limiter.limit(holder);
+                } catch (Throwable ignored) {
+                }
+            });
+            thread.start();
+            acquired.await(5, TimeUnit.SECONDS);
+
+            final Signature signature = Mockito.mock(Signature.class);
+            final ProceedingJoinPoint joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+            given(joinPoint.getSignature()).willReturn(signature);
+
+            // when
+            final ServiceUnavailableException exception = assertThrowsExactly(ServiceUnavailableException.class, () -> limiter.limit(joinPoint));
+            release.countDown();
+            thread.join();
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(exception.getErrorType()).isEqualTo(ErrorType.DB_BUSY);
+                softly.assertThat(exception.getRetryAfter()).isNotNull();
+                softly.assertThat(limiter.rejectedCount()).isEqualTo(1);
+                softly.assertThat(limiter.activeCount()).isZero();
+            });
+        }
+    }
+}
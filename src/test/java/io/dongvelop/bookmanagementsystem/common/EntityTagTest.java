@@ -0,0 +1,155 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+class EntityTagTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 11, 10, 0, 0);
+
+    @Nested
+    @DisplayName("ETag 생성 테스트")
+    class Of {
+
+        @Test
+        @DisplayName("수정 시각이 다르면 다른 ETag 가 생성되고, 밀리초 미만의 차이는 무시한다.")
+        void book() {
+
+            // given
+            final Long bookId = 1L;
+
+            // when
+            final String etag = EntityTag.ofBook(bookId, UPDATED_AT);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(etag).startsWith("\"").endsWith("\"");
+                softly.assertThat(etag).isEqualTo(EntityTag.ofBook(bookId, UPDATED_AT.plusNanos(999)));
+                softly.assertThat(etag).isNotEqualTo(EntityTag.ofBook(bookId, UPDATED_AT.plusNanos(1_000_000)));
+                softly.assertThat(etag).isNotEqualTo(EntityTag.ofBook(2L, UPDATED_AT));
+            });
+        }
+
+        @Test
+        @DisplayName("저자 ETag 는 도서 목록을 순회한 결과와 집계 조회 결과가 같으면 동일하다.")
+        void author() throws Exception {
+
+            // given
+            final Author author = new Author("name", "email@email.com");
+            final Book book1 = new Book("title1", null, "123-456789-0", LocalDate.now(), author);
+            final Book book2 = new Book("title2", null, "124-456789-0", LocalDate.now(), author);
+            final LocalDateTime booksUpdatedAt = book1.getUpdatedAt().isAfter(book2.getUpdatedAt()) ? book1.getUpdatedAt() : book2.getUpdatedAt();
+
+            // when
+            final String etag = EntityTag.of(author);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(etag).isEqualTo(EntityTag.ofAuthor(author.getId(), author.getUpdatedAt(), booksUpdatedAt, 2));
+                softly.assertThat(etag).isNotEqualTo(EntityTag.ofAuthor(author.getId(), author.getUpdatedAt(), booksUpdatedAt, 1));
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("If-None-Match 비교 테스트")
+    class Matches {
+
+        @ParameterizedTest
+        @DisplayName("목록 중 하나라도 일치하거나, 약한 ETag 이거나, * 일 경우 일치한다.")
+        @CsvSource(delimiter = '|', value = {
+                "\"b1-1\"",
+                "W/\"b1-1\"",
+                "\"b1-0\", \"b1-1\"",
+                "*"
+        })
+        void matched(final String ifNoneMatch) {
+
+            // given
+
+            // when
+            final boolean result = EntityTag.matches(ifNoneMatch, "\"b1-1\"");
+
+            // then
+            Assertions.assertThat(result).isTrue();
+        }
+
+        @ParameterizedTest
+        @DisplayName("일치하는 ETag 가 없거나, 따옴표 없이 전달된 경우 일치하지 않는다.")
+        @CsvSource(delimiter = '|', value = {
+                "\"b1-0\"",
+                "\"b1-0\", W/\"b2-1\"",
+                "b1-1",
+                "''"
+        })
+        void notMatched(final String ifNoneMatch) {
+
+            // given
+
+            // when
+            final boolean result = EntityTag.matches(ifNoneMatch, "\"b1-1\"");
+
+            // then
+            Assertions.assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 형식별 ETag 테스트")
+    class Format {
+
+        @ParameterizedTest
+        @DisplayName("Accept 헤더의 품질 순서에 따라 응답 형식을 고르고, 없거나 해석할 수 없으면 JSON 을 사용한다.")
+        @CsvSource(delimiter = '|', value = {
+                "application/cbor|application/cbor",
+                "application/x-jackson-smile|application/x-jackson-smile",
+                "application/json;q=0.5, application/cbor|application/cbor",
+                "application/cbor;q=0, */*|application/json",
+                "*/*|application/json",
+                "''|application/json",
+                "invalid|application/json"
+        })
+        void negotiate(final String accept, final String expected) {
+
+            // given
+
+            // when
+            final MediaType result = EntityTag.negotiate(accept);
+
+            // then
+            Assertions.assertThat(result.toString()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("JSON 은 기본 ETag 를 그대로 사용하고, 그 외 형식은 서로 다른 ETag 를 사용한다.")
+        void forFormat() {
+
+            // given
+            final String etag = "\"b1-1\"";
+
+            // when
+            final String json = EntityTag.forFormat(etag, MediaType.APPLICATION_JSON);
+            final String cbor = EntityTag.forFormat(etag, MediaType.APPLICATION_CBOR);
+            final String smile = EntityTag.forFormat(etag, EntityTag.negotiate("application/x-jackson-smile"));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(json).isEqualTo(etag);
+                softly.assertThat(cbor).isEqualTo("\"b1-1-cbor\"");
+                softly.assertThat(smile).isEqualTo("\"b1-1-smile\"");
+                softly.assertThat(EntityTag.matches(etag, cbor)).isFalse();
+            });
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class IsbnTest {
+
+    @Nested
+    @DisplayName("ISBN-10 변환 테스트")
+    class ParseIsbn10 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"123-456789-0", "1-23456789-0", "900-000000-0", "1234567890--"})
+        @DisplayName("유효한 ISBN-10은 압축 후 입력한 형태 그대로 복원된다.")
+        void success(final String value) throws APIException {
+
+            // given
+
+            // when
+            final Isbn isbn = Isbn.parseIsbn10(value);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(isbn.toString()).isEqualTo(value);
+                softly.assertThat(isbn.isIsbn13()).isFalse();
+                softly.assertThat(isbn.packed()).isPositive();
+                softly.assertThat(Isbn.fromPacked(isbn.packed())).isEqualTo(isbn);
+            });
+        }
+
+        @Test
+        @DisplayName("하이픈 위치가 다르면 다른 값으로 압축된다.")
+        void success2() throws APIException {
+
+            // given
+
+            // when
+            final Isbn isbn1 = Isbn.parseIsbn10("123-456789-0");
+            final Isbn isbn2 = Isbn.parseIsbn10("1234-56789-0");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(isbn1).isNotEqualTo(isbn2);
+                softly.assertThat(isbn1.digits()).isEqualTo(isbn2.digits());
+            });
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "' '|ISBN-10은 공백이거나 빈 값일 수 없습니다.",
+                "1234567890|ISBN-10은 하이픈(-)을 포함해야 합니다.",
+                "123-4567-89-0|ISBN-10은 하이픈(-)을 포함해야 합니다.",
+                "99-568901-0|ISBN-10은 10자리 숫자여야 합니다.",
+                "123-45678a-0|ISBN-10은 10자리 숫자여야 합니다.",
+                "123-456789 -0|ISBN-10은 10자리 숫자여야 합니다.",
+                "099-568901-0|ISBN-10의 앞 세 자리는 100~900 사이여야 합니다.",
+                "901-568901-0|ISBN-10의 앞 세 자리는 100~900 사이여야 합니다.",
+                "100-568901-1|ISBN-10의 마지막 자리는 0이어야 합니다.",
+        })
+        @DisplayName("유효하지 않은 ISBN-10은 기존 검증 규칙과 동일한 메시지로 실패한다.")
+        void fail(final String value, final String message) {
+
+            // given
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> Isbn.parseIsbn10(value));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+                softly.assertThat(apiException.getMessage()).isEqualTo(message);
+                softly.assertThat(Isbn.tryParse(value)).isNull();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("ISBN-13 변환 테스트")
+    class ParseIsbn13 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"978-3-16-148410-0", "9783161484100", "979-10-90636-07-1"})
+        @DisplayName("유효한 ISBN-13은 압축 후 입력한 형태 그대로 복원된다.")
+        void success(final String value) throws APIException {
+
+            // given
+
+            // when
+            final Isbn isbn = Isbn.parseIsbn13(value);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(isbn.toString()).isEqualTo(value);
+                softly.assertThat(isbn.isIsbn13()).isTrue();
+                softly.assertThat(Isbn.fromPacked(isbn.packed())).isEqualTo(isbn);
+            });
+        }
+
+        @Test
+        @DisplayName("체크섬이 일치하지 않으면 변환에 실패한다.")
+        void fail() {
+
+            // given
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> Isbn.parseIsbn13("978-3-16-148410-1"));
+
+            // then
+            Assertions.assertThat(apiException.getMessage()).isEqualTo("ISBN-13의 체크섬이 올바르지 않습니다.");
+        }
+    }
+}
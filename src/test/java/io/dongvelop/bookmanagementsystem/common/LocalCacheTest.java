@@ -0,0 +1,188 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class LocalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private LocalCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LocalCache<>("test", 2, Duration.ofSeconds(10), Duration.ofSeconds(1), now::get);
+    }
+
+    private String load(final Long key) throws APIException {
+        loadCount.incrementAndGet();
+        if (key < 0) {
+            throw new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "key[" + key + "] not found");
+        }
+        return "value" + key;
+    }
+
+    @Nested
+    @DisplayName("캐시 조회 테스트")
+    class Get {
+
+        @Test
+        @DisplayName("캐싱된 값은 만료 전까지 다시 조회하지 않는다.")
+        void success1() throws APIException {
+
+            // given
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // when
+            final String result = cache.get(1L, LocalCacheTest.this::load);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("value1");
+                softly.assertThat(loadCount.get()).isEqualTo(1);
+                softly.assertThat(cache.hitCount()).isEqualTo(1);
+                softly.assertThat(cache.missCount()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("만료 시간이 지나면 다시 조회한다.")
+        void success2() throws APIException {
+
+            // given
+            cache.get(1L, LocalCacheTest.this::load);
+            now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // when
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(loadCount.get()).isEqualTo(2);
+                softly.assertThat(cache.evictionCount()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.")
+        void success3() throws APIException {
+
+            // given
+            cache.get(1L, LocalCacheTest.this::load);
+            cache.get(2L, LocalCacheTest.this::load);
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // when
+            cache.get(3L, LocalCacheTest.this::load);
+            final String retained = cache.getIfPresent(1L);
+            final String evicted = cache.getIfPresent(2L);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(retained).isEqualTo("value1");
+                softly.assertThat(evicted).isNull();
+                softly.assertThat(cache.size()).isEqualTo(2);
+                softly.assertThat(cache.evictionCount()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 키는 짧은 만료 시간 동안 NOT_FOUND 예외로 캐싱된다.")
+        void success4() {
+
+            // given
+            assertThrowsExactly(APIException.class, () -> cache.get(-1L, LocalCacheTest.this::load));
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> cache.get(-1L, LocalCacheTest.this::load));
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertThrowsExactly(APIException.class, () -> cache.get(-1L, LocalCacheTest.this::load));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+                softly.assertThat(apiException.getMessage()).isEqualTo("key[-1] not found");
+                softly.assertThat(loadCount.get()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("제거된 항목은 다시 조회한다.")
+        void success5() throws APIException {
+
+            // given
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // when
+            cache.evict(1L);
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(loadCount.get()).isEqualTo(2);
+                softly.assertThat(cache.evictionCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("읽기 버퍼 크기보다 많이 적중한 경우에도 사용 순서가 반영되어, 자주 사용한 항목이 남는다.")
+        void success7() throws APIException {
+
+            // given
+            cache.get(1L, LocalCacheTest.this::load);
+            cache.get(2L, LocalCacheTest.this::load);
+            for (int i = 0; i < 1_000; i++) {
+                cache.getIfPresent(1L);
+            }
+
+            // when
+            cache.get(3L, LocalCacheTest.this::load);
+            final String retained = cache.getIfPresent(1L);
+            final String evicted = cache.getIfPresent(2L);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(retained).isEqualTo("value1");
+                softly.assertThat(evicted).isNull();
+                softly.assertThat(cache.size()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("조회 중에 제거된 항목은 조회 결과를 캐싱하지 않는다.")
+        void success6() throws APIException {
+
+            // given
+            final LocalCache.Loader<Long, String> evictingLoader = key -> {
+                final String value = load(key);
+                cache.evict(key);
+                return value;
+            };
+
+            // when
+            final String result = cache.get(1L, evictingLoader);
+            final String cached = cache.getIfPresent(1L);
+            cache.get(1L, LocalCacheTest.this::load);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("value1");
+                softly.assertThat(cached).isNull();
+                softly.assertThat(loadCount.get()).isEqualTo(2);
+            });
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class MpscRingBufferTest {
+
+    @Nested
+    @DisplayName("링 버퍼 추가/조회 테스트")
+    class OfferAndPoll {
+
+        @Test
+        @DisplayName("추가한 순서대로 조회되며, 가득 찬 경우 추가에 실패한다.")
+        void success1() {
+
+            // given
+            final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+            // when
+            final List<Boolean> offered = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                offered.add(buffer.offer(i));
+            }
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(buffer.capacity()).isEqualTo(4);
+                softly.assertThat(offered).containsExactly(true, true, true, true, false);
+                softly.assertThat(buffer.poll()).isEqualTo(0);
+                softly.assertThat(buffer.poll()).isEqualTo(1);
+                softly.assertThat(buffer.offer(5)).isTrue();
+                softly.assertThat(buffer.size()).isEqualTo(3);
+            });
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 추가해도 값이 유실되거나 중복되지 않는다.")
+        void success2() throws InterruptedException {
+
+            // given
+            final int producers = 4;
+            final int perProducer = 10_000;
+            final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+            final ExecutorService executor = Executors.newFixedThreadPool(producers);
+            final CountDownLatch ready = new CountDownLatch(1);
+
+            // when
+            for (int p = 0; p < producers; p++) {
+                final int base = p * perProducer;
+                executor.submit(() -> {
+                    ready.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+
+            final Set<Integer> consumed = new HashSet<>();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+                final Integer value = buffer.poll();
+                if (value != null) {
+                    Assertions.assertThat(consumed.add(value)).isTrue();
+                }
+            }
+            executor.shutdownNow();
+
+            // then
+            Assertions.assertThat(consumed).hasSize(producers * perProducer);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class MultiGetLimitTest {
+
+    private final MultiGetLimit multiGetLimit = new MultiGetLimit(3);
+
+    @Nested
+    @DisplayName("다건 조회 아이디 검증 테스트")
+    class Distinct {
+
+        @Test
+        @DisplayName("요청 순서를 유지한 채 중복된 아이디를 제거하며, 중복 제거 후 최대 아이디 수까지 허용한다.")
+        void success() throws APIException {
+
+            // given
+            final List<Long> ids = List.of(3L, 1L, 3L, 2L, 1L);
+
+            // when
+            final List<Long> result = multiGetLimit.distinct(ids);
+
+            // then
+            Assertions.assertThat(result).containsExactly(3L, 1L, 2L);
+        }
+
+        @Test
+        @DisplayName("최대 아이디 수를 초과할 경우, 실패한다.")
+        void fail() {
+
+            // given
+            final List<Long> ids = List.of(1L, 2L, 3L, 4L);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> multiGetLimit.distinct(ids));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+        }
+
+        @Test
+        @DisplayName("아이디가 비어있거나 빈 값을 포함할 경우, 실패한다.")
+        void fail2() {
+
+            // given
+            final List<Long> emptyIds = List.of();
+            final List<Long> nullIds = Arrays.asList(1L, null);
+
+            // when
+            final APIException empty = assertThrowsExactly(APIException.class, () -> multiGetLimit.distinct(emptyIds));
+            final APIException containsNull = assertThrowsExactly(APIException.class, () -> multiGetLimit.distinct(nullIds));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(empty.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+                softly.assertThat(containsNull.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+        }
+    }
+}
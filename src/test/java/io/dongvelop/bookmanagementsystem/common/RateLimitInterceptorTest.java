@@ -0,0 +1,77 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RateLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Forwarded-For";
+
+    private final RateLimiter rateLimiter = Mockito.mock(RateLimiter.class);
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @Nested
+    @DisplayName("클라이언트 구분 테스트")
+    class Client {
+
+        @Test
+        @DisplayName("신뢰하는 프록시가 하나인 경우, 클라이언트가 보낸 앞쪽 주소 대신 가장 뒤의 주소를 사용한다.")
+        void rightmost() {
+
+            // given
+            final RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter, CLIENT_HEADER, 1);
+            request.addHeader(CLIENT_HEADER, "1.1.1.1, 203.0.113.7");
+
+            // when
+            final String result = interceptor.client(request);
+
+            // then
+            Assertions.assertThat(result).isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("신뢰하는 프록시가 여러 개인 경우, 뒤에서 프록시 수 번째 주소를 사용한다.")
+        void trustedHops() {
+
+            // given
+            final RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter, CLIENT_HEADER, 2);
+            request.addHeader(CLIENT_HEADER, "1.1.1.1, 203.0.113.7,10.0.0.2");
+
+            // when
+            final String result = interceptor.client(request);
+
+            // then
+            Assertions.assertThat(result).isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("주소가 신뢰하는 프록시 수보다 적거나 헤더가 없는 경우, 접속 주소를 사용한다.")
+        void remoteAddr() {
+
+            // given
+            final RateLimitInterceptor interceptor = new RateLimitInterceptor(rateLimiter, CLIENT_HEADER, 2);
+            final MockHttpServletRequest noHeader = new MockHttpServletRequest();
+            noHeader.setRemoteAddr("10.0.0.1");
+            request.addHeader(CLIENT_HEADER, "1.1.1.1");
+
+            // when
+            final String result = interceptor.client(request);
+            final String noHeaderResult = interceptor.client(noHeader);
+
+            // then
+            Assertions.assertThat(result).isEqualTo("10.0.0.1");
+            Assertions.assertThat(noHeaderResult).isEqualTo("10.0.0.1");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class RateLimiterTest {
+
+    private static final String ROUTE = "GET /books";
+
+    private final AtomicLong now = new AtomicLong();
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(Map.of(
+                RateLimited.Budget.READ, RateLimiter.Limit.of(RateLimited.Budget.READ, 3, 1),
+                RateLimited.Budget.SEARCH, RateLimiter.Limit.of(RateLimited.Budget.SEARCH, 1, 0.5),
+                RateLimited.Budget.WRITE, RateLimiter.Limit.of(RateLimited.Budget.WRITE, 2, 1)
+        ), Duration.ofMinutes(1), now::get);
+    }
+
+    private void advance(final long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Nested
+    @DisplayName("토큰 사용 테스트")
+    class Acquire {
+
+        @Test
+        @DisplayName("버킷 용량만큼은 연속으로 허용하고 남은 토큰 수를 줄이며, 초과하면 토큰 하나가 충전될 때까지의 재시도 시간과 함께 거절한다.")
+        void burst() {
+
+            // given
+
+            // when
+            final RateLimiter.Decision first = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+            final RateLimiter.Decision second = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+            final RateLimiter.Decision third = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+            final RateLimiter.Decision rejected = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first.allowed()).isTrue();
+                softly.assertThat(first.limit()).isEqualTo(3);
+                softly.assertThat(first.remaining()).isEqualTo(2);
+                softly.assertThat(first.resetSeconds()).isEqualTo(1);
+                softly.assertThat(first.windowSeconds()).isEqualTo(3);
+                softly.assertThat(second.remaining()).isEqualTo(1);
+                softly.assertThat(third.allowed()).isTrue();
+                softly.assertThat(third.remaining()).isZero();
+                softly.assertThat(third.resetSeconds()).isEqualTo(3);
+                softly.assertThat(rejected.allowed()).isFalse();
+                softly.assertThat(rejected.remaining()).isZero();
+                softly.assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(1));
+                softly.assertThat(rateLimiter.rejectedCount()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("거절된 요청은 토큰을 사용하지 않으며, 시간이 지나면 충전량만큼 다시 허용한다.")
+        void refill() {
+
+            // given
+            rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+            rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+            rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+
+            // when
+            advance(400);
+            final RateLimiter.Decision early = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+            advance(600);
+            final RateLimiter.Decision refilled = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+            final RateLimiter.Decision again = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.WRITE);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(early.allowed()).isFalse();
+                softly.assertThat(early.retryAfter()).isEqualTo(Duration.ofMillis(600));
+                softly.assertThat(refilled.allowed()).isTrue();
+                softly.assertThat(again.allowed()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("클라이언트, 경로, 예산이 다르면 서로의 토큰을 사용하지 않는다.")
+        void separate() {
+
+            // given
+            rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.SEARCH);
+
+            // when
+            final RateLimiter.Decision sameKey = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.SEARCH);
+            final RateLimiter.Decision otherClient = rateLimiter.tryAcquire("other", ROUTE, RateLimited.Budget.SEARCH);
+            final RateLimiter.Decision otherRoute = rateLimiter.tryAcquire("client", "GET /authors", RateLimited.Budget.SEARCH);
+            final RateLimiter.Decision otherBudget = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(sameKey.allowed()).isFalse();
+                softly.assertThat(sameKey.retryAfter()).isEqualTo(Duration.ofSeconds(2));
+                softly.assertThat(otherClient.allowed()).isTrue();
+                softly.assertThat(otherRoute.allowed()).isTrue();
+                softly.assertThat(otherBudget.allowed()).isTrue();
+            });
+        }
+        @Test
+        @DisplayName("같은 경로에 예산이 다른 엔드포인트가 매핑된 경우, 예산별 버킷을 사용하여 서로 제한하지 않는다.")
+        void sameRouteOtherBudget() {
+
+            // given
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+            }
+            rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.SEARCH);
+
+            // when
+            final RateLimiter.Decision read = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+            final RateLimiter.Decision search = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.SEARCH);
+            advance(1000);
+            final RateLimiter.Decision readRefilled = rateLimiter.tryAcquire("client", ROUTE, RateLimited.Budget.READ);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(read.allowed()).isFalse();
+                softly.assertThat(read.limit()).isEqualTo(3);
+                softly.assertThat(read.retryAfter()).isEqualTo(Duration.ofSeconds(1));
+                softly.assertThat(search.allowed()).isFalse();
+                softly.assertThat(search.limit()).isEqualTo(1);
+                softly.assertThat(search.retryAfter()).isEqualTo(Duration.ofSeconds(2));
+                softly.assertThat(readRefilled.allowed()).isTrue();
+                softly.assertThat(rateLimiter.bucketCount()).isEqualTo(2);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("유휴 버킷 정리 테스트")
+    class Sweep {
+
+        @Test
+        @DisplayName("가득 찬 상태로 유휴 시간이 지난 버킷은 요청 처리 중에 제거하고, 사용 중인 버킷은 유지한다.")
+        void evictIdle() {
+
+            // given
+            rateLimiter.tryAcquire("idle", ROUTE, RateLimited.Budget.READ);
+            advance(TimeUnit.MINUTES.toMillis(2));
+
+            // when
+            for (int i = 0; i < 16 * 256; i++) {
+                rateLimiter.tryAcquire("active", ROUTE, RateLimited.Budget.READ);
+            }
+
+            // then
+            Assertions.assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("버킷 용량이 1 미만이거나 충전량이 0 이하인 경우, 예외가 발생한다.")
+    void invalidLimit() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> RateLimiter.Limit.of(RateLimited.Budget.READ, 0, 1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> RateLimiter.Limit.of(RateLimited.Budget.READ, 1, 0));
+    }
+}
@@ -0,0 +1,180 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+class ResponseCompressionFilterTest {
+
+    private static final int MIN_RESPONSE_SIZE = 100;
+
+    private final ResponseCompressionFilter filter =
+            new ResponseCompressionFilter(true, DataSize.ofBytes(MIN_RESPONSE_SIZE), "application/json,application/x-ndjson");
+
+    private MockHttpServletResponse perform(final String acceptEncoding, final String contentType, final String body) throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/authors");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                resp.setHeader(HttpHeaders.ETAG, "\"a1-0\"");
+                // 스트리밍 응답처럼 여러 번 나누어 기록하고 중간에 flush 한다.
+                final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                final int half = bytes.length / 2;
+                resp.getOutputStream().write(bytes, 0, half);
+                resp.getOutputStream().flush();
+                resp.getOutputStream().write(bytes, half, bytes.length - half);
+            }
+        }));
+
+        return response;
+    }
+
+    private static String gunzip(final byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 압축 테스트")
+    class Compress {
+
+        @Test
+        @DisplayName("gzip 을 허용하고 본문이 최소 크기를 넘을 경우, 압축하여 응답한다.")
+        void success() throws Exception {
+
+            // given
+            final String body = "[" + "{\"name\":\"name\"},".repeat(50) + "{}]";
+
+            // when
+            final MockHttpServletResponse response = perform("gzip, deflate", MediaType.APPLICATION_JSON_VALUE, body);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            softAssertions.assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"a1-0\"");
+            softAssertions.assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+            softAssertions.assertAll();
+        }
+
+        @Test
+        @DisplayName("본문이 최소 크기 이하일 경우, 압축하지 않고 길이와 함께 응답한다.")
+        void small() throws Exception {
+
+            // given
+            final String body = "{\"name\":\"name\"}";
+
+            // when
+            final MockHttpServletResponse response = perform("gzip", MediaType.APPLICATION_JSON_VALUE, body);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            softAssertions.assertThat(response.getContentLength()).isEqualTo(body.length());
+            softAssertions.assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"a1-0\"");
+            softAssertions.assertThat(response.getContentAsString()).isEqualTo(body);
+            softAssertions.assertAll();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"identity", "gzip;q=0", "deflate, br"})
+        @DisplayName("gzip 을 허용하지 않을 경우, 압축하지 않는다.")
+        void notAccepted(final String acceptEncoding) throws Exception {
+
+            // given
+            final String body = "x".repeat(MIN_RESPONSE_SIZE * 2);
+
+            // when
+            final MockHttpServletResponse response = perform(acceptEncoding, MediaType.APPLICATION_JSON_VALUE, body);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            softAssertions.assertThat(response.getContentAsString()).isEqualTo(body);
+            softAssertions.assertAll();
+        }
+
+        @Test
+        @DisplayName("압축 대상이 아닌 형식일 경우, 압축하지 않는다.")
+        void notCompressible() throws Exception {
+
+            // given
+            final String body = "x".repeat(MIN_RESPONSE_SIZE * 2);
+
+            // when
+            final MockHttpServletResponse response = perform("gzip", MediaType.IMAGE_PNG_VALUE, body);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            softAssertions.assertThat(response.getContentAsString()).isEqualTo(body);
+            softAssertions.assertAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 응답 테스트")
+    class Async {
+
+        @Test
+        @DisplayName("비동기 처리가 시작된 경우, 버퍼링한 본문과 이후 본문을 압축하지 않고 그대로 응답한다.")
+        void passThrough() throws Exception {
+
+            // given
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/authors");
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            request.setAsyncSupported(true);
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            final AtomicReference<HttpServletResponse> asyncResponse = new AtomicReference<>();
+
+            // when
+            filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                    resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    resp.getOutputStream().write("[".getBytes(StandardCharsets.UTF_8));
+                    req.startAsync(req, resp);
+                    asyncResponse.set(resp);
+                }
+            }));
+
+            // 필터가 반환된 뒤 다른 스레드에서 기록하는 본문
+            final String rest = "{\"name\":\"name\"},".repeat(50) + "{}]";
+            asyncResponse.get().getOutputStream().write(rest.getBytes(StandardCharsets.UTF_8));
+            request.getAsyncContext().complete();
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            softAssertions.assertThat(response.getContentAsString()).isEqualTo("[" + rest);
+            softAssertions.assertAll();
+        }
+    }
+}
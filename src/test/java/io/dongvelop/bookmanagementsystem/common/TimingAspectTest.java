@@ -0,0 +1,88 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.service.BookService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.BDDMockito.given;
+
+class TimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimingAspect timingAspect;
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timingAspect = new TimingAspect(meterRegistry);
+
+        final Signature signature = Mockito.mock(Signature.class);
+        given(signature.getDeclaringType()).willReturn(BookService.class);
+        given(signature.getName()).willReturn("getBookDetails");
+
+        joinPoint = Mockito.mock(ProceedingJoinPoint.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+    }
+
+    @Nested
+    @DisplayName("메서드 응답 시간 측정 테스트")
+    class Time {
+
+        @Test
+        @DisplayName("정상 처리된 경우, SUCCESS 결과로 응답 시간이 기록된다.")
+        void success() throws Throwable {
+
+            // given
+            given(joinPoint.proceed()).willReturn("result");
+
+            // when
+            final Object result = timingAspect.timeService(joinPoint);
+
+            // then
+            final Timer timer = meterRegistry.find(TimingAspect.SERVICE_TIMER)
+                    .tags("class", "BookService", "method", "getBookDetails", "outcome", TimingAspect.OUTCOME_SUCCESS)
+                    .timer();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("result");
+                softly.assertThat(timer).isNotNull();
+                softly.assertThat(timer.count()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("예외가 발생한 경우, 에러 타입을 결과로 응답 시간이 기록되고 예외는 그대로 전달된다.")
+        void fail() throws Throwable {
+
+            // given
+            given(joinPoint.proceed()).willThrow(new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA));
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> timingAspect.timeEndpoint(joinPoint));
+
+            // then
+            final Timer timer = meterRegistry.find(TimingAspect.ENDPOINT_TIMER)
+                    .tags("outcome", ErrorType.NOT_EXIST_DATA.name())
+                    .timer();
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+                softly.assertThat(timer).isNotNull();
+                softly.assertThat(timer.count()).isEqualTo(1);
+            });
+        }
+    }
+}
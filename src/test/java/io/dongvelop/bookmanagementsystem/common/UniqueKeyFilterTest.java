@@ -0,0 +1,212 @@
+package io.dongvelop.bookmanagementsystem.common;
+
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueKeyFilterTest {
+
+    private static final String EXISTING_ISBN = "123-456789-0";
+    private static final String EXISTING_EMAIL = "author@example.com";
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private AuthorRepository authorRepository;
+
+    private UniqueKeyFilter uniqueKeyFilter;
+
+    @BeforeEach
+    void setUp() {
+        uniqueKeyFilter = new UniqueKeyFilter(bookRepository, authorRepository, 1_000, 1_000, 0.01);
+    }
+
+    private void rebuild() throws APIException {
+        given(bookRepository.streamAllIsbns()).willReturn(Stream.of(Isbn.parseIsbn10(EXISTING_ISBN)));
+        given(authorRepository.streamAllEmails()).willReturn(Stream.of(EXISTING_EMAIL));
+        uniqueKeyFilter.rebuild();
+    }
+
+    @Nested
+    @DisplayName("단건 중복 확인 테스트")
+    class Exists {
+
+        @Test
+        @DisplayName("필터 구성 전에는 항상 DB 로 확인한다.")
+        void notReady() {
+
+            // given
+            given(authorRepository.existsByEmail("new@example.com")).willReturn(false);
+
+            // when
+            final boolean result = uniqueKeyFilter.existsEmail("new@example.com");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result).isFalse());
+            Mockito.verify(authorRepository).existsByEmail("new@example.com");
+        }
+
+        @Test
+        @DisplayName("필터에 없는 값은 DB 를 조회하지 않고 중복이 아니라고 판단한다.")
+        void negative() throws APIException {
+
+            // given
+            rebuild();
+
+            // when
+            final boolean isbnResult = uniqueKeyFilter.existsIsbn("223-456789-0");
+            final boolean emailResult = uniqueKeyFilter.existsEmail("new@example.com");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(isbnResult).isFalse();
+                softly.assertThat(emailResult).isFalse();
+            });
+            Mockito.verify(bookRepository, Mockito.never()).existsByIsbn(any(Isbn.class));
+            Mockito.verify(authorRepository, Mockito.never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("필터에 있는 값은 DB 로 중복 여부를 확인한다.")
+        void positive() throws APIException {
+
+            // given
+            rebuild();
+            given(bookRepository.existsByIsbn(Isbn.parseIsbn10(EXISTING_ISBN))).willReturn(true);
+            given(authorRepository.existsByEmail(EXISTING_EMAIL)).willReturn(true);
+
+            // when
+            final boolean isbnResult = uniqueKeyFilter.existsIsbn(EXISTING_ISBN);
+            final boolean emailResult = uniqueKeyFilter.existsEmail(EXISTING_EMAIL);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(isbnResult).isTrue();
+                softly.assertThat(emailResult).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 ISBN 은 DB 를 조회하지 않고 중복이 아니라고 판단한다.")
+        void invalidIsbn() {
+
+            // when
+            final boolean result = uniqueKeyFilter.existsIsbn("1234567890");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result).isFalse());
+            Mockito.verifyNoInteractions(bookRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("키 추가/제거 테스트")
+    class AddAndRemove {
+
+        @Test
+        @DisplayName("추가한 값은 DB 로 확인하고, 제거한 값은 DB 를 조회하지 않는다.")
+        void success() throws APIException {
+
+            // given
+            rebuild();
+            given(authorRepository.existsByEmail("new@example.com")).willReturn(true);
+
+            // when
+            uniqueKeyFilter.addEmail("new@example.com");
+            final boolean afterAdd = uniqueKeyFilter.existsEmail("new@example.com");
+            uniqueKeyFilter.removeEmail("new@example.com");
+            final boolean afterRemove = uniqueKeyFilter.existsEmail("new@example.com");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(afterAdd).isTrue();
+                softly.assertThat(afterRemove).isFalse();
+            });
+            Mockito.verify(authorRepository, Mockito.times(1)).existsByEmail("new@example.com");
+        }
+    }
+
+    @Nested
+    @DisplayName("다건 중복 확인 테스트")
+    class FindExistingIsbns {
+
+        @Test
+        @DisplayName("필터에 있는 ISBN 만 DB 로 조회한다.")
+        void success() throws APIException {
+
+            // given
+            rebuild();
+            final Isbn existing = Isbn.parseIsbn10(EXISTING_ISBN);
+            given(bookRepository.findExistingIsbns(List.of(existing))).willReturn(List.of(existing));
+
+            // when
+            final Set<Isbn> result = uniqueKeyFilter.findExistingIsbns(List.of(existing, Isbn.parseIsbn10("223-456789-0")));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result).containsExactly(existing));
+        }
+
+        @Test
+        @DisplayName("필터에 있는 ISBN 이 없으면 DB 를 조회하지 않는다.")
+        void negative() throws APIException {
+
+            // given
+            rebuild();
+
+            // when
+            final Set<Isbn> result = uniqueKeyFilter.findExistingIsbns(List.of(Isbn.parseIsbn10("223-456789-0")));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> softly.assertThat(result).isEmpty());
+            Mockito.verify(bookRepository, Mockito.never()).findExistingIsbns(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("지표 테스트")
+    class Metrics {
+
+        @Test
+        @DisplayName("필터별 메모리 사용량과 확인 결과 횟수를 노출한다.")
+        void success() throws APIException {
+
+            // given
+            final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            uniqueKeyFilter.bindTo(registry);
+            rebuild();
+            given(authorRepository.existsByEmail(EXISTING_EMAIL)).willReturn(true);
+
+            // when
+            uniqueKeyFilter.existsEmail("new@example.com");
+            uniqueKeyFilter.existsEmail(EXISTING_EMAIL);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(registry.get("uniqueness.filter.memory").tag("filter", "isbn").gauge().value()).isPositive();
+                softly.assertThat(registry.get("uniqueness.filter.checks").tags("filter", "email", "result", "negative").functionCounter().count()).isEqualTo(1.0);
+                softly.assertThat(registry.get("uniqueness.filter.checks").tags("filter", "email", "result", "duplicate").functionCounter().count()).isEqualTo(1.0);
+                softly.assertThat(registry.get("uniqueness.filter.false.positive.rate").tag("filter", "email").gauge().value()).isZero();
+            });
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package io.dongvelop.bookmanagementsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dongvelop.bookmanagementsystem.common.ReadYourWrites;
+import io.dongvelop.bookmanagementsystem.common.ReadYourWritesFilter;
+import io.dongvelop.bookmanagementsystem.common.ReplicaDataSource;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 원본과 복제본을 서로 다른 H2 인스턴스로 띄워 라우팅을 확인한다. 두 인스턴스 사이에는 복제가 없으므로,
+ * 원본에 저장한 데이터는 원본으로 라우팅된 경우에만 조회된다.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "db.replica.enabled=true",
+        "db.replica.urls=jdbc:h2:mem:routing-replica",
+        "db.replica.migrate=true",
+        "db.replica.read-your-writes=1m"
+})
+class ReplicaDataSourceConfigTest {
+
+    @Autowired
+    private AuthorRepository authorRepository;
+    @Autowired
+    private ReadYourWrites readYourWrites;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TaskDecorator taskDecorator;
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readYourWrites.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeTransaction.executeWithoutResult(status -> authorRepository.deleteAllInBatch());
+        readYourWrites.close();
+    }
+
+    private void saveAuthor(final String email) {
+        writeTransaction.executeWithoutResult(status -> authorRepository.save(new Author("name", email)));
+    }
+
+    private Boolean existsInReadOnly(final String email) {
+        return readOnlyTransaction.execute(status -> authorRepository.existsByEmail(email));
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 라우팅 테스트")
+    class Routing {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 복제본에서, 쓰기 트랜잭션은 원본에서 조회한다.")
+        void readOnlyToReplica() {
+
+            // given
+            saveAuthor("routing1@example.com");
+            readYourWrites.close();
+
+            // when
+            final Boolean readOnlyResult = existsInReadOnly("routing1@example.com");
+            final Boolean writeResult = writeTransaction.execute(status -> authorRepository.existsByEmail("routing1@example.com"));
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(readOnlyResult).isFalse();
+            softAssertions.assertThat(writeResult).isTrue();
+            softAssertions.assertAll();
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션 커밋 후 일관성 유지 시간 내의 읽기 전용 트랜잭션은 원본에서 조회한다.")
+        void readYourWrites() {
+
+            // given
+            saveAuthor("routing2@example.com");
+
+            // when
+            final Boolean result = existsInReadOnly("routing2@example.com");
+
+            // then
+            Assertions.assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 요청에서 받은 일관성 유지 기한이 지나지 않은 경우, 읽기 전용 트랜잭션은 원본에서 조회한다.")
+        void previousRequest() {
+
+            // given
+            saveAuthor("routing3@example.com");
+            readYourWrites.open(System.currentTimeMillis() + 60_000, null);
+
+            // when
+            final Boolean result = existsInReadOnly("routing3@example.com");
+
+            // then
+            Assertions.assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 요청에서 받은 일관성 유지 기한이 지난 경우, 읽기 전용 트랜잭션은 복제본에서 조회한다.")
+        void expired() {
+
+            // given
+            saveAuthor("routing4@example.com");
+            readYourWrites.open(System.currentTimeMillis() - 1, null);
+
+            // when
+            final Boolean result = existsInReadOnly("routing4@example.com");
+
+            // then
+            Assertions.assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("백그라운드 작업 테스트")
+    class Task {
+
+        @Test
+        @DisplayName("스레드 풀 작업 중 커밋된 쓰기의 일관성 유지 기한은 작업이 끝나면 스레드에서 제거된다.")
+        void cleared() {
+
+            // given
+            final Boolean[] result = new Boolean[1];
+            final Runnable task = taskDecorator.decorate(() -> {
+                saveAuthor("routing6@example.com");
+                result[0] = existsInReadOnly("routing6@example.com");
+            });
+
+            // when
+            task.run();
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(result[0]).as("작업 중 원본에서 조회").isTrue();
+            softAssertions.assertThat(readYourWrites.isPrimaryRequired()).as("작업 종료 후 기한 제거").isFalse();
+            softAssertions.assertAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("2차 캐시 저장 테스트")
+    class SecondLevelCache {
+
+        private CacheMode cacheModeInReadOnly() {
+            return readOnlyTransaction.execute(status -> entityManager.unwrap(Session.class).getCacheMode());
+        }
+
+        @Test
+        @DisplayName("복제본으로 라우팅되는 읽기 전용 트랜잭션은 2차 캐시를 조회만 하고 저장하지 않는다.")
+        void replica() {
+
+            // when
+            final CacheMode result = cacheModeInReadOnly();
+
+            // then
+            Assertions.assertThat(result).isEqualTo(CacheMode.GET);
+        }
+
+        @Test
+        @DisplayName("원본으로 라우팅되는 트랜잭션은 2차 캐시를 저장한다.")
+        void primary() {
+
+            // given
+            saveAuthor("routing7@example.com");
+
+            // when
+            final CacheMode readOnlyResult = cacheModeInReadOnly();
+            final CacheMode writeResult = writeTransaction.execute(status -> entityManager.unwrap(Session.class).getCacheMode());
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(readOnlyResult).isEqualTo(CacheMode.NORMAL);
+            softAssertions.assertThat(writeResult).isEqualTo(CacheMode.NORMAL);
+            softAssertions.assertAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("상세 조회 캐시 테스트")
+    class DetailCacheTest {
+
+        @Test
+        @DisplayName("수정 후 다른 요청의 상세 조회는 복제 지연으로 이전 값이 남은 복제본 대신 원본에서 조회하여 캐싱한다.")
+        void noStaleDetail() throws APIException {
+
+            // given
+            final Long authorId = authorService.createAuthor(new CreateAuthorRequest("before", "routing8@example.com")).getId();
+            readYourWrites.close();
+            // 복제 지연 : 복제본에는 수정 전 저자만 있다.
+            new JdbcTemplate(replicaDataSource).update(
+                    "INSERT INTO author (id, name, email, created_at, updated_at) VALUES (?, 'before', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    authorId, "routing8@example.com");
+            authorService.getCachedAuthorDetail(authorId);
+
+            authorService.updateAuthor(authorId, new UpdateAuthorRequest("after"));
+            readYourWrites.close();
+            entityManager.getEntityManagerFactory().getCache().evictAll();
+
+            // when
+            final Versioned<AuthorDetailResponse> result = authorService.getCachedAuthorDetail(authorId);
+            final Versioned<AuthorDetailResponse> cached = authorService.getCachedAuthorDetail(authorId);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(result.body().name()).isEqualTo("after");
+            softAssertions.assertThat(cached.body().name()).isEqualTo("after");
+            softAssertions.assertThat(readYourWrites.isPrimaryRequired()).as("조회 후 기한 복원").isFalse();
+            softAssertions.assertAll();
+
+            new JdbcTemplate(replicaDataSource).update("DELETE FROM author WHERE id = ?", authorId);
+        }
+    }
+
+    @Nested
+    @DisplayName("일관성 유지 쿠키 테스트")
+    class Cookie {
+
+        @Test
+        @DisplayName("요청 처리 중 쓰기 트랜잭션이 커밋된 경우, 일관성 유지 기한을 쿠키로 응답한다.")
+        void write() throws Exception {
+
+            // given
+            final CreateAuthorRequest request = new CreateAuthorRequest("name", "routing5@example.com");
+
+            // when
+            final MvcResult result = mockMvc.perform(post("/authors")
+                            .content(objectMapper.writeValueAsString(request))
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(result.getResponse().getHeader(HttpHeaders.SET_COOKIE))
+                    .startsWith(ReadYourWritesFilter.COOKIE_NAME + "=")
+                    .contains("HttpOnly");
+            softAssertions.assertThat(readYourWrites.isPrimaryRequired()).as("요청 종료 후 기한 제거").isFalse();
+            softAssertions.assertAll();
+        }
+    }
+}
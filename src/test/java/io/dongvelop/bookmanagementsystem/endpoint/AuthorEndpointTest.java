@@ -2,29 +2,52 @@ package io.dongvelop.bookmanagementsystem.endpoint;
 
 import autoparams.AutoSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookCursorResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookRow;
 import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.service.AuthorDeletionJob;
+import io.dongvelop.bookmanagementsystem.service.AuthorDeletionService;
 import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import io.dongvelop.bookmanagementsystem.service.AuthorStatsService;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +65,10 @@ class AuthorEndpointTest {
     @MockitoBean
     private AuthorService authorService;
     @MockitoBean
+    private AuthorDeletionService authorDeletionService;
+    @MockitoBean
+    private AuthorStatsService authorStatsService;
+    @MockitoBean
     private AuthorRepository authorRepository;
 
     @Nested
@@ -94,19 +121,111 @@ class AuthorEndpointTest {
     @DisplayName("저자 목록 조회 API 테스트")
     class GetAuthorList {
 
-        @AutoSource
-        @ParameterizedTest
-        @DisplayName("저자 목록을 조회한다.")
-        void success(List<Author> responses) throws Exception {
+        @Test
+        @DisplayName("저자 목록을 청크 단위로 조회하여 JSON 배열로 응답한다.")
+        void success() throws Exception {
+
+            // given
+            given(authorService.getAuthorBookGroups(0L, Const.AUTHOR_LIST_CHUNK_SIZE)).willReturn(List.of(
+                    List.of(new AuthorBookRow(1L, "name1", "name1@email.com", null, null, null, null))));
+            given(authorService.getAuthorBookGroups(1L, Const.AUTHOR_LIST_CHUNK_SIZE)).willReturn(List.of(
+                    List.of(new AuthorBookRow(2L, "name2", "name2@email.com", 1L, "title", "description", LocalDate.of(2020, 1, 1)))));
+
+            // when
+            var result = mockMvc.perform(get("/authors"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(content().json("""
+                            [
+                              {"name":"name1","email":"name1@email.com","books":[]},
+                              {"name":"name2","email":"name2@email.com","books":[
+                                {"id":1,"title":"title","description":"description","publicationDate":"2020-01-01"}
+                              ]}
+                            ]
+                            """, true));
+        }
+
+        @Test
+        @DisplayName("저자가 없을 경우, 빈 배열을 조회한다.")
+        void empty() throws Exception {
 
             // given
-            given(authorService.getAuthorList()).willReturn(responses);
 
             // when
             var result = mockMvc.perform(get("/authors"));
 
             // then
-            result.andExpect(status().isOk());
+            result.andExpect(status().isOk())
+                    .andExpect(content().json("[]", true));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 다건 조회 API 테스트")
+    class GetAuthorDetailList {
+
+        @Test
+        @DisplayName("ids 파라미터가 있을 경우, 요청 순서대로 저자를 조회하고 존재하지 않는 아이디를 함께 반환한다.")
+        void success() throws Exception {
+
+            // given
+            final MultiGetResponse<AuthorDetailResponse> response = new MultiGetResponse<>(List.of(
+                    new AuthorDetailResponse(2L, "name2", "name2@example.com", List.of(), 0),
+                    new AuthorDetailResponse(1L, "name1", "name1@example.com", List.of(), 0)
+            ), List.of(3L));
+            given(authorService.getAuthorDetailList(List.of(2L, 3L, 1L))).willReturn(response);
+
+            // when
+            var result = mockMvc.perform(get("/authors").param("ids", "2,3,1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(2))
+                    .andExpect(jsonPath("$.content[1].id").value(1))
+                    .andExpect(jsonPath("$.not_found[0]").value(3));
+            then(authorService).should(never()).getAuthorBookGroups(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("아이디 형식이 올바르지 않을 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+
+            // when
+            var result = mockMvc.perform(get("/authors").param("ids", "1,a"));
+
+            // then
+            result.andExpect(status().isBadRequest());
+            then(authorService).should(never()).getAuthorDetailList(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 목록 내보내기 API 테스트")
+    class ExportAuthorList {
+
+        @Test
+        @DisplayName("저자 한 명당 한 줄의 JSON 으로 저자 목록을 내보낸다.")
+        void success() throws Exception {
+
+            // given
+            given(authorService.getAuthorBookGroups(0L, Const.AUTHOR_LIST_CHUNK_SIZE)).willReturn(List.of(
+                    List.of(new AuthorBookRow(1L, "name1", "name1@email.com", null, null, null, null)),
+                    List.of(new AuthorBookRow(2L, "name2", "name2@email.com", null, null, null, null))));
+
+            // when
+            var result = mockMvc.perform(get("/authors/export"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("""
+                            {"name":"name1","email":"name1@email.com","books":[]}
+                            {"name":"name2","email":"name2@email.com","books":[]}
+                            """));
         }
     }
 
@@ -120,13 +239,52 @@ class AuthorEndpointTest {
         void success(Long authorId, Author response) throws Exception {
 
             // given
-            given(authorService.getAuthorDetail(authorId)).willReturn(response);
+            given(authorService.getCachedAuthorDetail(authorId)).willReturn(new Versioned<>(AuthorDetailResponse.of(response), "\"a1-1-0-0\""));
 
             // when
             var result = mockMvc.perform(get("/authors/{id}", authorId));
 
             // then
-            result.andExpect(status().isOk());
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"a1-1-0-0\""))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT)));
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("If-None-Match 의 ETag 가 현재 ETag 와 일치할 경우, 본문 없이 304로 응답한다.")
+        void notModified(Long authorId) throws Exception {
+
+            // given
+            given(authorService.getAuthorETag(authorId)).willReturn("\"a1-1-0-0\"");
+
+            // when
+            var result = mockMvc.perform(get("/authors/{id}", authorId).header(HttpHeaders.IF_NONE_MATCH, "W/\"a1-1-0-0\""));
+
+            // then
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"a1-1-0-0\""))
+                    .andExpect(content().string(""));
+            then(authorService).should(never()).getCachedAuthorDetail(any());
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("Smile 형식으로 요청할 경우, JSON 과 다른 ETag 로 비교하고 응답한다.")
+        void otherFormat(Long authorId) throws Exception {
+
+            // given
+            given(authorService.getAuthorETag(authorId)).willReturn("\"a1-1-0-0\"");
+
+            // when
+            var result = mockMvc.perform(get("/authors/{id}", authorId)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"a1-1-0-0-smile\"")
+                    .accept(Const.APPLICATION_SMILE_VALUE));
+
+            // then
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"a1-1-0-0-smile\""))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT)));
         }
 
         @Test
@@ -135,7 +293,7 @@ class AuthorEndpointTest {
 
             // given
             final Long notExistAuthorId = 10_000_000L;
-            given(authorService.getAuthorDetail(notExistAuthorId)).willThrow(
+            given(authorService.getCachedAuthorDetail(notExistAuthorId)).willThrow(
                     new APIException(
                             HttpStatus.NOT_FOUND,
                             ErrorType.NOT_EXIST_DATA
@@ -151,6 +309,73 @@ class AuthorEndpointTest {
         }
     }
 
+    @Nested
+    @DisplayName("저자 도서 목록 조회 API 테스트")
+    class GetAuthorBooks {
+
+        @Test
+        @DisplayName("다음 페이지가 존재할 경우, 다음 커서와 함께 도서 목록을 조회한다.")
+        void success() throws Exception {
+
+            // given
+            final BookCursorResponse response = new BookCursorResponse(
+                    List.of(new BookListResponse(2L, "title", "description", LocalDate.now())), "cursor", true);
+            given(authorService.getAuthorBooks(1L, null, 1)).willReturn(response);
+
+            // when
+            var result = mockMvc.perform(get("/authors/{id}/books", 1L).param("size", "1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(2))
+                    .andExpect(jsonPath("$.next_cursor").value("cursor"))
+                    .andExpect(jsonPath("$.has_next").value(true));
+        }
+
+        @Test
+        @DisplayName("저자 아이디가 유효하지 않을 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            given(authorService.getAuthorBooks(any(), any(), anyInt()))
+                    .willThrow(new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[1] not found"));
+
+            // when
+            var result = mockMvc.perform(get("/authors/{id}/books", 1L));
+
+            // then
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.NOT_EXIST_DATA.getValue()));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 통계 목록 조회 API 테스트")
+    class GetAuthorStatsList {
+
+        @Test
+        @DisplayName("요청한 페이지의 저자 통계 목록을 조회한다.")
+        void success() throws Exception {
+
+            // given
+            final LocalDate now = LocalDate.now();
+            final PageImpl<AuthorStatsResponse> response = new PageImpl<>(List.of(
+                    new AuthorStatsResponse(1L, "name", 2, now.minusDays(1), now, LocalDateTime.now())
+            ), PageRequest.of(1, 1), 2);
+            given(authorStatsService.getAuthorStatsList(PageRequest.of(1, 1))).willReturn(response);
+
+            // when
+            var result = mockMvc.perform(get("/authors/stats").param("page", "1").param("size", "1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].author_id").value(1))
+                    .andExpect(jsonPath("$.content[0].book_count").value(2))
+                    .andExpect(jsonPath("$.content[0].last_publication_date").value(now.toString()))
+                    .andExpect(jsonPath("$.page.total_elements").value(2));
+        }
+    }
+
     @Nested
     @DisplayName("저자 수정 API 테스트")
     class UpdateAuthor {
@@ -192,7 +417,7 @@ class AuthorEndpointTest {
             doThrow(new APIException(
                     HttpStatus.NOT_FOUND,
                     ErrorType.NOT_EXIST_DATA
-            )).when(authorService).deleteAuthor(notExistAuthorId);
+            )).when(authorDeletionService).deleteAuthor(notExistAuthorId);
 
             // when
             var result = mockMvc.perform(delete("/authors/{id}", notExistAuthorId));
@@ -201,5 +426,106 @@ class AuthorEndpointTest {
             result.andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.error_code").value(ErrorType.NOT_EXIST_DATA.getValue()));
         }
+
+        @Test
+        @DisplayName("백그라운드 삭제를 요청한 경우, 작업을 등록하고 진행 상태 조회 경로와 함께 202로 응답한다.")
+        void async() throws Exception {
+
+            // given
+            final Long authorId = 1L;
+            final AuthorDeletionJob job = new AuthorDeletionJob(authorId, 120_000L);
+            given(authorDeletionService.startDeletion(authorId)).willReturn(job);
+
+            // when
+            var result = mockMvc.perform(delete("/authors/{id}", authorId).param("async", "true"));
+
+            // then
+            result.andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "/authors/deletions/" + job.getId()))
+                    .andExpect(jsonPath("$.job_id").value(job.getId()))
+                    .andExpect(jsonPath("$.status").value("RUNNING"))
+                    .andExpect(jsonPath("$.total_books").value(120_000))
+                    .andExpect(jsonPath("$.deleted_books").value(0));
+            then(authorDeletionService).should(never()).deleteAuthor(any());
+        }
+
+        @Test
+        @DisplayName("같은 저자의 백그라운드 삭제가 진행 중인 경우, 작업 등록에 실패한다.")
+        void fail2() throws Exception {
+
+            // given
+            final Long authorId = 1L;
+            given(authorDeletionService.startDeletion(authorId)).willThrow(new APIException(
+                    HttpStatus.CONFLICT,
+                    ErrorType.CONFLICT_STATE
+            ));
+
+            // when
+            var result = mockMvc.perform(delete("/authors/{id}", authorId).param("async", "true"));
+
+            // then
+            result.andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.CONFLICT_STATE.getValue()));
+        }
+
+        @Test
+        @DisplayName("같은 저자의 백그라운드 삭제가 진행 중인 경우, 동기 삭제에 실패한다.")
+        void fail3() throws Exception {
+
+            // given
+            final Long authorId = 1L;
+            doThrow(new APIException(
+                    HttpStatus.CONFLICT,
+                    ErrorType.CONFLICT_STATE
+            )).when(authorDeletionService).deleteAuthor(authorId);
+
+            // when
+            var result = mockMvc.perform(delete("/authors/{id}", authorId));
+
+            // then
+            result.andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.CONFLICT_STATE.getValue()));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 백그라운드 삭제 진행 상태 조회 API 테스트")
+    class GetAuthorDeletion {
+
+        @Test
+        @DisplayName("작업 아이디가 유효할 경우, 진행 상태 조회에 성공한다.")
+        void success() throws Exception {
+
+            // given
+            final AuthorDeletionJob job = new AuthorDeletionJob(1L, 10L);
+            given(authorDeletionService.getDeletion(job.getId())).willReturn(job);
+
+            // when
+            var result = mockMvc.perform(get("/authors/deletions/{jobId}", job.getId()));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.job_id").value(job.getId()))
+                    .andExpect(jsonPath("$.author_id").value(1))
+                    .andExpect(jsonPath("$.finished_at").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("작업 아이디가 유효하지 않을 경우, 진행 상태 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            given(authorDeletionService.getDeletion("unknown")).willThrow(new APIException(
+                    HttpStatus.NOT_FOUND,
+                    ErrorType.NOT_EXIST_DATA
+            ));
+
+            // when
+            var result = mockMvc.perform(get("/authors/deletions/{jobId}", "unknown"));
+
+            // then
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.NOT_EXIST_DATA.getValue()));
+        }
     }
-}
\ No newline at end of file
+}
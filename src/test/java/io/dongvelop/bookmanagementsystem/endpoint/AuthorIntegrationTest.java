@@ -1,23 +1,36 @@
 package io.dongvelop.bookmanagementsystem.endpoint;
 
 import autoparams.AutoSource;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
 import io.dongvelop.bookmanagementsystem.service.AuthorService;
+import io.dongvelop.bookmanagementsystem.service.BookService;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,6 +42,8 @@ class AuthorIntegrationTest extends IntegrationTest {
     private ObjectMapper objectMapper;
     @Autowired
     private AuthorService authorService;
+    @Autowired
+    private BookService bookService;
 
     @Nested
     @DisplayName("저자 생성 API 통합 테스트")
@@ -93,6 +108,58 @@ class AuthorIntegrationTest extends IntegrationTest {
             // then
             result.andExpect(status().isOk());
         }
+
+        @Test
+        @DisplayName("gzip 을 허용할 경우, 저자 목록을 압축하여 조회한다.")
+        void gzip() throws Exception {
+
+            // given
+            for (int i = 0; i < 100; i++) {
+                authorService.createAuthor(new CreateAuthorRequest("name" + i, "gzip" + i + "@example.com"));
+            }
+
+            // when
+            var result = mockMvc.perform(get("/authors").header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+            // then
+            final MvcResult mvcResult = result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andReturn();
+            try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()))) {
+                final JsonNode authors = objectMapper.readTree(body);
+                Assertions.assertThat(authors.size()).isGreaterThanOrEqualTo(100);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 다건 조회 API 통합 테스트")
+    class GetAuthorDetailList {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("요청한 아이디 순서대로 저자를 도서 목록과 함께 조회하고, 존재하지 않는 아이디를 함께 반환한다.")
+        void success(CreateAuthorRequest request1, CreateAuthorRequest request2) throws Exception {
+
+            // given
+            final Author author1 = authorService.createAuthor(request1);
+            final Author author2 = authorService.createAuthor(request2);
+            bookService.createBook(new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), author1.getId()));
+            final Long notExistAuthorId = 10_000_000L;
+
+            // when
+            var result = mockMvc.perform(get("/authors")
+                    .param("ids", author2.getId() + "," + author1.getId() + "," + notExistAuthorId)
+            );
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].id").value(author2.getId()))
+                    .andExpect(jsonPath("$.content[1].id").value(author1.getId()))
+                    .andExpect(jsonPath("$.content[1].books[0].title").value("title"))
+                    .andExpect(jsonPath("$.not_found[0]").value(notExistAuthorId));
+        }
     }
 
     @Nested
@@ -131,6 +198,88 @@ class AuthorIntegrationTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("저자 도서 목록 조회 API 통합 테스트")
+    class GetAuthorBooks {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("next_cursor 를 따라 출판일 최신순으로 모든 도서를 조회하며, 상세 조회에는 전체 도서 수가 포함된다.")
+        void success(CreateAuthorRequest request) throws Exception {
+
+            // given
+            final Author author = authorService.createAuthor(request);
+            final Book book1 = bookService.createBook(new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.of(2025, 1, 1), author.getId()));
+            final Book book2 = bookService.createBook(new CreateBookRequest("title2", "description", "223-456789-0", LocalDate.of(2025, 3, 1), author.getId()));
+            final Book book3 = bookService.createBook(new CreateBookRequest("title3", "description", "323-456789-0", LocalDate.of(2025, 2, 1), author.getId()));
+
+            // when
+            var page1 = mockMvc.perform(get("/authors/{id}/books", author.getId()).param("size", "2"));
+            final String nextCursor = objectMapper.readTree(page1.andReturn().getResponse().getContentAsString()).get("next_cursor").asText();
+            var page2 = mockMvc.perform(get("/authors/{id}/books", author.getId()).param("size", "2").param("after", nextCursor));
+
+            // then
+            page1.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(book2.getId()))
+                    .andExpect(jsonPath("$.content[1].id").value(book3.getId()))
+                    .andExpect(jsonPath("$.has_next").value(true));
+            page2.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].id").value(book1.getId()))
+                    .andExpect(jsonPath("$.has_next").value(false));
+            mockMvc.perform(get("/authors/{id}", author.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.book_count").value(3))
+                    .andExpect(jsonPath("$.books[0].id").value(book2.getId()));
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자 아이디가 유효하지 않을 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            final Long notExistAuthorId = 10_000_000L;
+
+            // when
+            var result = mockMvc.perform(get("/authors/{id}/books", notExistAuthorId));
+
+            // then
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.NOT_EXIST_DATA.getValue()));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 통계 목록 조회 API 통합 테스트")
+    class GetAuthorStatsList {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("도서 등록/수정/삭제가 반영된 도서 수와 출판일 범위를 조회한다.")
+        void success(CreateAuthorRequest request) throws Exception {
+
+            // given
+            final Author author = authorService.createAuthor(request);
+            bookService.createBook(new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.of(2025, 1, 1), author.getId()));
+            final Book book2 = bookService.createBook(new CreateBookRequest("title2", "description", "223-456789-0", LocalDate.of(2025, 3, 1), author.getId()));
+            final Book book3 = bookService.createBook(new CreateBookRequest("title3", "description", "323-456789-0", LocalDate.of(2025, 2, 1), author.getId()));
+            bookService.updateBook(book2.getId(), new UpdateBookRequest(null, null, LocalDate.of(2024, 12, 1)));
+            bookService.deleteBook(book3.getId());
+
+            // when
+            var result = mockMvc.perform(get("/authors/stats").param("size", "100"));
+
+            // then
+            final String stats = "$.content[?(@.author_id == " + author.getId() + ")]";
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath(stats + ".name").value(request.name()))
+                    .andExpect(jsonPath(stats + ".book_count").value(2))
+                    .andExpect(jsonPath(stats + ".first_publication_date").value("2024-12-01"))
+                    .andExpect(jsonPath(stats + ".last_publication_date").value("2025-01-01"));
+        }
+    }
+
     @Nested
     @DisplayName("저자 수정 API 통합 테스트")
     class UpdateAuthor {
@@ -214,6 +363,26 @@ class AuthorIntegrationTest extends IntegrationTest {
             result.andExpect(status().isNoContent());
         }
 
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자가 등록한 도서가 있을 경우, 도서까지 모두 삭제된다.")
+        void successWithBooks(CreateAuthorRequest request) throws Exception {
+
+            // given
+            final Author author = authorService.createAuthor(request);
+            final Book book1 = bookService.createBook(new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.now(), author.getId()));
+            final Book book2 = bookService.createBook(new CreateBookRequest("title2", "description", "223-456789-0", LocalDate.now(), author.getId()));
+
+            // when
+            var result = mockMvc.perform(delete("/authors/{id}", author.getId()));
+
+            // then
+            result.andExpect(status().isNoContent());
+            mockMvc.perform(get("/authors/{id}", author.getId())).andExpect(status().isNotFound());
+            mockMvc.perform(get("/books/{id}", book1.getId())).andExpect(status().isNotFound());
+            mockMvc.perform(get("/books/{id}", book2.getId())).andExpect(status().isNotFound());
+        }
+
         @AutoSource
         @ParameterizedTest
         @DisplayName("저자 아이디가 유효하지 경우, 저자 삭제에 실패한다.")
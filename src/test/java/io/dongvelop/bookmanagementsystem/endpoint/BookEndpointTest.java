@@ -1,14 +1,28 @@
 package io.dongvelop.bookmanagementsystem.endpoint;
 
 import autoparams.AutoSource;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.entity.Book;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookBatchRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.service.BookBatchService;
 import io.dongvelop.bookmanagementsystem.service.BookService;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,8 +30,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,9 +43,14 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +64,8 @@ class BookEndpointTest {
 
     @MockitoBean
     private BookService bookService;
+    @MockitoBean
+    private BookBatchService bookBatchService;
 
     @Nested
     @DisplayName("도서 생성 API 테스트")
@@ -87,6 +112,57 @@ class BookEndpointTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 대량 등록 API 테스트")
+    class CreateBookBatch {
+
+        @Test
+        @DisplayName("요청 값이 유효할 경우, 항목별 등록 결과를 반환한다.")
+        void success() throws Exception {
+
+            // given
+            final CreateBookBatchRequest request = new CreateBookBatchRequest(List.of(
+                    new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.now(), 1L),
+                    new CreateBookRequest("title2", "description", "123-456789-0", LocalDate.now(), 1L)
+            ));
+
+            given(bookBatchService.createBooks(request.books())).willReturn(CreateBookBatchResponse.of(List.of(
+                    CreateBookBatchResponse.Result.created(0, "123-456789-0", 1L),
+                    CreateBookBatchResponse.Result.failed(1, "123-456789-0", ErrorType.EXIST_DATA, "isbn[123-456789-0] is duplicated in request")
+            )));
+
+            // when
+            var result = mockMvc.perform(post("/books/batch")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON_VALUE));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(2))
+                    .andExpect(jsonPath("$.created").value(1))
+                    .andExpect(jsonPath("$.failed").value(1))
+                    .andExpect(jsonPath("$.results[0].id").value(1))
+                    .andExpect(jsonPath("$.results[1].error_code").value(ErrorType.EXIST_DATA.getValue()));
+        }
+
+        @Test
+        @DisplayName("도서 목록이 비어있을 경우, 등록에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            final CreateBookBatchRequest request = new CreateBookBatchRequest(List.of());
+
+            // when
+            var result = mockMvc.perform(post("/books/batch")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON_VALUE));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.INVALID_INPUT.getValue()));
+        }
+    }
+
     @Nested
     @DisplayName("도서 목록 조회 API 테스트")
     class GetBookList {
@@ -100,7 +176,10 @@ class BookEndpointTest {
             final CreateBookRequest request1 = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), author.getId());
             final CreateBookRequest request2 = new CreateBookRequest("title", "description", "223-456789-0", LocalDate.now(), author.getId());
 
-            final PageImpl<Book> response = new PageImpl<>(List.of(request1.toEntity(author), request2.toEntity(author)));
+            final PageImpl<BookListResponse> response = new PageImpl<>(List.of(
+                    BookListResponse.of(request1.toEntity(author)),
+                    BookListResponse.of(request2.toEntity(author))
+            ));
             given(bookService.getBookList(any(), any())).willReturn(response);
 
             // when
@@ -111,6 +190,88 @@ class BookEndpointTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 다건 조회 API 테스트")
+    class GetBookDetailList {
+
+        @Test
+        @DisplayName("ids 파라미터가 있을 경우, 요청 순서대로 도서를 조회하고 존재하지 않는 아이디를 함께 반환한다.")
+        void success() throws Exception {
+
+            // given
+            final MultiGetResponse<BookDetailResponse> response = new MultiGetResponse<>(List.of(
+                    new BookDetailResponse(3L, "title3", "description", "323-456789-0", LocalDate.now(), 1L),
+                    new BookDetailResponse(1L, "title1", "description", "123-456789-0", LocalDate.now(), 1L)
+            ), List.of(2L));
+            given(bookService.getBookDetailList(List.of(3L, 2L, 1L))).willReturn(response);
+
+            // when
+            var result = mockMvc.perform(get("/books").param("ids", "3,2,1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(3))
+                    .andExpect(jsonPath("$.content[1].id").value(1))
+                    .andExpect(jsonPath("$.not_found[0]").value(2));
+            then(bookService).should(never()).getBookList(any(), any());
+        }
+
+        @Test
+        @DisplayName("최대 아이디 수를 초과할 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            given(bookService.getBookDetailList(any()))
+                    .willThrow(new APIException(HttpStatus.BAD_REQUEST, ErrorType.INVALID_INPUT, "ids size[101] must be less than or equal to 100"));
+
+            // when
+            var result = mockMvc.perform(get("/books").param("ids", "1,2"));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.INVALID_INPUT.getValue()));
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 기반 도서 목록 조회 API 테스트")
+    class GetBookScroll {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("다음 페이지가 존재할 경우, 다음 커서와 함께 도서 목록을 조회한다.")
+        void success(Author author) throws Exception {
+
+            // given
+            final CreateBookRequest request1 = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), author.getId());
+            final SliceImpl<Book> response = new SliceImpl<>(List.of(request1.toEntity(author)), PageRequest.of(0, 1), true);
+            given(bookService.getBookScroll(any(), anyInt(), any())).willReturn(response);
+
+            // when
+            var result = mockMvc.perform(get("/books/scroll").param("size", "1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content").isArray())
+                    .andExpect(jsonPath("$.has_next").value(true))
+                    .andExpect(jsonPath("$.next_cursor").isNotEmpty());
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 정렬 기준일 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+
+            // when
+            var result = mockMvc.perform(get("/books/scroll").param("sort", "isbn"));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.INVALID_INPUT.getValue()));
+        }
+    }
+
     @Nested
     @DisplayName("도서 상세 조회 API 테스트")
     class getBookDetail {
@@ -124,13 +285,75 @@ class BookEndpointTest {
             final CreateBookRequest request1 = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), author.getId());
             final Book mockedBook = request1.toEntity(author);
 
-            given(bookService.getBookDetails(bookId)).willReturn(mockedBook);
+            given(bookService.getCachedBookDetails(bookId)).willReturn(new Versioned<>(BookDetailResponse.of(mockedBook), "\"b1-1\""));
 
             // when
             var result = mockMvc.perform(get("/books/{id}", bookId));
 
             // then
-            result.andExpect(status().isOk());
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"b1-1\""))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT)));
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("If-None-Match 의 ETag 가 현재 ETag 와 일치할 경우, 본문 없이 304로 응답한다.")
+        void notModified(Long bookId) throws Exception {
+
+            // given
+            given(bookService.getBookETag(bookId)).willReturn("\"b1-1\"");
+
+            // when
+            var result = mockMvc.perform(get("/books/{id}", bookId).header(HttpHeaders.IF_NONE_MATCH, "\"b1-1\""));
+
+            // then
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"b1-1\""))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, Matchers.hasItem(HttpHeaders.ACCEPT)))
+                    .andExpect(content().string(""));
+            then(bookService).should(never()).getCachedBookDetails(any());
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("JSON 응답의 ETag 로 다른 형식(CBOR)을 요청할 경우, 304 가 아닌 해당 형식의 ETag 와 본문을 응답한다.")
+        void otherFormat(Long bookId) throws Exception {
+
+            // given
+            final BookDetailResponse response = new BookDetailResponse(bookId, "title", "description", "123-456789-0", LocalDate.of(2020, 1, 1), 1L);
+            given(bookService.getBookETag(bookId)).willReturn("\"b1-1\"");
+            given(bookService.getCachedBookDetails(bookId)).willReturn(new Versioned<>(response, "\"b1-1\""));
+
+            // when
+            var result = mockMvc.perform(get("/books/{id}", bookId)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"b1-1\"")
+                    .accept(MediaType.APPLICATION_CBOR));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"b1-1-cbor\""));
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("If-None-Match 의 ETag 가 현재 ETag 와 다를 경우, 새 ETag 와 함께 본문을 응답한다.")
+        void modified(Long bookId, Author author) throws Exception {
+
+            // given
+            final Book mockedBook = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), author.getId()).toEntity(author);
+
+            given(bookService.getBookETag(bookId)).willReturn("\"b1-2\"");
+            given(bookService.getCachedBookDetails(bookId)).willReturn(new Versioned<>(BookDetailResponse.of(mockedBook), "\"b1-2\""));
+
+            // when
+            var result = mockMvc.perform(get("/books/{id}", bookId).header(HttpHeaders.IF_NONE_MATCH, "\"b1-1\""));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"b1-2\""))
+                    .andExpect(jsonPath("$.title").value("title"));
         }
 
         @AutoSource
@@ -139,7 +362,7 @@ class BookEndpointTest {
         void fail(Long bookId) throws Exception {
 
             // given
-            given(bookService.getBookDetails(bookId)).willThrow(
+            given(bookService.getCachedBookDetails(bookId)).willThrow(
                     new APIException(
                             HttpStatus.NOT_FOUND,
                             ErrorType.NOT_EXIST_DATA
@@ -207,4 +430,78 @@ class BookEndpointTest {
                     .andExpect(jsonPath("$.error_code").value(ErrorType.NOT_EXIST_DATA.getValue()));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("바이너리 형식(CBOR/Smile) 요청/응답 테스트")
+    class BinaryFormat {
+
+        private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("Accept 가 CBOR 일 경우, 도서 상세 정보를 CBOR 로 응답한다.")
+        void cbor(Long bookId) throws Exception {
+
+            // given
+            final BookDetailResponse response = new BookDetailResponse(bookId, "title", "description", "123-456789-0", LocalDate.of(2020, 1, 1), 1L);
+            given(bookService.getCachedBookDetails(bookId)).willReturn(new Versioned<>(response, "\"b1-1\""));
+
+            // when
+            var result = mockMvc.perform(get("/books/{id}", bookId).accept(MediaType.APPLICATION_CBOR));
+
+            // then
+            final byte[] body = result.andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"b1-1-cbor\""))
+                    .andReturn().getResponse().getContentAsByteArray();
+            final JsonNode node = cborMapper.readTree(body);
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(cborMapper.treeToValue(node, BookDetailResponse.class)).isEqualTo(response);
+                // 필드명과 날짜 표현은 JSON 과 동일하다.
+                softly.assertThat(node.get("publication_date").asText()).isEqualTo("2020-01-01");
+            });
+        }
+
+        @Test
+        @DisplayName("Content-Type 이 CBOR, Accept 가 Smile 일 경우, CBOR 요청을 읽고 Smile 로 응답한다.")
+        void cborRequestSmileResponse() throws Exception {
+
+            // given
+            final CreateBookRequest request = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.of(2020, 1, 1), 1L);
+            final Book book = new Book("title", "description", "123-456789-0", LocalDate.of(2020, 1, 1), new Author("name", "email@example.com"));
+            given(bookService.createBook(request)).willReturn(book);
+
+            // when
+            var result = mockMvc.perform(post("/books")
+                    .content(cborMapper.writeValueAsBytes(request))
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(Const.APPLICATION_SMILE_VALUE));
+
+            // then
+            final byte[] body = result.andExpect(status().isCreated())
+                    .andExpect(content().contentType(Const.APPLICATION_SMILE_VALUE))
+                    .andReturn().getResponse().getContentAsByteArray();
+            Assertions.assertThat(smileMapper.readValue(body, CreateBookResponse.class)).isEqualTo(new CreateBookResponse(book.getId()));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식을 요청할 경우, 406 으로 응답한다.")
+        void notAcceptable() throws Exception {
+
+            // given
+
+            // when
+            var result = mockMvc.perform(get("/books/{id}", 1L).accept(MediaType.APPLICATION_XML));
+
+            // then
+            result.andExpect(status().isNotAcceptable());
+            then(bookService).should(never()).getCachedBookDetails(any());
+        }
+    }
+}
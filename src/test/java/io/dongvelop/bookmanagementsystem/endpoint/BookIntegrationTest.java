@@ -11,14 +11,19 @@ import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
 import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
 import io.dongvelop.bookmanagementsystem.repository.BookRepository;
 import io.dongvelop.bookmanagementsystem.service.BookService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,6 +39,8 @@ class BookIntegrationTest extends IntegrationTest {
     private BookRepository bookRepository;
     @Autowired
     private AuthorRepository authorRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private Author author;
     private Book book;
@@ -136,6 +143,51 @@ class BookIntegrationTest extends IntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 다건 조회 API 통합 테스트")
+    class GetBookDetailList {
+
+        @Test
+        @DisplayName("요청한 아이디 순서대로 도서를 조회하고, 존재하지 않는 아이디를 함께 반환한다.")
+        void success() throws Exception {
+
+            // given
+            final CreateBookRequest request = new CreateBookRequest("title2", "description", "123-456789-0", LocalDate.now(), author.getId());
+            final Book book2 = bookService.createBook(request);
+            final Long notExistBookId = 10_000_000L;
+
+            // when
+            var result = mockMvc.perform(get("/books")
+                    .param("ids", book2.getId() + "," + notExistBookId + "," + book.getId())
+            );
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].id").value(book2.getId()))
+                    .andExpect(jsonPath("$.content[0].author_id").value(author.getId()))
+                    .andExpect(jsonPath("$.content[1].id").value(book.getId()))
+                    .andExpect(jsonPath("$.not_found[0]").value(notExistBookId));
+        }
+
+        @Test
+        @DisplayName("최대 아이디 수를 초과할 경우, 조회에 실패한다.")
+        void fail() throws Exception {
+
+            // given
+            final String ids = LongStream.rangeClosed(1, 101)
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            // when
+            var result = mockMvc.perform(get("/books").param("ids", ids));
+
+            // then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error_code").value(ErrorType.INVALID_INPUT.getValue()));
+        }
+    }
+
     @Nested
     @DisplayName("도서 상세 조회 API 테스트")
     class getBookDetail {
@@ -152,7 +204,36 @@ class BookIntegrationTest extends IntegrationTest {
             var result = mockMvc.perform(get("/books/{id}", book.getId()));
 
             // then
-            result.andExpect(status().isOk());
+            result.andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("응답받은 ETag 를 If-None-Match 로 전달할 경우, 변경이 없으면 304로, 수정된 후에는 200으로 응답한다.")
+        void conditional() throws Exception {
+
+            // given
+            final CreateBookRequest request1 = new CreateBookRequest("title", "description", "223-456789-0", LocalDate.now(), author.getId());
+            final Book book = bookService.createBook(request1);
+            entityManager.flush();
+            entityManager.clear();
+
+            final String etag = mockMvc.perform(get("/books/{id}", book.getId()))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when
+            var notModified = mockMvc.perform(get("/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+            bookService.updateBook(book.getId(), new UpdateBookRequest("updated title", null, null));
+            entityManager.flush();
+            entityManager.clear();
+
+            var modified = mockMvc.perform(get("/books/{id}", book.getId()).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+            // then
+            notModified.andExpect(status().isNotModified());
+            modified.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("updated title"));
         }
 
         @Test
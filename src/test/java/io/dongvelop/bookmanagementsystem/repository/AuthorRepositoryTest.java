@@ -3,17 +3,23 @@ package io.dongvelop.bookmanagementsystem.repository;
 import autoparams.AutoSource;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @DataJpaTest
 class AuthorRepositoryTest {
@@ -22,6 +28,8 @@ class AuthorRepositoryTest {
     private AuthorRepository authorRepository;
     @Autowired
     private BookRepository bookRepository;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @Nested
     @DisplayName("이메일 존재 여부 검증 테스트")
@@ -57,30 +65,220 @@ class AuthorRepositoryTest {
     }
 
     @Nested
-    @DisplayName("저자 목록 조회 테스트")
-    class FindAuthorsWithPaging {
+    @DisplayName("저자 목록 청크 조회 테스트")
+    class FindAuthorBooks {
 
         @AutoSource
         @ParameterizedTest
-        @DisplayName("저자 목록 조회 시, 연관된 도서 목록을 함께 불러온다.")
+        @DisplayName("저자-도서 조인 행을 저자 아이디 순으로 조회하며, 도서가 없는 저자도 포함한다.")
+        void success(Author author1, Author author2) throws Exception {
+
+            // given
+            authorRepository.save(author1);
+            authorRepository.save(author2);
+
+            final Book book1 = new Book("title1", null, "123-456789-0", LocalDate.now(), author1);
+            final Book book2 = new Book("title2", "description", "124-456789-0", LocalDate.now(), author1);
+            bookRepository.saveAll(List.of(book1, book2));
+
+            // when
+            final List<Long> ids = authorRepository.findIdsAfter(0L, PageRequest.of(0, 10));
+            final List<AuthorBookRow> rows = authorRepository.findAuthorBooksByIdBetween(ids.get(0), ids.get(ids.size() - 1));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(ids).containsExactly(author1.getId(), author2.getId());
+                softly.assertThat(rows).hasSize(3);
+                softly.assertThat(rows.get(0).authorId()).isEqualTo(author1.getId());
+                softly.assertThat(rows.get(0).description()).isEmpty();
+                softly.assertThat(rows.get(2).authorId()).isEqualTo(author2.getId());
+                softly.assertThat(rows.get(2).bookId()).isNull();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 상세 응답 변경 여부 확인용 조회 테스트")
+    class FindVersionById {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자의 수정 시각과 함께 도서의 최종 수정 시각 및 도서 수를 조회한다.")
         void success(Author author) throws Exception {
 
             // given
             authorRepository.save(author);
+            bookRepository.saveAll(List.of(
+                    new Book("title1", "description", "123-456789-0", LocalDate.now(), author),
+                    new Book("title2", "description", "124-456789-0", LocalDate.now(), author)
+            ));
 
-            final Book book1 = new Book("title1", "description", "123-456789-0", LocalDate.now(), author);
-            final Book book2 = new Book("title2", "description", "124-456789-0", LocalDate.now(), author);
-            bookRepository.saveAll(List.of(book1, book2));
+            // when
+            final Optional<AuthorVersion> result = authorRepository.findVersionById(author.getId());
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isPresent();
+                softly.assertThat(result.get().updatedAt()).isNotNull();
+                softly.assertThat(result.get().booksUpdatedAt()).isNotNull();
+                softly.assertThat(result.get().bookCount()).isEqualTo(2);
+            });
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("도서가 없는 저자일 경우, 도서 수는 0이고 도서 수정 시각은 null 이다.")
+        void withoutBooks(Author author) {
+
+            // given
+            authorRepository.save(author);
+
+            // when
+            final Optional<AuthorVersion> result = authorRepository.findVersionById(author.getId());
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isPresent();
+                softly.assertThat(result.get().booksUpdatedAt()).isNull();
+                softly.assertThat(result.get().bookCount()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 저자일 경우, 빈 값을 반환한다.")
+        void notFound() {
+
+            // given
+
+            // when
+            final Optional<AuthorVersion> result = authorRepository.findVersionById(10_000_000L);
+
+            // then
+            Assertions.assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 삭제 테스트")
+    class DeleteAuthorById {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("엔티티를 조회하지 않고 저자를 삭제한다.")
+        void success(Author author) {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+
+            // when
+            final int result = authorRepository.deleteAuthorById(savedAuthor.getId());
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo(1);
+                softly.assertThat(authorRepository.existsById(savedAuthor.getId())).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 저자일 경우, 0을 반환한다.")
+        void notFound() {
+
+            // given
+
+            // when
+            final int result = authorRepository.deleteAuthorById(10_000_000L);
+
+            // then
+            Assertions.assertThat(result).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 이메일 조회 테스트")
+    class FindEmailById {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("존재하는 저자일 경우, 이메일을 반환한다.")
+        void success(Author author) {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+
+            // when
+            final Optional<String> result = authorRepository.findEmailById(savedAuthor.getId());
+
+            // then
+            Assertions.assertThat(result).contains(author.getEmail());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 저자일 경우, 빈 값을 반환한다.")
+        void notFound() {
+
+            // given
+
+            // when
+            final Optional<String> result = authorRepository.findEmailById(10_000_000L);
+
+            // then
+            Assertions.assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 이메일 스트리밍 조회 테스트")
+    class StreamAllEmails {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("모든 저자의 이메일을 조회한다.")
+        void success(Author author1, Author author2) {
+
+            // given
+            authorRepository.save(author1);
+            authorRepository.save(author2);
+
+            // when
+            final List<String> result;
+            try (Stream<String> emails = authorRepository.streamAllEmails()) {
+                result = emails.toList();
+            }
+
+            // then
+            Assertions.assertThat(result).containsExactlyInAnyOrder(author1.getEmail(), author2.getEmail());
+        }
+    }
+
+    @Nested
+    @DisplayName("아이디 목록 저자 조회 테스트")
+    class FindAllWithBooksByIdIn {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("요청한 아이디의 저자만 도서 목록과 함께 조회한다.")
+        void success(Author author1, Author author2, Author author3) throws APIException {
+
+            // given
+            final Author savedAuthor1 = authorRepository.save(author1);
+            final Author savedAuthor2 = authorRepository.save(author2);
+            authorRepository.save(author3);
+            bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor1));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor1));
+            entityManager.flush();
+            entityManager.clear();
 
             // when
-            final List<Author> authors = authorRepository.findAuthors();
+            final List<Author> result = authorRepository.findAllWithBooksByIdIn(List.of(savedAuthor2.getId(), savedAuthor1.getId(), 10_000_000L));
 
             // then
             SoftAssertions.assertSoftly(softly -> {
-                softly.assertThat(authors).hasSize(1);
-                softly.assertThat(authors.get(0).getName()).isEqualTo(author.getName());
-                softly.assertThat(authors.get(0).getBooks()).hasSize(2);
+                softly.assertThat(result).extracting(Author::getId).containsExactlyInAnyOrder(savedAuthor1.getId(), savedAuthor2.getId());
+                softly.assertThat(result).allMatch(author -> Hibernate.isInitialized(author.getBooks()));
+                softly.assertThat(result).filteredOn(author -> author.getId().equals(savedAuthor1.getId()))
+                        .flatExtracting(Author::getBooks).extracting(Book::getTitle).containsExactlyInAnyOrder("title1", "title2");
             });
         }
     }
-}
\ No newline at end of file
+}
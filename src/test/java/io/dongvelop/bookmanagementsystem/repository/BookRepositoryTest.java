@@ -1,18 +1,30 @@
 package io.dongvelop.bookmanagementsystem.repository;
 
 import autoparams.AutoSource;
+import io.dongvelop.bookmanagementsystem.common.Isbn;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.entity.Book;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @DataJpaTest
 class BookRepositoryTest {
@@ -21,6 +33,8 @@ class BookRepositoryTest {
     private BookRepository bookRepository;
     @Autowired
     private AuthorRepository authorRepository;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @Nested
     @DisplayName("ISBN 존재 여부 검증 테스트")
@@ -57,4 +71,338 @@ class BookRepositoryTest {
             Assertions.assertThat(result).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("커서 기반 도서 목록 조회 테스트")
+    class FindNextByTitle {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("커서 이후의 도서를 제목, 아이디 내림차순으로 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("a", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            final Book book2 = bookRepository.save(new Book("b", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+            final Book book3 = bookRepository.save(new Book("b", "des", "323-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final List<Book> result = bookRepository.findNextByTitle(book3.getTitle(), book3.getId(), PageRequest.of(0, 10));
+
+            // then
+            Assertions.assertThat(result).extracting(Book::getId).containsExactly(book2.getId(), book1.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("존재하는 ISBN 목록 조회 테스트")
+    class FindExistingIsbns {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("주어진 ISBN 중 이미 존재하는 ISBN만 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final List<Isbn> result = bookRepository.findExistingIsbns(List.of(Isbn.parseIsbn10("123-456789-0"), Isbn.parseIsbn10("323-456789-0")));
+
+            // then
+            Assertions.assertThat(result).extracting(Isbn::toString).containsExactly("123-456789-0");
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 수정 시각 조회 테스트")
+    class FindUpdatedAtById {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("존재하는 도서일 경우, 수정 시각을 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book = bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final Optional<LocalDateTime> result = bookRepository.findUpdatedAtById(book.getId());
+
+            // then
+            Assertions.assertThat(result).isPresent();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 도서일 경우, 빈 값을 반환한다.")
+        void notFound() {
+
+            // given
+
+            // when
+            final Optional<LocalDateTime> result = bookRepository.findUpdatedAtById(10_000_000L);
+
+            // then
+            Assertions.assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 목록 조회(목록 응답 컬럼만 조회) 테스트")
+    class FindBookList {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("정렬 기준에 따라 목록 응답으로 조회하며, 빈 설명은 빈 문자열로 채운다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("title1", null, "123-456789-0", LocalDate.now(), savedAuthor));
+            final Book book2 = bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final Page<BookListResponse> result = bookRepository.findBookList(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getTotalElements()).isEqualTo(2);
+                softly.assertThat(result.getContent()).extracting(BookListResponse::id).containsExactly(book2.getId(), book1.getId());
+                softly.assertThat(result.getContent().get(1).description()).isEmpty();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("제목 검색 테스트")
+    class FindBooksByTitleContainsIgnoreCase {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("대소문자 구분 없이 제목에 검색어를 포함한 도서만 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("Spring Boot", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("Java", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final Page<BookListResponse> result = bookRepository.findBooksByTitleContainsIgnoreCase("spring", PageRequest.of(0, 10));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getTotalElements()).isEqualTo(1);
+                softly.assertThat(result.getContent()).extracting(BookListResponse::id).containsExactly(book1.getId());
+            });
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("출판일이 없는 도서의 출판일은 기본값 없이 그대로(null) 조회한다.")
+        void undated(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            bookRepository.save(new Book("Spring Boot", "des", "123-456789-0", null, savedAuthor));
+
+            // when
+            final Page<BookListResponse> result = bookRepository.findBooksByTitleContainsIgnoreCase("spring", PageRequest.of(0, 10));
+
+            // then
+            Assertions.assertThat(result.getContent()).extracting(BookListResponse::publicationDate).containsOnlyNulls();
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("검색어의 와일드카드 문자는 일반 문자로 취급한다.")
+        void escape(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("100% Java", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("100 Java", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final Page<BookListResponse> result = bookRepository.findBooksByTitleContainsIgnoreCase("0%", PageRequest.of(0, 10));
+
+            // then
+            Assertions.assertThat(result.getContent()).extracting(BookListResponse::id).containsExactly(book1.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("아이디 목록으로 도서 목록 조회 테스트")
+    class FindBookListByIdIn {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("주어진 아이디에 해당하는 도서만 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final List<BookListResponse> result = bookRepository.findBookListByIdIn(List.of(book1.getId(), 10_000_000L));
+
+            // then
+            Assertions.assertThat(result).extracting(BookListResponse::title).containsExactly("title1");
+        }
+    }
+
+    @Nested
+    @DisplayName("저자의 도서 아이디/ISBN 조회 테스트")
+    class FindKeysByAuthorId {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자의 도서 아이디와 ISBN 만 아이디 오름차순으로 조회 크기만큼 조회한다.")
+        void success(Author author1, Author author2) throws APIException {
+
+            // given
+            final Author savedAuthor1 = authorRepository.save(author1);
+            final Author savedAuthor2 = authorRepository.save(author2);
+            final Book book1 = bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor1));
+            final Book book2 = bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor1));
+            bookRepository.save(new Book("title3", "des", "323-456789-0", LocalDate.now(), savedAuthor2));
+
+            // when
+            final List<BookKey> all = bookRepository.findKeysByAuthorId(savedAuthor1.getId(), PageRequest.of(0, 10));
+            final List<BookKey> chunk = bookRepository.findKeysByAuthorId(savedAuthor1.getId(), PageRequest.of(0, 1));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(all).containsExactlyInAnyOrder(
+                        new BookKey(book1.getId(), book1.getIsbnKey(), book1.getPublicationDateOrNull()),
+                        new BookKey(book2.getId(), book2.getIsbnKey(), book2.getPublicationDateOrNull())
+                );
+                softly.assertThat(chunk).extracting(BookKey::id).containsExactly(Math.min(book1.getId(), book2.getId()));
+                softly.assertThat(bookRepository.countByAuthorId(savedAuthor1.getId())).isEqualTo(2);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("저자의 도서 일괄 삭제 테스트")
+    class DeleteByAuthorId {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("해당 저자의 도서만 삭제하고, 삭제된 도서 수를 반환한다.")
+        void success(Author author1, Author author2) throws APIException {
+
+            // given
+            final Author savedAuthor1 = authorRepository.save(author1);
+            final Author savedAuthor2 = authorRepository.save(author2);
+            final Book book1 = bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor1));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor1));
+            final Book book3 = bookRepository.save(new Book("title3", "des", "323-456789-0", LocalDate.now(), savedAuthor2));
+
+            // when
+            final int result = bookRepository.deleteByAuthorId(savedAuthor1.getId());
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo(2);
+                softly.assertThat(bookRepository.findById(book1.getId())).isEmpty();
+                softly.assertThat(bookRepository.findById(book3.getId())).isPresent();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 ISBN 스트리밍 조회 테스트")
+    class StreamAllIsbns {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("모든 도서의 ISBN 을 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+
+            // when
+            final List<Isbn> result;
+            try (Stream<Isbn> isbns = bookRepository.streamAllIsbns()) {
+                result = isbns.toList();
+            }
+
+            // then
+            Assertions.assertThat(result).containsExactlyInAnyOrder(Isbn.parseIsbn10("123-456789-0"), Isbn.parseIsbn10("223-456789-0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("아이디 목록 도서 조회 테스트")
+    class FindAllWithAuthorByIdIn {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("요청한 아이디의 도서만 저자와 함께 조회한다.")
+        void success(Author author) throws APIException {
+
+            // given
+            final Author savedAuthor = authorRepository.save(author);
+            final Book book1 = bookRepository.save(new Book("title1", "des", "123-456789-0", LocalDate.now(), savedAuthor));
+            bookRepository.save(new Book("title2", "des", "223-456789-0", LocalDate.now(), savedAuthor));
+            final Book book3 = bookRepository.save(new Book("title3", "des", "323-456789-0", LocalDate.now(), savedAuthor));
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            final List<Book> result = bookRepository.findAllWithAuthorByIdIn(List.of(book3.getId(), book1.getId(), 10_000_000L));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).extracting(Book::getId).containsExactlyInAnyOrder(book1.getId(), book3.getId());
+                softly.assertThat(result).allMatch(book -> Hibernate.isInitialized(book.getAuthor()));
+                softly.assertThat(result).extracting(book -> book.getAuthor().getId()).containsOnly(savedAuthor.getId());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 도서 목록 커서 조회 테스트")
+    class FindAuthorBooks {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("출판일 내림차순(출판일이 없는 도서는 마지막), 아이디 내림차순으로 커서 이후의 도서를 조회한다.")
+        void success(Author author1, Author author2) throws APIException {
+
+            // given
+            final Author savedAuthor1 = authorRepository.save(author1);
+            final Author savedAuthor2 = authorRepository.save(author2);
+            final Book book1 = bookRepository.save(new Book("title1", null, "123-456789-0", LocalDate.of(2025, 1, 1), savedAuthor1));
+            final Book book2 = bookRepository.save(new Book("title2", null, "223-456789-0", LocalDate.of(2025, 2, 1), savedAuthor1));
+            final Book book3 = bookRepository.save(new Book("title3", null, "323-456789-0", LocalDate.of(2025, 2, 1), savedAuthor1));
+            final Book book4 = bookRepository.save(new Book("title4", null, "423-456789-0", null, savedAuthor1));
+            final Book book5 = bookRepository.save(new Book("title5", null, "523-456789-0", null, savedAuthor1));
+            bookRepository.save(new Book("title6", null, "623-456789-0", LocalDate.of(2025, 3, 1), savedAuthor2));
+
+            // when
+            final List<BookListResponse> page1 = bookRepository.findAuthorBooks(savedAuthor1.getId(), PageRequest.of(0, 2));
+            final List<BookListResponse> page2 = bookRepository.findAuthorBooksAfter(savedAuthor1.getId(), book2.getPublicationDate(), book2.getId(), PageRequest.of(0, 2));
+            final List<BookListResponse> page3 = bookRepository.findUndatedAuthorBooksAfter(savedAuthor1.getId(), book5.getId(), PageRequest.of(0, 2));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(page1).extracting(BookListResponse::id).containsExactly(book3.getId(), book2.getId());
+                softly.assertThat(page2).extracting(BookListResponse::id).containsExactly(book1.getId(), book5.getId());
+                softly.assertThat(page2.get(1).publicationDate()).isNull();
+                softly.assertThat(page2.get(0).description()).isEmpty();
+                softly.assertThat(page3).extracting(BookListResponse::id).containsExactly(book4.getId());
+            });
+        }
+    }
+}
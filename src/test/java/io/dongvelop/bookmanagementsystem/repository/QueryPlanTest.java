@@ -0,0 +1,234 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.AuthorStats;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorStatsResponse;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 저장소 쿼리가 실행하는 SQL 을 가로채 H2 의 EXPLAIN 으로 실행 계획을 확인한다. <br/>
+ * 인덱스 없이 테이블 전체를 읽는 계획(tableScan)이 나오면 실패한다.
+ * 쿼리 결과가 아닌 실행되는 SQL 을 확인해야 하므로 2차 캐시와 쿼리 캐시는 사용하지 않는다. <br/>
+ * 다음 쿼리는 테이블 전체를 읽는 것이 의도된 동작이므로 검증하지 않는다.
+ * <ul>
+ *     <li>streamAllEmails, streamAllIsbns : 중복 확인 필터 구성</li>
+ *     <li>findBookList : OFFSET 페이지 조회와 전체 건수 조회</li>
+ *     <li>findBooksByTitleContainsIgnoreCase : 중간 일치(LIKE '%검색어%') 검색은 B-Tree 인덱스를 사용할 수 없다.</li>
+ *     <li>findAllByOrderByIdDesc : 기본 키 역순의 첫 페이지. 상위 N건 정렬로 처리된다.</li>
+ *     <li>findStatsList : 저자 통계의 OFFSET 페이지 조회. 도서 테이블을 읽지 않는지만 확인한다.</li>
+ * </ul>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class QueryPlanTest {
+
+    private static final String FULL_SCAN = "tableScan \\*/";
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private AuthorRepository authorRepository;
+    @Autowired
+    private AuthorStatsRepository authorStatsRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    private Author author;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(final SqlRecorder sqlRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlRecorder);
+        }
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 기록한다.
+     */
+    static class SqlRecorder implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws APIException {
+        author = authorRepository.save(new Author("name", "plan@example.com"));
+        final Author other = authorRepository.save(new Author("other", "other@example.com"));
+        for (int i = 0; i < 20; i++) {
+            bookRepository.save(new Book("title" + i, "description", String.format("%03d-456789-0", 100 + i),
+                    i % 5 == 0 ? null : LocalDate.of(2020, 1, 1).plusDays(i), i % 2 == 0 ? author : other));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 쿼리를 실행하고, 실행된 SQL 별 실행 계획을 반환한다.
+     */
+    private List<String> explain(final Runnable query) {
+        sqlRecorder.statements.clear();
+        query.run();
+        entityManager.flush();
+
+        final List<String> plans = new ArrayList<>();
+        for (String sql : sqlRecorder.statements) {
+            // EXPLAIN 은 파라미터 값 없이 계획만 만든다.
+            plans.addAll(jdbcTemplate.query(con -> con.prepareStatement("EXPLAIN " + sql), (rs, rowNum) -> rs.getString(1)));
+        }
+
+        Assertions.assertThat(plans).as("실행된 SQL").isNotEmpty();
+        return plans;
+    }
+
+    private void assertNoFullScan(final Runnable query) {
+        Assertions.assertThat(explain(query))
+                .allSatisfy(plan -> Assertions.assertThat(plan).doesNotContainPattern(FULL_SCAN));
+    }
+
+    @Nested
+    @DisplayName("도서 쿼리 실행 계획 테스트")
+    class BookQuery {
+
+        @Test
+        @DisplayName("ISBN 으로 조회할 경우, ISBN 유니크 인덱스를 사용한다.")
+        void isbn() {
+            final Isbn isbn = Isbn.tryParse("100-456789-0");
+
+            assertNoFullScan(() -> bookRepository.existsByIsbn(isbn));
+            assertNoFullScan(() -> bookRepository.findExistingIsbns(List.of(isbn, Isbn.tryParse("899-456789-0"))));
+        }
+
+        @Test
+        @DisplayName("아이디로 조회할 경우, 기본 키 인덱스를 사용한다.")
+        void id() {
+            assertNoFullScan(() -> bookRepository.findUpdatedAtById(1L));
+            assertNoFullScan(() -> bookRepository.findBookListByIdIn(List.of(1L, 2L, 3L)));
+            assertNoFullScan(() -> bookRepository.findAllWithAuthorByIdIn(List.of(1L, 2L, 3L)));
+            assertNoFullScan(() -> bookRepository.findByIdLessThanOrderByIdDesc(10L, PageRequest.of(0, 5)));
+        }
+
+        @Test
+        @DisplayName("제목 정렬 커서 조회 시, 제목 인덱스를 사용한다.")
+        void title() {
+            assertNoFullScan(() -> bookRepository.findAllByOrderByTitleDescIdDesc(PageRequest.of(0, 5)));
+            assertNoFullScan(() -> bookRepository.findNextByTitle("title5", 10L, PageRequest.of(0, 5)));
+        }
+
+        @Test
+        @DisplayName("저자의 도서 조회 시, 저자 아이디 인덱스를 사용한다.")
+        void authorBooks() {
+            final Long authorId = author.getId();
+
+            assertNoFullScan(() -> bookRepository.findAuthorBooks(authorId, PageRequest.of(0, 5)));
+            assertNoFullScan(() -> bookRepository.findAuthorBooksAfter(authorId, LocalDate.of(2020, 1, 10), 10L, PageRequest.of(0, 5)));
+            assertNoFullScan(() -> bookRepository.findUndatedAuthorBooksAfter(authorId, 10L, PageRequest.of(0, 5)));
+            assertNoFullScan(() -> bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, 5)));
+            assertNoFullScan(() -> bookRepository.countByAuthorId(authorId));
+            assertNoFullScan(() -> bookRepository.summarizeByAuthorId(authorId));
+        }
+
+        @Test
+        @DisplayName("저자의 도서 일괄 삭제 시, 저자 아이디 인덱스를 사용한다.")
+        void deleteByAuthorId() {
+            assertNoFullScan(() -> bookRepository.deleteByAuthorId(author.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 쿼리 실행 계획 테스트")
+    class AuthorQuery {
+
+        @Test
+        @DisplayName("이메일로 조회할 경우, 이메일 유니크 인덱스를 사용한다.")
+        void email() {
+            assertNoFullScan(() -> authorRepository.existsByEmail("plan@example.com"));
+        }
+
+        @Test
+        @DisplayName("아이디로 조회할 경우, 기본 키와 도서의 저자 아이디 인덱스를 사용한다.")
+        void id() {
+            final Long authorId = author.getId();
+
+            assertNoFullScan(() -> authorRepository.findEmailById(authorId));
+            assertNoFullScan(() -> authorRepository.findVersionById(authorId));
+            assertNoFullScan(() -> authorRepository.findAllWithBooksByIdIn(List.of(authorId)));
+            assertNoFullScan(() -> authorRepository.findIdsAfter(authorId - 1, PageRequest.of(0, 10)));
+            assertNoFullScan(() -> authorRepository.findAuthorBooksByIdBetween(authorId, authorId));
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 통계 쿼리 실행 계획 테스트")
+    class AuthorStatsQuery {
+
+        @Test
+        @DisplayName("통계를 갱신할 경우, 기본 키로 잠금 조회한다.")
+        void findForUpdate() {
+            assertNoFullScan(() -> authorStatsRepository.findForUpdate(author.getId()));
+        }
+
+        @Test
+        @DisplayName("통계 목록 조회 시, 도서 테이블을 읽지 않는다.")
+        void statsList() {
+
+            // given
+            authorStatsRepository.save(new AuthorStats(author.getId()));
+            entityManager.flush();
+            entityManager.clear();
+            sqlRecorder.statements.clear();
+
+            // when
+            final Page<AuthorStatsResponse> stats = authorStatsRepository.findStatsList(PageRequest.of(0, 10));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getContent()).extracting(AuthorStatsResponse::name).containsExactly("name");
+                softly.assertThat(sqlRecorder.statements).isNotEmpty()
+                        .noneMatch(sql -> sql.matches("(?is).*\\bbook\\b.*"));
+            });
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.dongvelop.bookmanagementsystem.repository;
+
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 2차 캐시는 커밋된 트랜잭션 기준으로 채워지고 무효화되므로, 테스트 트랜잭션 없이 단계마다 별도 트랜잭션으로 실행한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private AuthorRepository authorRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            bookRepository.deleteAllInBatch();
+            authorRepository.deleteAllInBatch();
+        });
+    }
+
+    private Author saveAuthor(final String email) {
+        return transaction.execute(status -> authorRepository.save(new Author("name", email)));
+    }
+
+    private Long saveBook(final String title, final String isbn, final Author author) throws APIException {
+        final Book book = new Book(title, "description", isbn, LocalDate.of(2020, 1, 1), author);
+        return transaction.execute(status -> bookRepository.save(book).getId());
+    }
+
+    private Optional<Book> findBook(final Long bookId) {
+        return transaction.execute(status -> bookRepository.findById(bookId));
+    }
+
+    @Nested
+    @DisplayName("엔티티 캐시 테스트")
+    class EntityCache {
+
+        @Test
+        @DisplayName("이미 조회한 도서를 다른 트랜잭션에서 다시 조회할 경우, 쿼리 없이 캐시에서 조회된다.")
+        void hitBookRegion() throws APIException {
+
+            // given
+            final Long bookId = saveBook("title", "123-456789-0", saveAuthor("cache1@example.com"));
+            findBook(bookId);
+            statistics.clear();
+
+            // when
+            final Optional<Book> result = findBook(bookId);
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(result).isPresent();
+            softAssertions.assertThat(statistics.getDomainDataRegionStatistics("book").getHitCount()).isEqualTo(1);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+            softAssertions.assertAll();
+        }
+
+        @Test
+        @DisplayName("도서를 수정할 경우, 이후 조회 시 수정된 도서가 조회된다.")
+        void updateBook() throws APIException {
+
+            // given
+            final Long bookId = saveBook("title", "223-456789-0", saveAuthor("cache2@example.com"));
+            findBook(bookId);
+
+            // when
+            transaction.executeWithoutResult(status -> bookRepository.findById(bookId).orElseThrow()
+                    .update(new UpdateBookRequest("updated title", null, null)));
+
+            // then
+            Assertions.assertThat(findBook(bookId)).get().extracting(Book::getTitle).isEqualTo("updated title");
+        }
+
+        @Test
+        @DisplayName("저자를 수정할 경우, 이후 조회 시 수정된 저자가 조회된다.")
+        void updateAuthor() {
+
+            // given
+            final Long authorId = saveAuthor("cache3@example.com").getId();
+            transaction.execute(status -> authorRepository.findById(authorId));
+
+            // when
+            transaction.executeWithoutResult(status -> {
+                try {
+                    authorRepository.findById(authorId).orElseThrow().update(new UpdateAuthorRequest("updated name"));
+                } catch (APIException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // then
+            final Optional<Author> result = transaction.execute(status -> authorRepository.findById(authorId));
+            Assertions.assertThat(result).get().extracting(Author::getName).isEqualTo("updated name");
+        }
+
+        @Test
+        @DisplayName("저자의 도서를 벌크 삭제할 경우, 캐시된 도서도 조회되지 않는다.")
+        void bulkDelete() throws APIException {
+
+            // given
+            final Author author = saveAuthor("cache4@example.com");
+            final Long bookId = saveBook("title", "323-456789-0", author);
+            findBook(bookId);
+
+            // when
+            transaction.executeWithoutResult(status -> bookRepository.deleteByAuthorId(author.getId()));
+
+            // then
+            Assertions.assertThat(findBook(bookId)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("컬렉션 캐시 테스트")
+    class CollectionCache {
+
+        @Test
+        @DisplayName("저자의 도서가 추가될 경우, 이후 조회 시 추가된 도서가 포함된다.")
+        void evictOnInsert() throws APIException {
+
+            // given
+            final Author author = saveAuthor("cache5@example.com");
+            saveBook("title1", "423-456789-0", author);
+            transaction.execute(status -> authorRepository.findById(author.getId()).orElseThrow().getBooks().size());
+
+            // when
+            saveBook("title2", "523-456789-0", author);
+
+            // then
+            final Integer result = transaction.execute(status ->
+                    authorRepository.findById(author.getId()).orElseThrow().getBooks().size());
+            Assertions.assertThat(result).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("쿼리 캐시 테스트")
+    class QueryCache {
+
+        @Test
+        @DisplayName("같은 조건으로 도서 제목 검색 시, 두 번째 조회는 쿼리 캐시에서 조회된다.")
+        void hitQueryCache() throws APIException {
+
+            // given
+            saveBook("cached title", "623-456789-0", saveAuthor("cache6@example.com"));
+            transaction.execute(status -> bookRepository.findBooksByTitleContainsIgnoreCase("CACHED", PageRequest.of(0, 10)));
+            statistics.clear();
+
+            // when
+            final Page<BookListResponse> result = transaction.execute(status ->
+                    bookRepository.findBooksByTitleContainsIgnoreCase("CACHED", PageRequest.of(0, 10)));
+
+            // then
+            final SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(result.getContent()).extracting(BookListResponse::title).containsExactly("cached title");
+            softAssertions.assertThat(statistics.getQueryRegionStatistics("book.title-search").getHitCount()).isEqualTo(1);
+            softAssertions.assertAll();
+        }
+
+        @Test
+        @DisplayName("검색 결과가 캐시된 이후 도서가 추가될 경우, 추가된 도서가 검색된다.")
+        void invalidateOnInsert() throws APIException {
+
+            // given
+            final Author author = saveAuthor("cache7@example.com");
+            saveBook("cached title 1", "723-456789-0", author);
+            transaction.execute(status -> bookRepository.findBooksByTitleContainsIgnoreCase("cached", PageRequest.of(0, 10)));
+
+            // when
+            saveBook("cached title 2", "789-456789-0", author);
+
+            // then
+            final Page<BookListResponse> result = transaction.execute(status ->
+                    bookRepository.findBooksByTitleContainsIgnoreCase("cached", PageRequest.of(0, 10)));
+            Assertions.assertThat(result.getContent()).extracting(BookListResponse::title)
+                    .containsExactlyInAnyOrder("cached title 1", "cached title 2");
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import autoparams.AutoSource;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.exception.ServiceUnavailableException;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorDeletionServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private AuthorDeletionService authorDeletionService;
+
+    @Mock
+    private AuthorService authorService;
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 작업을 요청 스레드에서 바로 실행하여 결과를 검증한다.
+        authorDeletionService = new AuthorDeletionService(authorService, authorRepository, bookRepository,
+                Runnable::run, CHUNK_SIZE, Duration.ofHours(1));
+    }
+
+    @Nested
+    @DisplayName("저자 백그라운드 삭제 시작 테스트")
+    class StartDeletion {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자 아이디가 유효할 경우, 도서를 청크 단위로 삭제한 뒤 저자를 삭제한다.")
+        void success(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(3L);
+            given(authorService.deleteBookChunk(authorId, CHUNK_SIZE)).willReturn(2, 1, 0);
+
+            // when
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(job.getStatus()).isEqualTo(AuthorDeletionJob.Status.COMPLETED);
+                softly.assertThat(job.getTotalBooks()).isEqualTo(3L);
+                softly.assertThat(job.getDeletedBooks()).isEqualTo(3L);
+                softly.assertThat(job.getFinishedAt()).isNotNull();
+            });
+            BDDMockito.verify(authorService, Mockito.times(3)).deleteBookChunk(authorId, CHUNK_SIZE);
+            BDDMockito.verify(authorService, Mockito.times(1)).deleteAuthor(authorId);
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("DB 요청이 많아 청크 삭제가 거절된 경우, 잠시 후 다시 시도한다.")
+        void deferred(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(1L);
+            given(authorService.deleteBookChunk(authorId, CHUNK_SIZE))
+                    .willThrow(new ServiceUnavailableException(ErrorType.DB_BUSY, "busy", Duration.ofMillis(1)))
+                    .willReturn(1, 0);
+
+            // when
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(job.getStatus()).isEqualTo(AuthorDeletionJob.Status.COMPLETED);
+                softly.assertThat(job.getDeletedBooks()).isEqualTo(1L);
+            });
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("삭제 도중 동기 삭제 가능한 수보다 많은 도서가 추가된 경우, 다시 청크 단위로 삭제한 뒤 저자를 삭제한다.")
+        void booksAdded(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(1L);
+            given(authorService.deleteBookChunk(authorId, CHUNK_SIZE)).willReturn(1, 0, 2, 0);
+            willThrow(new APIException(HttpStatus.CONFLICT, ErrorType.CONFLICT_STATE, "authorId[" + authorId + "] has more than 1000 books"))
+                    .willDoNothing()
+                    .given(authorService).deleteAuthor(authorId);
+
+            // when
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(job.getStatus()).isEqualTo(AuthorDeletionJob.Status.COMPLETED);
+                softly.assertThat(job.getDeletedBooks()).isEqualTo(3L);
+            });
+            BDDMockito.verify(authorService, Mockito.times(2)).deleteAuthor(authorId);
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("삭제 도중 예외가 발생한 경우, 작업은 실패 상태가 된다.")
+        void failed(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(0L);
+            given(authorService.deleteBookChunk(authorId, CHUNK_SIZE)).willReturn(0);
+            willThrow(new APIException(HttpStatus.NOT_FOUND, ErrorType.NOT_EXIST_DATA, "authorId[" + authorId + "] not found"))
+                    .given(authorService).deleteAuthor(authorId);
+
+            // when
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(job.getStatus()).isEqualTo(AuthorDeletionJob.Status.FAILED);
+                softly.assertThat(job.getError()).contains("not found");
+            });
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("저자 아이디가 유효하지 않을 경우, 작업을 등록하지 않는다.")
+        void fail1(Long authorId) {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(false);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorDeletionService.startDeletion(authorId));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+            });
+            BDDMockito.verify(authorService, Mockito.never()).deleteBookChunk(any(), Mockito.anyInt());
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("같은 저자의 삭제 작업이 진행 중인 경우, 작업 등록에 실패한다.")
+        void fail2(Long authorId) throws APIException {
+
+            // given
+            final List<Runnable> submitted = new ArrayList<>();
+            authorDeletionService = new AuthorDeletionService(authorService, authorRepository, bookRepository,
+                    submitted::add, CHUNK_SIZE, Duration.ofHours(1));
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(10L);
+            authorDeletionService.startDeletion(authorId);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorDeletionService.startDeletion(authorId));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.CONFLICT_STATE);
+                softly.assertThat(submitted).hasSize(1);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 동기 삭제 테스트")
+    class DeleteAuthor {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("같은 저자의 삭제 작업이 없는 경우, 저자를 삭제하고 이후 삭제 작업 등록이 가능하다.")
+        void success(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(0L);
+
+            // when
+            authorDeletionService.deleteAuthor(authorId);
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // then
+            Assertions.assertThat(job.getStatus()).isEqualTo(AuthorDeletionJob.Status.COMPLETED);
+            BDDMockito.verify(authorService, Mockito.times(2)).deleteAuthor(authorId);
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("같은 저자의 삭제 작업이 진행 중인 경우, 저자 삭제에 실패한다.")
+        void fail(Long authorId) throws APIException {
+
+            // given
+            authorDeletionService = new AuthorDeletionService(authorService, authorRepository, bookRepository,
+                    task -> {}, CHUNK_SIZE, Duration.ofHours(1));
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(10L);
+            authorDeletionService.startDeletion(authorId);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorDeletionService.deleteAuthor(authorId));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.CONFLICT_STATE);
+            });
+            BDDMockito.verify(authorService, Mockito.never()).deleteAuthor(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 백그라운드 삭제 진행 상태 조회 테스트")
+    class GetDeletion {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("작업 아이디가 유효할 경우, 진행 상태 조회에 성공한다.")
+        void success(Long authorId) throws APIException {
+
+            // given
+            given(authorRepository.existsById(authorId)).willReturn(true);
+            given(bookRepository.countByAuthorId(authorId)).willReturn(0L);
+            final AuthorDeletionJob job = authorDeletionService.startDeletion(authorId);
+
+            // when
+            final AuthorDeletionJob result = authorDeletionService.getDeletion(job.getId());
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result).isSameAs(job);
+                softly.assertThat(result.getAuthorId()).isEqualTo(authorId);
+            });
+        }
+
+        @Test
+        @DisplayName("작업 아이디가 유효하지 않을 경우, 진행 상태 조회에 실패한다.")
+        void fail() {
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorDeletionService.getDeletion("unknown"));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+            });
+        }
+    }
+}
@@ -1,32 +1,62 @@
 package io.dongvelop.bookmanagementsystem.service;
 
 import autoparams.AutoSource;
+import io.dongvelop.bookmanagementsystem.common.AuthorBookCursor;
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+import io.dongvelop.bookmanagementsystem.common.LocalCache;
+import io.dongvelop.bookmanagementsystem.common.MultiGetLimit;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
+import io.dongvelop.bookmanagementsystem.common.Versioned;
 import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateAuthorRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.AuthorDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookCursorResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookRow;
 import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.AuthorVersion;
+import io.dongvelop.bookmanagementsystem.repository.BookKey;
 import io.dongvelop.bookmanagementsystem.repository.BookRepository;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +69,18 @@ class AuthorServiceTest {
     private AuthorRepository authorRepository;
     @Mock
     private BookRepository bookRepository; // 저자 삭제 테스트에서 모킹을 위해 선언. 삭제 금지
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+    @Mock
+    private DetailCache detailCache;
+    @Mock
+    private ChangeEventOutbox changeEventOutbox;
+    @Mock
+    private AuthorStatsService authorStatsService;
+    @Spy
+    private MultiGetLimit multiGetLimit = new MultiGetLimit(3);
 
     @Nested
     @DisplayName("저자 생성 테스트")
@@ -50,7 +92,7 @@ class AuthorServiceTest {
         void success(CreateAuthorRequest request) throws Exception {
 
             // given
-            given(authorRepository.existsByEmail(request.email())).willReturn(false);
+            given(uniqueKeyFilter.existsEmail(request.email())).willReturn(false);
             given(authorRepository.save(any(Author.class))).willReturn(new Author("name", "email@example.com"));
 
             // when
@@ -66,7 +108,7 @@ class AuthorServiceTest {
         void fail(CreateAuthorRequest request) {
 
             // given
-            given(authorRepository.existsByEmail(request.email())).willReturn(true);
+            given(uniqueKeyFilter.existsEmail(request.email())).willReturn(true);
 
             // when
             final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.createAuthor(request));
@@ -80,22 +122,88 @@ class AuthorServiceTest {
     }
 
     @Nested
-    @DisplayName("저자 목록 조회 테스트")
-    class GetAuthorList {
+    @DisplayName("저자 목록 청크 조회 테스트")
+    class GetAuthorBookGroups {
 
-        @AutoSource
-        @ParameterizedTest
-        @DisplayName("저자 목록 조회에 성공한다.")
-        void success(List<Author> mockedAuthors) {
+        @Test
+        @DisplayName("커서 이후 청크 크기만큼의 저자 아이디 범위로 저자-도서 조인 행을 조회하여 저자 단위로 묶는다.")
+        void success() {
+
+            // given
+            final LocalDate now = LocalDate.now();
+            final AuthorBookRow book1 = new AuthorBookRow(3L, "name3", "name3@email.com", 1L, "title1", "description", now);
+            final AuthorBookRow book2 = new AuthorBookRow(3L, "name3", "name3@email.com", 2L, "title2", "description", now);
+            final AuthorBookRow noBook = new AuthorBookRow(5L, "name5", "name5@email.com", null, null, null, null);
+            given(authorRepository.findIdsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of(3L, 5L));
+            given(authorRepository.findAuthorBooksByIdBetween(3L, 5L)).willReturn(List.of(book1, book2, noBook));
+
+            // when
+            final List<List<AuthorBookRow>> result = authorService.getAuthorBookGroups(2L, 2);
+
+            // then
+            Assertions.assertThat(result).containsExactly(List.of(book1, book2), List.of(noBook));
+        }
+
+        @Test
+        @DisplayName("커서 이후 저자가 없을 경우, 조인 행을 조회하지 않고 빈 목록을 반환한다.")
+        void empty() {
+
+            // given
+            given(authorRepository.findIdsAfter(5L, PageRequest.of(0, 2))).willReturn(List.of());
+
+            // when
+            final List<List<AuthorBookRow>> result = authorService.getAuthorBookGroups(5L, 2);
+
+            // then
+            Assertions.assertThat(result).isEmpty();
+            BDDMockito.verify(authorRepository, Mockito.never()).findAuthorBooksByIdBetween(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 다건 조회 테스트")
+    class GetAuthorDetailList {
+
+        @Test
+        @DisplayName("요청한 아이디 순서대로 도서 목록과 함께 조회하고, 존재하지 않는 아이디는 별도로 반환한다.")
+        void success() throws APIException {
+
+            // given
+            final Author author1 = new Author("name1", "name1@example.com");
+            final Author author2 = new Author("name2", "name2@example.com");
+            ReflectionTestUtils.setField(author1, "id", 1L);
+            ReflectionTestUtils.setField(author2, "id", 2L);
+            new Book("title", "description", "123-456789-0", LocalDate.now(), author1);
+
+            given(authorRepository.findAllWithBooksByIdIn(List.of(2L, 1L, 5L))).willReturn(List.of(author1, author2));
+
+            // when
+            final MultiGetResponse<AuthorDetailResponse> result = authorService.getAuthorDetailList(List.of(2L, 1L, 5L));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.content()).extracting(AuthorDetailResponse::id).containsExactly(2L, 1L);
+                softly.assertThat(result.content().get(1).books()).extracting(BookListResponse::title).containsExactly("title");
+                softly.assertThat(result.notFound()).containsExactly(5L);
+            });
+        }
+
+        @Test
+        @DisplayName("아이디가 비어있을 경우, 조회하지 않고 실패한다.")
+        void fail() {
 
             // given
-            given(authorRepository.findAuthors()).willReturn(mockedAuthors);
+            final List<Long> ids = List.of();
 
             // when
-            final List<Author> result = authorService.getAuthorList();
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.getAuthorDetailList(ids));
 
             // then
-            Assertions.assertThat(result.size()).isEqualTo(mockedAuthors.size());
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+            Mockito.verifyNoInteractions(authorRepository);
         }
     }
 
@@ -140,6 +248,172 @@ class AuthorServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("저자 상세 응답 조회 테스트")
+    class GetCachedAuthorDetail {
+
+        @Test
+        @DisplayName("도서 목록은 최근 출판 도서만 조회하고, 전체 도서 수와 ETag 는 집계 조회 결과로 응답한다.")
+        void success() throws APIException {
+
+            // given
+            final Long authorId = 1L;
+            final Author author = new Author("name", "email@example.com");
+            final LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 15, 10, 0);
+            final AuthorVersion version = new AuthorVersion(updatedAt, updatedAt, 25L);
+            final List<BookListResponse> preview = List.of(
+                    new BookListResponse(3L, "title3", "", LocalDate.of(2025, 3, 1)),
+                    new BookListResponse(2L, "title2", "", null)
+            );
+
+            given(detailCache.getAuthor(eq(authorId), any()))
+                    .willAnswer(invocation -> invocation.<LocalCache.Loader<Long, Versioned<AuthorDetailResponse>>>getArgument(1).load(authorId));
+            given(authorRepository.findById(authorId)).willReturn(Optional.of(author));
+            given(authorRepository.findVersionById(authorId)).willReturn(Optional.of(version));
+            given(bookRepository.findAuthorBooks(authorId, PageRequest.of(0, Const.AUTHOR_BOOK_PREVIEW_SIZE))).willReturn(preview);
+
+            // when
+            final Versioned<AuthorDetailResponse> result = authorService.getCachedAuthorDetail(authorId);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.body().books()).extracting(BookListResponse::id).containsExactly(3L, 2L);
+                softly.assertThat(result.body().books().get(1).publicationDate()).isEqualTo(LocalDate.now());
+                softly.assertThat(result.body().bookCount()).isEqualTo(25L);
+                softly.assertThat(result.etag()).isEqualTo(EntityTag.ofAuthor(authorId, updatedAt, updatedAt, 25L));
+            });
+            Mockito.verify(authorRepository, Mockito.never()).findAllWithBooksByIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 도서 목록 조회 테스트")
+    class GetAuthorBooks {
+
+        @Test
+        @DisplayName("다음 페이지가 존재할 경우, 마지막 도서의 출판일과 아이디로 다음 커서를 생성한다.")
+        void success() throws APIException {
+
+            // given
+            final Long authorId = 1L;
+            final LocalDate publicationDate = LocalDate.of(2025, 3, 1);
+            given(bookRepository.findAuthorBooks(authorId, PageRequest.of(0, 3))).willReturn(List.of(
+                    new BookListResponse(5L, "title5", "", publicationDate),
+                    new BookListResponse(4L, "title4", "", publicationDate),
+                    new BookListResponse(3L, "title3", "", null)
+            ));
+
+            // when
+            final BookCursorResponse result = authorService.getAuthorBooks(authorId, null, 2);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.content()).extracting(BookListResponse::id).containsExactly(5L, 4L);
+                softly.assertThat(result.hasNext()).isTrue();
+                softly.assertThat(result.nextCursor()).isEqualTo(new AuthorBookCursor(publicationDate, 4L).encode());
+            });
+            Mockito.verify(authorRepository, Mockito.never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("출판일이 없는 도서의 커서일 경우, 출판일이 없는 도서만 이어서 조회한다.")
+        void success2() throws APIException {
+
+            // given
+            final Long authorId = 1L;
+            final String after = new AuthorBookCursor(null, 3L).encode();
+            given(bookRepository.findUndatedAuthorBooksAfter(authorId, 3L, PageRequest.of(0, 3))).willReturn(List.of(
+                    new BookListResponse(2L, "title2", "", null)
+            ));
+
+            // when
+            final BookCursorResponse result = authorService.getAuthorBooks(authorId, after, 2);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.content()).extracting(BookListResponse::id).containsExactly(2L);
+                softly.assertThat(result.content().get(0).publicationDate()).isEqualTo(LocalDate.now());
+                softly.assertThat(result.hasNext()).isFalse();
+                softly.assertThat(result.nextCursor()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("조회된 도서가 없고 저자도 존재하지 않을 경우, 조회에 실패한다.")
+        void fail() {
+
+            // given
+            final Long authorId = 1L;
+            given(bookRepository.findAuthorBooks(authorId, PageRequest.of(0, 11))).willReturn(List.of());
+            given(authorRepository.existsById(authorId)).willReturn(false);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.getAuthorBooks(authorId, null, 10));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+            });
+        }
+
+        @Test
+        @DisplayName("커서 값이 유효하지 않을 경우, 조회에 실패한다.")
+        void fail2() {
+
+            // given
+            final String after = "invalid";
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.getAuthorBooks(1L, after, 10));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+            Mockito.verifyNoInteractions(bookRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 상세 조회 ETag 조회 테스트")
+    class GetAuthorETag {
+
+        @Test
+        @DisplayName("저자가 존재할 경우, 저자/도서 수정 시각과 도서 수로 만든 ETag 를 반환한다.")
+        void success() throws APIException {
+
+            // given
+            final LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 11, 10, 0);
+            final LocalDateTime booksUpdatedAt = updatedAt.plusMinutes(1);
+            given(authorRepository.findVersionById(1L)).willReturn(Optional.of(new AuthorVersion(updatedAt, booksUpdatedAt, 3L)));
+
+            // when
+            final String result = authorService.getAuthorETag(1L);
+
+            // then
+            Assertions.assertThat(result).isEqualTo(EntityTag.ofAuthor(1L, updatedAt, booksUpdatedAt, 3));
+        }
+
+        @Test
+        @DisplayName("저자가 존재하지 않을 경우, 조회에 실패한다.")
+        void fail() {
+
+            // given
+            given(authorRepository.findVersionById(1L)).willReturn(Optional.empty());
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.getAuthorETag(1L));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("저자 수정 테스트")
     class UpdateAuthor {
@@ -203,17 +477,35 @@ class AuthorServiceTest {
 
         @AutoSource
         @ParameterizedTest
-        @DisplayName("저자 아이디가 유효할 경우, 저자 삭제에 성공한다.")
-        void success(Author author, Long authorId) throws APIException {
+        @DisplayName("저자 아이디가 유효할 경우, 도서를 조회하지 않고 저자와 도서 삭제에 성공한다.")
+        void success(Long authorId) throws APIException {
 
             // given
-            given(authorRepository.findById(authorId)).willReturn(Optional.ofNullable(author));
+            final List<BookKey> books = List.of(
+                    new BookKey(1L, Isbn.parseIsbn10("123-456789-0"), LocalDate.of(2020, 1, 1)),
+                    new BookKey(2L, Isbn.parseIsbn10("223-456789-0"), null)
+            );
+            given(authorRepository.findEmailById(authorId)).willReturn(Optional.of("email@example.com"));
+            given(bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, Const.MAX_SYNC_DELETE_BOOKS + 1))).willReturn(books);
+            given(bookRepository.deleteByAuthorId(authorId)).willReturn(books.size());
 
             // when
             authorService.deleteAuthor(authorId);
 
             // then
-            BDDMockito.verify(authorRepository, Mockito.times(1)).deleteById(authorId);
+            BDDMockito.verify(bookRepository, Mockito.times(1)).deleteByAuthorId(authorId);
+            BDDMockito.verify(authorRepository, Mockito.times(1)).deleteAuthorById(authorId);
+            BDDMockito.verify(authorStatsService, Mockito.times(1)).deleteStats(authorId);
+            BDDMockito.verify(authorRepository, Mockito.never()).findById(any());
+            BDDMockito.verify(detailCache, Mockito.times(1)).evictAuthor(authorId);
+            BDDMockito.verify(uniqueKeyFilter, Mockito.times(1)).removeEmail("email@example.com");
+            BDDMockito.verify(changeEventOutbox, Mockito.times(1)).appendAll(argThat(events -> events.size() == books.size()));
+            BDDMockito.verify(changeEventOutbox, Mockito.times(1)).append(any(OutboxEvent.class));
+            for (BookKey book : books) {
+                BDDMockito.verify(bookSearchIndex, Mockito.times(1)).remove(book.id());
+                BDDMockito.verify(uniqueKeyFilter, Mockito.times(1)).removeIsbn(book.isbn());
+                BDDMockito.verify(detailCache, Mockito.times(1)).evictBook(book.id());
+            }
         }
 
         @AutoSource
@@ -222,7 +514,7 @@ class AuthorServiceTest {
         void fail(Long authorId) {
 
             // given
-            given(authorRepository.findById(authorId)).willReturn(Optional.empty());
+            given(authorRepository.findEmailById(authorId)).willReturn(Optional.empty());
 
             // when
             final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.deleteAuthor(authorId));
@@ -232,6 +524,79 @@ class AuthorServiceTest {
                 softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
                 softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
             });
+            BDDMockito.verify(bookRepository, Mockito.never()).deleteByAuthorId(any());
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("도서가 동기 삭제 가능한 수보다 많을 경우, 삭제하지 않고 백그라운드 삭제를 사용하도록 거절한다.")
+        void tooManyBooks(Long authorId) {
+
+            // given
+            final List<BookKey> books = Collections.nCopies(Const.MAX_SYNC_DELETE_BOOKS + 1,
+                    new BookKey(1L, Isbn.parseIsbn10("123-456789-0"), LocalDate.of(2020, 1, 1)));
+            given(authorRepository.findEmailById(authorId)).willReturn(Optional.of("email@example.com"));
+            given(bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, Const.MAX_SYNC_DELETE_BOOKS + 1))).willReturn(books);
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> authorService.deleteAuthor(authorId));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.CONFLICT_STATE);
+            });
+            BDDMockito.verify(bookRepository, Mockito.never()).deleteByAuthorId(any());
+            BDDMockito.verify(authorRepository, Mockito.never()).deleteAuthorById(any());
+            BDDMockito.verify(changeEventOutbox, Mockito.never()).appendAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("저자 도서 청크 삭제 테스트")
+    class DeleteBookChunk {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("삭제할 도서가 남아 있는 경우, 청크 크기만큼 삭제하고 삭제한 수를 반환한다.")
+        void success(Long authorId) throws APIException {
+
+            // given
+            final List<BookKey> books = List.of(
+                    new BookKey(1L, Isbn.parseIsbn10("123-456789-0"), LocalDate.of(2020, 1, 1)),
+                    new BookKey(2L, Isbn.parseIsbn10("223-456789-0"), null)
+            );
+            given(bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, 2))).willReturn(books);
+
+            // when
+            final int result = authorService.deleteBookChunk(authorId, 2);
+
+            // then
+            Assertions.assertThat(result).isEqualTo(2);
+            BDDMockito.verify(bookRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+            BDDMockito.verify(authorStatsService, Mockito.times(1)).removeBooks(authorId, Arrays.asList(LocalDate.of(2020, 1, 1), null));
+            BDDMockito.verify(authorRepository, Mockito.never()).deleteAuthorById(any());
+            for (BookKey book : books) {
+                BDDMockito.verify(bookSearchIndex, Mockito.times(1)).remove(book.id());
+                BDDMockito.verify(uniqueKeyFilter, Mockito.times(1)).removeIsbn(book.isbn());
+                BDDMockito.verify(detailCache, Mockito.times(1)).evictBook(book.id());
+            }
+        }
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("삭제할 도서가 없는 경우, 0을 반환한다.")
+        void empty(Long authorId) {
+
+            // given
+            given(bookRepository.findKeysByAuthorId(authorId, PageRequest.of(0, 10))).willReturn(List.of());
+
+            // when
+            final int result = authorService.deleteBookChunk(authorId, 10);
+
+            // then
+            Assertions.assertThat(result).isZero();
+            BDDMockito.verify(bookRepository, Mockito.never()).deleteAllByIdInBatch(any());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,251 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.entity.AuthorStats;
+import io.dongvelop.bookmanagementsystem.repository.AuthorBookSummary;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.AuthorStatsRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorStatsServiceTest {
+
+    private static final Long AUTHOR_ID = 1L;
+    private static final LocalDate FIRST = LocalDate.of(2020, 1, 1);
+    private static final LocalDate MIDDLE = LocalDate.of(2022, 1, 1);
+    private static final LocalDate LAST = LocalDate.of(2024, 1, 1);
+
+    @InjectMocks
+    private AuthorStatsService authorStatsService;
+
+    @Mock
+    private AuthorStatsRepository authorStatsRepository;
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private BookRepository bookRepository;
+
+    /**
+     * 출판일이 FIRST, MIDDLE, LAST 인 도서 3권의 통계
+     */
+    private AuthorStats givenStats() {
+        final AuthorStats stats = new AuthorStats(AUTHOR_ID);
+        stats.addBook(MIDDLE);
+        stats.addBook(LAST);
+        stats.addBook(FIRST);
+        given(authorStatsRepository.findForUpdate(AUTHOR_ID)).willReturn(Optional.of(stats));
+        return stats;
+    }
+
+    @Nested
+    @DisplayName("도서 등록 반영 테스트")
+    class AddBooks {
+
+        @Test
+        @DisplayName("도서 수를 늘리고 출판일 범위를 넓히며, 출판일이 없는 도서는 도서 수에만 반영한다.")
+        void success() {
+
+            // given
+            final AuthorStats stats = givenStats();
+
+            // when
+            authorStatsService.addBooks(AUTHOR_ID, Arrays.asList(LocalDate.of(2019, 1, 1), null, MIDDLE));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(6);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(LocalDate.of(2019, 1, 1));
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LAST);
+            });
+            BDDMockito.verify(bookRepository, Mockito.never()).summarizeByAuthorId(any());
+        }
+
+        @Test
+        @DisplayName("통계 행이 없는 저자인 경우, 도서 테이블에서 집계하여 새로 저장한다.")
+        void missing() {
+
+            // given
+            given(authorStatsRepository.findForUpdate(AUTHOR_ID)).willReturn(Optional.empty());
+            given(bookRepository.summarizeByAuthorId(AUTHOR_ID)).willReturn(new AuthorBookSummary(2, FIRST, LAST));
+
+            // when
+            authorStatsService.addBook(AUTHOR_ID, LAST);
+
+            // then
+            BDDMockito.verify(authorRepository, Mockito.times(1)).findForUpdate(AUTHOR_ID);
+            BDDMockito.verify(authorStatsRepository, Mockito.times(1)).save(argThat(stats ->
+                    stats.getAuthorId().equals(AUTHOR_ID)
+                            && stats.getBookCount() == 2
+                            && FIRST.equals(stats.getFirstPublicationDate())
+                            && LAST.equals(stats.getLastPublicationDate())));
+        }
+
+        @Test
+        @DisplayName("저자 행 잠금을 기다리는 동안 다른 트랜잭션이 통계 행을 만든 경우, 새로 저장하지 않고 만들어진 통계에 반영한다.")
+        void concurrent() {
+
+            // given
+            final AuthorStats stats = new AuthorStats(AUTHOR_ID);
+            stats.addBook(FIRST);
+            given(authorStatsRepository.findForUpdate(AUTHOR_ID)).willReturn(Optional.empty(), Optional.of(stats));
+
+            // when
+            authorStatsService.addBook(AUTHOR_ID, LAST);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(2);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(FIRST);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LAST);
+            });
+            BDDMockito.verify(authorRepository, Mockito.times(1)).findForUpdate(AUTHOR_ID);
+            BDDMockito.verify(authorStatsRepository, Mockito.never()).save(any());
+            BDDMockito.verify(bookRepository, Mockito.never()).summarizeByAuthorId(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 삭제 반영 테스트")
+    class RemoveBook {
+
+        @Test
+        @DisplayName("출판일이 범위의 경계가 아닌 경우, 도서 테이블을 읽지 않고 도서 수만 줄인다.")
+        void inside() {
+
+            // given
+            final AuthorStats stats = givenStats();
+
+            // when
+            authorStatsService.removeBook(AUTHOR_ID, MIDDLE);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(2);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(FIRST);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LAST);
+            });
+            BDDMockito.verify(bookRepository, Mockito.never()).summarizeByAuthorId(any());
+        }
+
+        @Test
+        @DisplayName("출판일이 범위의 경계인 경우, 저자의 도서를 다시 집계한다.")
+        void boundary() {
+
+            // given
+            final AuthorStats stats = givenStats();
+            given(bookRepository.summarizeByAuthorId(AUTHOR_ID)).willReturn(new AuthorBookSummary(2, FIRST, MIDDLE));
+
+            // when
+            authorStatsService.removeBook(AUTHOR_ID, LAST);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(2);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(FIRST);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(MIDDLE);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 일괄 삭제 반영 테스트")
+    class RemoveBooks {
+
+        @Test
+        @DisplayName("삭제된 출판일 중 범위의 경계가 없는 경우, 도서 테이블을 읽지 않고 도서 수만 줄인다.")
+        void inside() {
+
+            // given
+            final AuthorStats stats = givenStats();
+
+            // when
+            authorStatsService.removeBooks(AUTHOR_ID, Arrays.asList(MIDDLE, null));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(1);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(FIRST);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LAST);
+            });
+            BDDMockito.verify(bookRepository, Mockito.never()).summarizeByAuthorId(any());
+        }
+
+        @Test
+        @DisplayName("삭제된 출판일 중 범위의 경계가 있는 경우, 저자의 도서를 한 번만 다시 집계한다.")
+        void boundary() {
+
+            // given
+            final AuthorStats stats = givenStats();
+            given(bookRepository.summarizeByAuthorId(AUTHOR_ID)).willReturn(new AuthorBookSummary(1, MIDDLE, MIDDLE));
+
+            // when
+            authorStatsService.removeBooks(AUTHOR_ID, Arrays.asList(FIRST, LAST));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(1);
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(MIDDLE);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(MIDDLE);
+            });
+            BDDMockito.verify(bookRepository, Mockito.times(1)).summarizeByAuthorId(AUTHOR_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 출판일 수정 반영 테스트")
+    class ChangePublicationDate {
+
+        @Test
+        @DisplayName("경계가 아닌 출판일을 수정한 경우, 도서 테이블을 읽지 않고 범위만 넓힌다.")
+        void inside() {
+
+            // given
+            final AuthorStats stats = givenStats();
+
+            // when
+            authorStatsService.changePublicationDate(AUTHOR_ID, MIDDLE, LocalDate.of(2025, 1, 1));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getBookCount()).isEqualTo(3);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+            });
+            BDDMockito.verify(bookRepository, Mockito.never()).summarizeByAuthorId(any());
+        }
+
+        @Test
+        @DisplayName("경계인 출판일을 수정한 경우, 저자의 도서를 다시 집계한다.")
+        void boundary() {
+
+            // given
+            final AuthorStats stats = givenStats();
+            given(bookRepository.summarizeByAuthorId(AUTHOR_ID)).willReturn(new AuthorBookSummary(3, MIDDLE, LAST));
+
+            // when
+            authorStatsService.changePublicationDate(AUTHOR_ID, FIRST, MIDDLE);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(stats.getFirstPublicationDate()).isEqualTo(MIDDLE);
+                softly.assertThat(stats.getLastPublicationDate()).isEqualTo(LAST);
+            });
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.dongvelop.bookmanagementsystem.service;
+
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.Isbn;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
+import io.dongvelop.bookmanagementsystem.entity.Author;
+import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.exception.APIException;
+import io.dongvelop.bookmanagementsystem.exception.ErrorType;
+import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.CreateBookBatchResponse;
+import io.dongvelop.bookmanagementsystem.repository.AuthorRepository;
+import io.dongvelop.bookmanagementsystem.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class BookBatchServiceTest {
+
+    @InjectMocks
+    private BookBatchService bookBatchService;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+    @Mock
+    private DetailCache detailCache;
+    @Mock
+    private ChangeEventOutbox changeEventOutbox;
+    @Mock
+    private AuthorStatsService authorStatsService;
+    @Mock
+    private Validator validator;
+    @Mock
+    private EntityManager entityManager;
+
+    @Nested
+    @DisplayName("도서 대량 등록 테스트")
+    class CreateBooks {
+
+        @Test
+        @DisplayName("등록 가능한 도서만 등록하고, 나머지는 항목별 실패 사유를 반환한다.")
+        void success() throws APIException {
+
+            // given
+            final Author author = new Author("name", "email@test.com");
+            ReflectionTestUtils.setField(author, "id", 1L);
+
+            final List<CreateBookRequest> requests = List.of(
+                    new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.now(), 1L),
+                    new CreateBookRequest("title2", "description", "123-456789-0", LocalDate.now(), 1L),
+                    new CreateBookRequest("title3", "description", "223-456789-0", LocalDate.now(), 1L),
+                    new CreateBookRequest("title4", "description", "323-456789-0", LocalDate.now(), 2L),
+                    new CreateBookRequest("title5", "description", "423-456789-0", LocalDate.now(), null)
+            );
+
+            given(uniqueKeyFilter.findExistingIsbns(anyCollection())).willReturn(Set.of(Isbn.parseIsbn10("223-456789-0")));
+            given(authorRepository.findAllById(any())).willReturn(List.of(author));
+
+            final AtomicLong sequence = new AtomicLong(1);
+            willAnswer(invocation -> {
+                final List<Book> books = invocation.getArgument(0);
+                books.forEach(book -> ReflectionTestUtils.setField(book, "id", sequence.getAndIncrement()));
+                return books;
+            }).given(bookRepository).saveAll(any());
+
+            // when
+            final CreateBookBatchResponse response = bookBatchService.createBooks(requests);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(response.requested()).isEqualTo(5);
+                softly.assertThat(response.created()).isEqualTo(1);
+                softly.assertThat(response.failed()).isEqualTo(4);
+                softly.assertThat(response.results().get(0).id()).isEqualTo(1L);
+                softly.assertThat(response.results()).extracting(CreateBookBatchResponse.Result::errorCode).containsExactly(
+                        null,
+                        ErrorType.EXIST_DATA.getValue(),
+                        ErrorType.EXIST_DATA.getValue(),
+                        ErrorType.NOT_EXIST_DATA.getValue(),
+                        ErrorType.REQUIRED_INPUT.getValue()
+                );
+            });
+            Mockito.verify(uniqueKeyFilter).findExistingIsbns(anyCollection());
+            Mockito.verify(uniqueKeyFilter).addIsbn(Isbn.parseIsbn10("123-456789-0"));
+            Mockito.verify(bookSearchIndex).index(any(Book.class));
+            Mockito.verify(changeEventOutbox).appendAll(argThat(events -> events.size() == 1));
+            Mockito.verify(authorStatsService).addBooks(eq(1L), argThat(dates -> dates.size() == 1));
+        }
+
+        @Test
+        @DisplayName("ISBN 형식이 올바르지 않을 경우, 해당 도서만 등록에 실패한다.")
+        void fail() {
+
+            // given
+            final List<CreateBookRequest> requests = List.of(
+                    new CreateBookRequest("title1", "description", "1234567890", LocalDate.now(), 1L)
+            );
+
+            // when
+            final CreateBookBatchResponse response = bookBatchService.createBooks(requests);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(response.created()).isZero();
+                softly.assertThat(response.results().get(0).errorCode()).isEqualTo(ErrorType.INVALID_INPUT.getValue());
+            });
+            Mockito.verify(uniqueKeyFilter, Mockito.never()).findExistingIsbns(anyCollection());
+            Mockito.verify(bookSearchIndex, Mockito.never()).index(any(Book.class));
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package io.dongvelop.bookmanagementsystem.service;
 
 import autoparams.AutoSource;
+import io.dongvelop.bookmanagementsystem.common.BookCursor;
+import io.dongvelop.bookmanagementsystem.common.BookSearchIndex;
+import io.dongvelop.bookmanagementsystem.common.ChangeEventOutbox;
+import io.dongvelop.bookmanagementsystem.common.Const;
+import io.dongvelop.bookmanagementsystem.common.DetailCache;
+import io.dongvelop.bookmanagementsystem.common.EntityTag;
+import io.dongvelop.bookmanagementsystem.common.MultiGetLimit;
+import io.dongvelop.bookmanagementsystem.common.UniqueKeyFilter;
 import io.dongvelop.bookmanagementsystem.entity.Author;
 import io.dongvelop.bookmanagementsystem.entity.Book;
+import io.dongvelop.bookmanagementsystem.entity.OutboxEvent;
 import io.dongvelop.bookmanagementsystem.exception.APIException;
 import io.dongvelop.bookmanagementsystem.exception.ErrorType;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateAuthorRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.CreateBookRequest;
 import io.dongvelop.bookmanagementsystem.payload.request.UpdateBookRequest;
+import io.dongvelop.bookmanagementsystem.payload.response.BookDetailResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.BookListResponse;
+import io.dongvelop.bookmanagementsystem.payload.response.MultiGetResponse;
 import io.dongvelop.bookmanagementsystem.repository.BookRepository;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
@@ -21,14 +33,18 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +62,18 @@ class BookServiceTest {
     private AuthorService authorService;
     @Mock
     private BookRepository bookRepository;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+    @Mock
+    private DetailCache detailCache;
+    @Mock
+    private ChangeEventOutbox changeEventOutbox;
+    @Mock
+    private AuthorStatsService authorStatsService;
+    @Spy
+    private MultiGetLimit multiGetLimit = new MultiGetLimit(3);
 
     @Nested
     @DisplayName("도서 생성 테스트")
@@ -61,8 +89,8 @@ class BookServiceTest {
             final Author author = createAuthorRequest.toEntity();
             final Book mockedBook = request.toEntity(author);
 
-            given(bookRepository.existsByIsbn(request.isbn())).willReturn(false);
-            given(authorService.getAuthorDetail(request.authorId())).willReturn(author);
+            given(uniqueKeyFilter.existsIsbn(request.isbn())).willReturn(false);
+            given(authorService.getAuthorReference(request.authorId())).willReturn(author);
             given(bookRepository.save(any(Book.class))).willReturn(mockedBook);
 
             // when
@@ -85,7 +113,7 @@ class BookServiceTest {
             // given
             final CreateBookRequest request = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), 1L);
 
-            given(bookRepository.existsByIsbn(request.isbn())).willReturn(true);
+            given(uniqueKeyFilter.existsIsbn(request.isbn())).willReturn(true);
 
             // when
             final APIException apiException = assertThrowsExactly(APIException.class, () -> bookService.createBook(request));
@@ -106,7 +134,7 @@ class BookServiceTest {
             final Long notExistAuthorId = 1L;
             final CreateBookRequest request = new CreateBookRequest("title", "description", "123-456789-0", LocalDate.now(), notExistAuthorId);
 
-            given(authorService.getAuthorDetail(request.authorId())).willThrow(
+            given(authorService.getAuthorReference(request.authorId())).willThrow(
                     new APIException(
                             HttpStatus.BAD_REQUEST,
                             ErrorType.NOT_EXIST_DATA
@@ -130,25 +158,213 @@ class BookServiceTest {
         @ParameterizedTest
         @DisplayName("도서 목록 조회에 성공한다.")
         @CsvSource({"0, 10"})
-        void success(int page, int size) throws APIException {
+        void success(int page, int size) {
 
             // given
             final Pageable pageable = PageRequest.of(page, size);
-            final CreateAuthorRequest createAuthorRequest = new CreateAuthorRequest("Author Name", "author@example.com");
+            final PageImpl<BookListResponse> mockedBooks = new PageImpl<>(List.of(
+                    new BookListResponse(1L, "title1", "description", LocalDate.now()),
+                    new BookListResponse(2L, "title2", "description", LocalDate.now()),
+                    new BookListResponse(3L, "title3", "description", LocalDate.now())
+            ));
+
+            given(bookRepository.findBookList(pageable)).willReturn(mockedBooks);
+
+            // when
+            final Page<BookListResponse> result = bookService.getBookList(pageable, "");
+
+            // then
+            Assertions.assertThat(result.getSize()).isEqualTo(mockedBooks.getSize());
+        }
+
+        @Test
+        @DisplayName("검색어가 주어질 경우, 색인의 순위대로 도서 목록을 조회한다.")
+        void success2() {
+
+            // given
+            final Pageable pageable = PageRequest.of(0, 10);
+            final BookListResponse book1 = new BookListResponse(1L, "title text", "description", LocalDate.now());
+            final BookListResponse book2 = new BookListResponse(2L, "text", "description", LocalDate.now());
+
+            given(bookSearchIndex.search("text", 0, 10)).willReturn(new BookSearchIndex.SearchResult(List.of(2L, 1L), 2));
+            given(bookRepository.findBookListByIdIn(List.of(2L, 1L))).willReturn(List.of(book1, book2));
+
+            // when
+            final Page<BookListResponse> result = bookService.getBookList(pageable, "text");
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getContent()).containsExactly(book2, book1);
+                softly.assertThat(result.getTotalElements()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("색인을 사용할 수 없을 경우, DB 검색으로 도서 목록을 조회한다.")
+        void success3() {
+
+            // given
+            final Pageable pageable = PageRequest.of(0, 10);
+
+            given(bookSearchIndex.search("t", 0, 10)).willReturn(null);
+            given(bookRepository.findBooksByTitleContainsIgnoreCase("t", pageable)).willReturn(new PageImpl<>(List.of(
+                    new BookListResponse(1L, "t1", "", LocalDate.of(2020, 1, 1)),
+                    new BookListResponse(2L, "t2", "", null)
+            ), pageable, 2));
+
+            // when
+            final Page<BookListResponse> result = bookService.getBookList(pageable, "t");
+
+            // then
+            Assertions.assertThat(result.getContent()).extracting(BookListResponse::publicationDate)
+                    .as("출판일이 없는 도서는 오늘 날짜로 응답")
+                    .containsExactly(LocalDate.of(2020, 1, 1), LocalDate.now());
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 기반 도서 목록 조회 테스트")
+    class GetBookScroll {
+
+        @Test
+        @DisplayName("다음 페이지가 존재할 경우, 요청한 크기만큼 반환하고 다음 페이지 존재 여부가 참이다.")
+        void success1() throws APIException {
+
+            // given
+            final Author author = new CreateAuthorRequest("Author Name", "author@example.com").toEntity();
+            final List<Book> mockedBooks = List.of(
+                    new Book("title1", "description", "123-456789-0", LocalDate.now(), author),
+                    new Book("title2", "description", "223-456789-0", LocalDate.now(), author),
+                    new Book("title3", "description", "323-456789-0", LocalDate.now(), author)
+            );
+
+            given(bookRepository.findAllByOrderByIdDesc(PageRequest.of(0, 3))).willReturn(mockedBooks);
+
+            // when
+            final Slice<Book> result = bookService.getBookScroll(null, 2, BookCursor.Sort.ID);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getContent()).hasSize(2);
+                softly.assertThat(result.hasNext()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("커서가 주어질 경우, 커서 이후의 도서를 조회한다.")
+        void success2() throws APIException {
+
+            // given
+            final String after = new BookCursor(BookCursor.Sort.TITLE, 10L, "title").encode();
+
+            given(bookRepository.findNextByTitle("title", 10L, PageRequest.of(0, 11))).willReturn(List.of());
+
+            // when
+            final Slice<Book> result = bookService.getBookScroll(after, 10, BookCursor.Sort.TITLE);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.getContent()).isEmpty();
+                softly.assertThat(result.hasNext()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("요청 크기가 최대 크기를 넘을 경우, 최대 크기만큼만 조회한다.")
+        void success3() throws APIException {
+
+            // given
+            given(bookRepository.findAllByOrderByIdDesc(PageRequest.of(0, Const.MAX_CURSOR_PAGE_SIZE + 1))).willReturn(List.of());
+
+            // when
+            final Slice<Book> result = bookService.getBookScroll(null, 10_000, BookCursor.Sort.ID);
+
+            // then
+            Assertions.assertThat(result.getSize()).isEqualTo(Const.MAX_CURSOR_PAGE_SIZE);
+        }
+
+        @Test
+        @DisplayName("커서의 정렬 기준과 요청한 정렬 기준이 다를 경우, 조회에 실패한다.")
+        void fail1() {
+
+            // given
+            final String after = new BookCursor(BookCursor.Sort.ID, 10L, null).encode();
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class,
+                    () -> bookService.getBookScroll(after, 10, BookCursor.Sort.TITLE));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+        }
+
+        @Test
+        @DisplayName("커서 값이 유효하지 않을 경우, 조회에 실패한다.")
+        void fail2() {
+
+            // given
+            final String after = "invalid-cursor";
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class,
+                    () -> bookService.getBookScroll(after, 10, BookCursor.Sort.ID));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 다건 조회 테스트")
+    class GetBookDetailList {
+
+        @AutoSource
+        @ParameterizedTest
+        @DisplayName("요청한 아이디 순서대로 조회하고, 존재하지 않는 아이디는 별도로 반환한다.")
+        void success(CreateAuthorRequest createAuthorRequest) throws APIException {
+
+            // given
             final Author author = createAuthorRequest.toEntity();
+            final Book book1 = new Book("title1", "description", "123-456789-0", LocalDate.now(), author);
+            final Book book3 = new Book("title3", "description", "323-456789-0", LocalDate.now(), author);
+            ReflectionTestUtils.setField(book1, "id", 1L);
+            ReflectionTestUtils.setField(book3, "id", 3L);
 
-            final CreateBookRequest request1 = new CreateBookRequest("title1", "description", "123-456789-0", LocalDate.now(), author.getId());
-            final CreateBookRequest request2 = new CreateBookRequest("title2", "description", "223-456789-0", LocalDate.now(), author.getId());
-            final CreateBookRequest request3 = new CreateBookRequest("title3", "description", "323-456789-0", LocalDate.now(), author.getId());
-            final PageImpl<Book> mockedBooks = new PageImpl<>(List.of(request1.toEntity(author), request2.toEntity(author), request3.toEntity(author)));
+            given(bookRepository.findAllWithAuthorByIdIn(List.of(3L, 2L, 1L))).willReturn(List.of(book1, book3));
+
+            // when
+            final MultiGetResponse<BookDetailResponse> result = bookService.getBookDetailList(List.of(3L, 2L, 3L, 1L));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(result.content()).extracting(BookDetailResponse::id).containsExactly(3L, 1L);
+                softly.assertThat(result.content()).extracting(BookDetailResponse::title).containsExactly("title3", "title1");
+                softly.assertThat(result.notFound()).containsExactly(2L);
+            });
+        }
+
+        @Test
+        @DisplayName("최대 아이디 수를 초과할 경우, 조회하지 않고 실패한다.")
+        void fail() {
 
-            given(bookRepository.findAll(pageable)).willReturn(mockedBooks);
+            // given
+            final List<Long> ids = List.of(1L, 2L, 3L, 4L);
 
             // when
-            final Page<Book> result = bookService.getBookList(pageable, "");
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> bookService.getBookDetailList(ids));
 
             // then
-            Assertions.assertThat(result.getSize()).isEqualTo(mockedBooks.getSize());
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT);
+            });
+            Mockito.verifyNoInteractions(bookRepository);
         }
     }
 
@@ -207,6 +423,43 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("도서 상세 조회 ETag 조회 테스트")
+    class GetBookETag {
+
+        @Test
+        @DisplayName("도서가 존재할 경우, 수정 시각으로 만든 ETag 를 반환한다.")
+        void success() throws APIException {
+
+            // given
+            final LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 11, 10, 0);
+            given(bookRepository.findUpdatedAtById(1L)).willReturn(Optional.of(updatedAt));
+
+            // when
+            final String result = bookService.getBookETag(1L);
+
+            // then
+            Assertions.assertThat(result).isEqualTo(EntityTag.ofBook(1L, updatedAt));
+        }
+
+        @Test
+        @DisplayName("도서가 존재하지 않을 경우, 조회에 실패한다.")
+        void fail() {
+
+            // given
+            given(bookRepository.findUpdatedAtById(1L)).willReturn(Optional.empty());
+
+            // when
+            final APIException apiException = assertThrowsExactly(APIException.class, () -> bookService.getBookETag(1L));
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(apiException.getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+                softly.assertThat(apiException.getErrorType()).isEqualTo(ErrorType.NOT_EXIST_DATA);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("도서 수정 테스트")
     class UpdateBook {
@@ -307,6 +560,9 @@ class BookServiceTest {
 
             // then
             BDDMockito.verify(bookRepository, Mockito.times(1)).deleteById(any());
+            BDDMockito.verify(uniqueKeyFilter, Mockito.times(1)).removeIsbn(mockedBook.getIsbnKey());
+            BDDMockito.verify(changeEventOutbox, Mockito.times(1)).append(any(OutboxEvent.class));
+            BDDMockito.verify(authorStatsService, Mockito.times(1)).removeBook(author.getId(), request1.publicationDate());
         }
 
         @Test